@@ -13,6 +13,7 @@
 package org.assertj.core.api;
 
 import java.io.InputStream;
+import java.nio.charset.Charset;
 import java.security.MessageDigest;
 
 import org.assertj.core.internal.InputStreams;
@@ -149,6 +150,36 @@ public abstract class AbstractInputStreamAssert<SELF extends AbstractInputStream
     return myself;
   }
 
+  /**
+   * Verifies that the content of the actual {@code InputStream}, decoded with the platform's default charset, has the
+   * expected line count.
+   * <p>
+   * A line is considered to be <i>terminated</i> by any one of a line feed ({@code '\n'}), a carriage return ({@code '\r'}),
+   * or a carriage return followed immediately by a linefeed (see {@link java.io.LineNumberReader LineNumberReader}).
+   * <p>
+   * The stream is read until its end but its content is never held in memory as a whole. Content that is not valid in
+   * the charset is not replaced, it makes the assertion fail with an {@link InputStreamsException} like
+   * {@link org.assertj.core.api.AbstractPathAssert#hasLineCount(int) Path's hasLineCount} does.
+   * <p>
+   * Example:
+   * <pre><code class='java'> // assertion will pass
+   * assertThat(new ByteArrayInputStream("a\nb".getBytes())).hasLineCount(2);
+   *
+   * // assertion will fail
+   * assertThat(new ByteArrayInputStream("a\nb".getBytes())).hasLineCount(1);</code></pre>
+   *
+   * @param expectedLineCount the expected line count of the actual {@code InputStream}.
+   * @return {@code this} assertion object.
+   * @throws AssertionError if the actual {@code InputStream} is {@code null}.
+   * @throws AssertionError if the actual line count is not equal to the expected one.
+   * @throws InputStreamsException if an I/O error occurs or if the content is not valid in the platform's default charset.
+   * @since 3.18.0
+   */
+  public SELF hasLineCount(int expectedLineCount) {
+    inputStreams.assertHasLineCount(info, actual, expectedLineCount, Charset.defaultCharset());
+    return myself;
+  }
+
   /**
    * Verifies that the binary content of the actual {@code InputStream} is <b>exactly</b> equal to the given one.
    * <p>
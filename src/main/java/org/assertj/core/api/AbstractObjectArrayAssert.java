@@ -1605,6 +1605,38 @@ public abstract class AbstractObjectArrayAssert<SELF extends AbstractObjectArray
     return myself;
   }
 
+  /**
+   * Evaluates the element-wise conditions, predicates and requirements of the following assertions in parallel, this is
+   * meant for arrays with many elements or expensive per element checks.
+   * <p>
+   * The elements are split with a {@link java.util.Spliterator} into the common {@link java.util.concurrent.ForkJoinPool},
+   * {@code anyMatch} and {@code noneMatch} stop as soon as their outcome is known and the failing elements are reported
+   * in their original order, the error messages are thus the same as sequential ones.
+   * <p>
+   * This applies to {@link #allSatisfy(Consumer) allSatisfy}, {@link #allMatch(Predicate) allMatch},
+   * {@link #anyMatch(Predicate) anyMatch}, {@link #noneMatch(Predicate) noneMatch}, {@link #noneSatisfy(Consumer) noneSatisfy}
+   * and the {@link Condition} based assertions like {@link #are(Condition) are} or {@link #have(Condition) have}.
+   * The given conditions, predicates and requirements must be thread safe.
+   * <p>
+   * Example:
+   * <pre><code class='java'> // checks the records using all the available cores
+   * assertThat(records).inParallel()
+   *                    .allSatisfy(record -&gt; assertThat(record).usingRecursiveComparison()
+   *                                                           .isEqualTo(expectedRecords.get(record.getId())));</code></pre>
+   * <p>
+   * Comparators set with {@link #usingElementComparator(Comparator) usingElementComparator} replace the parallel mode,
+   * call {@code inParallel()} after them.
+   *
+   * @return {@code this} assertion object.
+   * @since 3.18.0
+   */
+  @CheckReturnValue
+  public SELF inParallel() {
+    this.arrays = arrays.inParallel();
+    this.iterables = iterables.inParallel();
+    return myself;
+  }
+
   /**
    * Allows to set a comparator to compare properties or fields of elements with the given names.
    * A typical usage is for comparing fields of numeric type at a given precision.
@@ -378,6 +378,40 @@ public abstract class AbstractPathAssert<SELF extends AbstractPathAssert<SELF>>
     return myself;
   }
 
+  /**
+   * Verifies that the text content of the actual {@code Path} (which must be a readable file) has the expected line count.
+   * <p>
+   * A line is considered to be <i>terminated</i> by any one of a line feed ({@code '\n'}), a carriage return ({@code '\r'}),
+   * or a carriage return followed immediately by a linefeed (see {@link java.io.LineNumberReader LineNumberReader}).
+   * <p>
+   * The file content is scanned without being loaded in memory, the charset to use to decode it can be provided with
+   * {@link #usingCharset(Charset)} or {@link #usingCharset(String)} prior to calling this method; if not, the platform's
+   * default charset (as returned by {@link Charset#defaultCharset()}) will be used. Content that is not valid in the
+   * charset is not replaced, it makes the assertion fail with an {@link UncheckedIOException} like
+   * {@link org.assertj.core.api.AbstractInputStreamAssert#hasLineCount(int) InputStream's hasLineCount} does.
+   * <p>
+   * Examples:
+   * <pre><code class="java"> Path xFile = Files.write(Paths.get("xfile.txt"), "The Truth\nIs Out There".getBytes());
+   *
+   * // The following assertion succeeds:
+   * assertThat(xFile).hasLineCount(2);
+   *
+   * // The following assertion fails:
+   * assertThat(xFile).hasLineCount(1);</code></pre>
+   *
+   * @param expectedLineCount the expected line count of the actual {@code Path}'s content.
+   * @return {@code this} assertion object.
+   * @throws UncheckedIOException if an I/O error occurs or if the content is not valid in the charset.
+   * @throws AssertionError if the actual {@code Path} is {@code null}.
+   * @throws AssertionError if the actual {@code Path} is not a {@link Files#isReadable(Path) readable} file.
+   * @throws AssertionError if the actual line count is not equal to the expected one.
+   * @since 3.18.0
+   */
+  public SELF hasLineCount(int expectedLineCount) {
+    paths.assertHasLineCount(info, actual, expectedLineCount, charset);
+    return myself;
+  }
+
   /**
    * Assert that the tested {@link Path} is a readable file, it checks that the file exists (according to
    * {@link Files#exists(Path, LinkOption...)}) and that it is readable(according to {@link Files#isReadable(Path)}).
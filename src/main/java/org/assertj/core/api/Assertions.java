@@ -1442,6 +1442,27 @@ public class Assertions implements InstanceOfAssertFactories {
     Fail.setRemoveAssertJRelatedElementsFromStackTrace(removeAssertJRelatedElementsFromStackTrace);
   }
 
+  /**
+   * Sets the maximum number of stack trace elements kept in assertion errors stack trace, the ones closest to where the
+   * error was created are kept (after AssertJ related elements are removed if enabled).
+   * <p>
+   * All stack trace elements are kept by default, limiting them makes creating many assertion errors cheaper on deep
+   * call stacks, typically when soft assertions collect lots of errors.
+   * <p>
+   * Example:
+   * <pre><code class='java'> Assertions.setMaxStackTraceElementsKept(5);
+   *
+   * // the assertion error stack trace has at most 5 elements
+   * assertThat("foo").isEqualTo("bar");</code></pre>
+   *
+   * @param maxStackTraceElementsKept the maximum number of stack trace elements kept, must be greater than 0.
+   * @throws IllegalArgumentException if the given value is not greater than 0.
+   * @since 3.18.0
+   */
+  public static void setMaxStackTraceElementsKept(int maxStackTraceElementsKept) {
+    Fail.setMaxStackTraceElementsKept(maxStackTraceElementsKept);
+  }
+
   /**
    * Throws an {@link AssertionError} with the given message.
    *
@@ -1561,6 +1582,30 @@ public class Assertions implements InstanceOfAssertFactories {
     StandardRepresentation.setMaxElementsForPrinting(maxElementsForPrinting);
   }
 
+  /**
+   * Sets the maximum number of characters of a value representation to display in error messages, longer representations
+   * are truncated and end with {@code ...}.
+   * <p>
+   * Strings and values {@code toString} are truncated to this length, iterables, arrays and maps elements stop being
+   * represented once the length of their representation exceeds it. The length is counted for the whole value being
+   * represented, nested iterables, arrays and maps share it with their enclosing ones, while each value of an error
+   * message (e.g. actual and expected) is bounded on its own. This bounds the cost of building error messages for huge
+   * values and the size of the reported messages.
+   * <p>
+   * The default value is {@value Configuration#MAX_LENGTH_FOR_PRINTING}, that is representations are not truncated.
+   * <p>
+   * Example with a value of {@code 10}:
+   * <pre><code class='java'> String greatBook = "The Lord of the Rings";
+   * // formatted as:
+   * "The Lord o..."</code></pre>
+   *
+   * @param maxLengthForPrinting the maximum length of a value representation in error messages.
+   * @since 3.18.0
+   */
+  public static void setMaxLengthForPrinting(int maxLengthForPrinting) {
+    StandardRepresentation.setMaxLengthForPrinting(maxLengthForPrinting);
+  }
+
   /**
    * Enable/disable printing assertions description to the console (disabled by default).
    * <p>
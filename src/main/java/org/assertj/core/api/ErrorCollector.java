@@ -13,7 +13,6 @@
 package org.assertj.core.api;
 
 import java.lang.reflect.Method;
-import java.util.Arrays;
 import java.util.concurrent.Callable;
 
 import net.bytebuddy.implementation.bind.annotation.FieldValue;
@@ -28,8 +27,8 @@ public class ErrorCollector {
 
   public static final String FIELD_NAME = "errorCollector";
 
-  private static final String INTERCEPT_METHOD_NAME = "intercept";
-  private static final String CLASS_NAME = ErrorCollector.class.getName();
+  // number of intercept calls in progress in the current thread, nested ones are made by assertions calling other assertions
+  private static final ThreadLocal<Integer> INTERCEPT_CALLS_DEPTH = ThreadLocal.withInitial(() -> 0);
 
   private AssertionErrorCollector assertionErrorCollector;
 
@@ -52,16 +51,21 @@ public class ErrorCollector {
                                  @SuperCall Callable<?> proxy,
                                  @SuperMethod(nullIfImpossible = true) Method method,
                                  @StubValue Object stub) throws Exception {
+    int depth = INTERCEPT_CALLS_DEPTH.get() + 1;
+    INTERCEPT_CALLS_DEPTH.set(depth);
     try {
       Object result = proxy.call();
       errorCollector.succeeded();
       return result;
     } catch (AssertionError assertionError) {
-      if (isNestedErrorCollectorProxyCall()) {
+      if (isNestedErrorCollectorProxyCall(depth)) {
         // let the most outer call handle the assertion error
         throw assertionError;
       }
       errorCollector.addError(assertionError);
+    } finally {
+      if (depth == 1) INTERCEPT_CALLS_DEPTH.remove();
+      else INTERCEPT_CALLS_DEPTH.set(depth - 1);
     }
     if (method != null && !method.getReturnType().isInstance(assertion)) {
       // In case the object is not an instance of the return type, just default value for the return type:
@@ -79,14 +83,7 @@ public class ErrorCollector {
     assertionErrorCollector.succeeded();
   }
 
-  private static boolean isNestedErrorCollectorProxyCall() {
-    return countErrorCollectorProxyCalls() > 1;
-  }
-
-  private static long countErrorCollectorProxyCalls() {
-    return Arrays.stream(Thread.currentThread().getStackTrace())
-                 .filter(stackTraceElement -> CLASS_NAME.equals(stackTraceElement.getClassName())
-                                              && stackTraceElement.getMethodName().startsWith(INTERCEPT_METHOD_NAME))
-                 .count();
+  private static boolean isNestedErrorCollectorProxyCall(int depth) {
+    return depth > 1;
   }
 }
@@ -33,6 +33,16 @@ public final class Fail {
     Failures.instance().setRemoveAssertJRelatedElementsFromStackTrace(removeAssertJRelatedElementsFromStackTrace);
   }
 
+  /**
+   * Sets the maximum number of stack trace elements kept in assertion errors stack trace.
+   *
+   * @param maxStackTraceElementsKept the maximum number of stack trace elements kept, must be greater than 0.
+   * @since 3.18.0
+   */
+  public static void setMaxStackTraceElementsKept(int maxStackTraceElementsKept) {
+    Failures.instance().setMaxStackTraceElementsKept(maxStackTraceElementsKept);
+  }
+
   /**
    * Throws an {@link AssertionError} with the given message.
    *
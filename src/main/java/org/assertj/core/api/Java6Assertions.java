@@ -1388,6 +1388,31 @@ public class Java6Assertions {
     StandardRepresentation.setMaxElementsForPrinting(maxElementsForPrinting);
   }
 
+  /**
+   * Sets the maximum number of characters of a value representation to display in error messages, longer representations
+   * are truncated and end with {@code ...}.
+   * <p>
+   * Strings and values {@code toString} are truncated to this length, iterables, arrays and maps elements stop being
+   * represented once the length of their representation exceeds it. The length is counted for the whole value being
+   * represented, nested iterables, arrays and maps share it with their enclosing ones, while each value of an error
+   * message (e.g. actual and expected) is bounded on its own. This bounds the cost of building error messages for huge
+   * values and the size of the reported messages.
+   * <p>
+   * The default value is {@value org.assertj.core.configuration.Configuration#MAX_LENGTH_FOR_PRINTING}, that is
+   * representations are not truncated.
+   * <p>
+   * Example with a value of {@code 10}:
+   * <pre><code class='java'> String greatBook = "The Lord of the Rings";
+   * // formatted as:
+   * "The Lord o..."</code></pre>
+   *
+   * @param maxLengthForPrinting the maximum length of a value representation in error messages.
+   * @since 3.18.0
+   */
+  public static void setMaxLengthForPrinting(int maxLengthForPrinting) {
+    StandardRepresentation.setMaxLengthForPrinting(maxLengthForPrinting);
+  }
+
   // ------------------------------------------------------------------------------------------------------
   // properties methods : not assertions but here to have a single entry point to all AssertJ features.
   // ------------------------------------------------------------------------------------------------------
@@ -1932,6 +1932,18 @@ public interface WithAssertions extends InstanceOfAssertFactories {
     Assertions.setRemoveAssertJRelatedElementsFromStackTrace(removeAssertJRelatedElementsFromStackTrace);
   }
 
+  /**
+   * Sets the maximum number of stack trace elements kept in assertion errors stack trace.
+   * <p>
+   * See {@link Assertions#setMaxStackTraceElementsKept(int)} for a detailed description.
+   *
+   * @param maxStackTraceElementsKept the maximum number of stack trace elements kept, must be greater than 0.
+   * @since 3.18.0
+   */
+  default void setMaxStackTraceElementsKept(final int maxStackTraceElementsKept) {
+    Assertions.setMaxStackTraceElementsKept(maxStackTraceElementsKept);
+  }
+
   /**
    * Throws an {@link AssertionError} with a message explaining that a {@link Throwable} of given class was expected to be thrown
    * but had not been.
@@ -2014,6 +2026,30 @@ public interface WithAssertions extends InstanceOfAssertFactories {
     Assertions.setMaxElementsForPrinting(maxElementsForPrinting);
   }
 
+  /**
+   * Sets the maximum number of characters of a value representation to display in error messages, longer representations
+   * are truncated and end with {@code ...}.
+   * <p>
+   * Strings and values {@code toString} are truncated to this length, iterables, arrays and maps elements stop being
+   * represented once the length of their representation exceeds it. The length is counted for the whole value being
+   * represented, nested iterables, arrays and maps share it with their enclosing ones, while each value of an error
+   * message (e.g. actual and expected) is bounded on its own. This bounds the cost of building error messages for huge
+   * values and the size of the reported messages.
+   * <p>
+   * The default value is {@value Configuration#MAX_LENGTH_FOR_PRINTING}, that is representations are not truncated.
+   * <p>
+   * Example with a value of {@code 10}:
+   * <pre><code class='java'> String greatBook = "The Lord of the Rings";
+   * // formatted as:
+   * "The Lord o..."</code></pre>
+   *
+   * @param maxLengthForPrinting the maximum length of a value representation in error messages.
+   * @since 3.18.0
+   */
+  default void setMaxLengthForPrinting(int maxLengthForPrinting) {
+    Assertions.setMaxLengthForPrinting(maxLengthForPrinting);
+  }
+
   /**
    * Enable/disable printing assertions description to the console (disabled by default).
    * <p>
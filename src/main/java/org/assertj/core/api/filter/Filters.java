@@ -18,7 +18,11 @@ import static java.util.stream.Collectors.toList;
 import static org.assertj.core.util.Lists.newArrayList;
 import static org.assertj.core.util.Preconditions.checkArgument;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Predicate;
 
 import org.assertj.core.api.Assertions;
 import org.assertj.core.api.Condition;
@@ -59,7 +63,10 @@ public class Filters<E> {
   // initialIterable is never modified, it represents the group before any filters have been performed
   @VisibleForTesting
   final Iterable<E> initialIterable;
+  // elements kept by the filters performed so far, starting from a copy of initialIterable taken at creation
   List<E> filteredIterable;
+  // filters added since the last get() call, composed to be performed in a single pass over filteredIterable
+  private Predicate<E> pendingFilter;
 
   private static final PropertyOrFieldSupport PROPERTY_OR_FIELD_SUPPORT = PropertyOrFieldSupport.EXTRACTION;
 
@@ -68,6 +75,11 @@ public class Filters<E> {
    */
   private String propertyOrFieldNameToFilterOn;
 
+  /**
+   * Reads the value of the property used for filtering, resolved once for all the filtered elements.
+   */
+  private Function<Object, Object> propertyOrFieldValueReader;
+
   /**
    * Creates a new <code>{@link Filters}</code> with the {@link Iterable} to filter.
    * <p>
@@ -77,6 +89,9 @@ public class Filters<E> {
    * <p>
    * Note that the given {@link Iterable} is not modified, the filters are performed on a copy.
    * <p>
+   * The copy is taken here, changes made to the given {@link Iterable} afterwards are not taken into account. The filters
+   * added before a call to {@link #get()} are performed in a single pass over the elements kept so far.
+   * <p>
    * With fluent filter language on element properties/fields :
    * <pre><code class='java'> List&lt;Player&gt; players = ...;
    *
@@ -195,10 +210,20 @@ public class Filters<E> {
   }
 
   private Filters<E> applyFilterCondition(Condition<? super E> condition) {
-    this.filteredIterable = filteredIterable.stream().filter(condition::matches).collect(toList());
+    return addFilter(condition::matches);
+  }
+
+  private Filters<E> addFilter(Predicate<E> filter) {
+    pendingFilter = pendingFilter == null ? filter : pendingFilter.and(filter);
     return this;
   }
 
+  private Filters<E> addPropertyValueFilter(Predicate<Object> propertyValueFilter) {
+    // the property to filter on may change before the filter is performed, its current reader is captured
+    Function<Object, Object> valueReader = propertyOrFieldValueReader;
+    return addFilter(element -> propertyValueFilter.test(valueReader.apply(element)));
+  }
+
   /**
    * Filter the underlying group, keeping only elements with a property equals to given value.
    * <p>
@@ -212,13 +237,14 @@ public class Filters<E> {
    *          nested property.
    * @param propertyValue the expected property value.
    * @return this {@link Filters} to chain other filter operations.
-   * @throws IntrospectionError if an element in the given {@code Iterable} does not have a property with a given
-   *           propertyOrFieldName.
+   * @throws IntrospectionError when {@link #get()} is called if an element in the given {@code Iterable} does not have a
+   *           property with a given propertyOrFieldName.
    * @throws IllegalArgumentException if the given propertyOrFieldName is {@code null}.
    */
   public Filters<E> with(String propertyOrFieldName, Object propertyValue) {
     validatePropertyOrFieldName(propertyOrFieldName);
     propertyOrFieldNameToFilterOn = propertyOrFieldName;
+    propertyOrFieldValueReader = PROPERTY_OR_FIELD_SUPPORT.valueReaderOf(propertyOrFieldName);
     return equalsTo(propertyValue);
   }
 
@@ -236,6 +262,7 @@ public class Filters<E> {
   public Filters<E> with(String propertyOrFieldName) {
     validatePropertyOrFieldName(propertyOrFieldName);
     propertyOrFieldNameToFilterOn = propertyOrFieldName;
+    propertyOrFieldValueReader = PROPERTY_OR_FIELD_SUPPORT.valueReaderOf(propertyOrFieldName);
     return this;
   }
 
@@ -269,11 +296,7 @@ public class Filters<E> {
    */
   public Filters<E> equalsTo(Object propertyValue) {
     checkPropertyNameToFilterOnIsNotNull();
-    this.filteredIterable = filteredIterable.stream().filter(element -> {
-      Object propertyValueOfCurrentElement = PROPERTY_OR_FIELD_SUPPORT.getValueOf(propertyOrFieldNameToFilterOn, element);
-      return deepEquals(propertyValueOfCurrentElement, propertyValue);
-    }).collect(toList());
-    return this;
+    return addPropertyValueFilter(value -> deepEquals(value, propertyValue));
   }
 
   /**
@@ -290,11 +313,7 @@ public class Filters<E> {
    */
   public Filters<E> notEqualsTo(Object propertyValue) {
     checkPropertyNameToFilterOnIsNotNull();
-    this.filteredIterable = filteredIterable.stream().filter(element -> {
-      Object propertyValueOfCurrentElement = PROPERTY_OR_FIELD_SUPPORT.getValueOf(propertyOrFieldNameToFilterOn, element);
-      return !deepEquals(propertyValueOfCurrentElement, propertyValue);
-    }).collect(toList());
-    return this;
+    return addPropertyValueFilter(value -> !deepEquals(value, propertyValue));
   }
 
   private void checkPropertyNameToFilterOnIsNotNull() {
@@ -315,11 +334,8 @@ public class Filters<E> {
    */
   public Filters<E> in(Object... propertyValues) {
     checkPropertyNameToFilterOnIsNotNull();
-    this.filteredIterable = filteredIterable.stream().filter(element -> {
-      Object propertyValueOfCurrentElement = PROPERTY_OR_FIELD_SUPPORT.getValueOf(propertyOrFieldNameToFilterOn, element);
-      return isItemInArray(propertyValueOfCurrentElement, propertyValues);
-    }).collect(toList());
-    return this;
+    FilterValues filterValues = new FilterValues(propertyValues);
+    return addPropertyValueFilter(value -> filterValues.contains(value));
   }
 
   /**
@@ -335,11 +351,8 @@ public class Filters<E> {
    */
   public Filters<E> notIn(Object... propertyValues) {
     checkPropertyNameToFilterOnIsNotNull();
-    this.filteredIterable = filteredIterable.stream().filter(element -> {
-      Object propertyValueOfCurrentElement = PROPERTY_OR_FIELD_SUPPORT.getValueOf(propertyOrFieldNameToFilterOn, element);
-      return !isItemInArray(propertyValueOfCurrentElement, propertyValues);
-    }).collect(toList());
-    return this;
+    FilterValues filterValues = new FilterValues(propertyValues);
+    return addPropertyValueFilter(value -> !filterValues.contains(value));
   }
 
   /**
@@ -357,11 +370,69 @@ public class Filters<E> {
 
   /**
    * Returns the resulting filtered Iterable&lt;E&gt; (even if the constructor parameter type was an array).
+   * <p>
+   * The filters added since the last call are performed here, in a single pass over the elements kept by the previous
+   * ones.
    *
    * @return the Iterable&lt;E&gt; containing the filtered elements.
+   * @throws IntrospectionError if an element does not have a property or field used by one of the filters.
    */
   public List<E> get() {
+    if (pendingFilter != null) {
+      filteredIterable = filteredIterable.stream().filter(pendingFilter).collect(toList());
+      pendingFilter = null;
+    }
     return filteredIterable;
   }
 
+  /**
+   * The values of an {@link #in(Object...)} or {@link #notIn(Object...)} filter, many values are hashed to find a property
+   * value without comparing it to each of them.
+   * <p>
+   * The hash is only a shortcut giving the same results as comparing the property value to each filter value: a property
+   * value not found with it (hashCode might not be consistent with equals) is compared to all the values, and a value
+   * found is checked to be equal to the property value as filter values are the receivers of equals. Array property
+   * values are compared by content to each value as their hashCode is not.
+   */
+  private static class FilterValues {
+
+    // under this number of values, comparing them one by one is as fast as hashing
+    private static final int MIN_HASHED_VALUES_COUNT = 8;
+
+    private final Object[] values;
+    // each value by itself, null if there are only a few values or if some of them could not be hashed
+    private final Map<Object, Object> hashedValues;
+
+    private FilterValues(Object[] values) {
+      this.values = values;
+      this.hashedValues = values.length < MIN_HASHED_VALUES_COUNT ? null : hash(values);
+    }
+
+    private static Map<Object, Object> hash(Object[] values) {
+      try {
+        Map<Object, Object> hashedValues = new HashMap<>();
+        for (Object value : values) {
+          hashedValues.putIfAbsent(value, value);
+        }
+        return hashedValues;
+      } catch (@SuppressWarnings("unused") RuntimeException e) {
+        // hashCode failing on some values, they will be compared one by one
+        return null;
+      }
+    }
+
+    private boolean contains(Object propertyValue) {
+      if (hashedValues != null && (propertyValue == null || !propertyValue.getClass().isArray())) {
+        try {
+          // HashMap compares propertyValue to the values, the value found is checked the other way around
+          Object value = hashedValues.get(propertyValue);
+          if (value != null && deepEquals(value, propertyValue)) return true;
+        } catch (@SuppressWarnings("unused") RuntimeException e) {
+          // hashCode failing on propertyValue, it is compared to each value below
+        }
+      }
+      return isItemInArray(propertyValue, values);
+    }
+  }
+
 }
@@ -43,19 +43,36 @@ final class DualValue {
   private final int hashCode;
 
   DualValue(List<String> path, Object actual, Object expected) {
-    this.path = newArrayList(path);
-    this.concatenatedPath = join(path).with(".");
-    this.actual = actual;
-    this.expected = expected;
-    int h1 = actual != null ? actual.hashCode() : 0;
-    int h2 = expected != null ? expected.hashCode() : 0;
-    hashCode = h1 + h2;
+    this(join(path).with("."), newArrayList(path), actual, expected);
   }
 
   DualValue(List<String> parentPath, String fieldName, Object actual, Object expected) {
     this(fieldPath(parentPath, fieldName), actual, expected);
   }
 
+  // reuses the parent concatenated path instead of joining the whole field path again
+  DualValue(DualValue parentDualValue, String fieldName, Object actual, Object expected) {
+    this(parentDualValue.fieldConcatenatedPath(fieldName), fieldPath(parentDualValue.path, fieldName), actual, expected);
+  }
+
+  private DualValue(String concatenatedPath, List<String> path, Object actual, Object expected) {
+    this.path = path;
+    this.concatenatedPath = concatenatedPath;
+    this.actual = actual;
+    this.expected = expected;
+    // consistent with equals which compares actual and expected by reference, this also avoids calling potentially
+    // expensive hashCode implementations of the compared values
+    hashCode = 31 * System.identityHashCode(actual) + System.identityHashCode(expected);
+  }
+
+  /**
+   * Returns the concatenated path of the given field of this value, ex: "person.address" for the "address" field of a
+   * value at the "person" path.
+   */
+  String fieldConcatenatedPath(String fieldName) {
+    return path.isEmpty() ? fieldName : concatenatedPath + "." + fieldName;
+  }
+
   @Override
   public boolean equals(Object other) {
     if (!(other instanceof DualValue)) return false;
@@ -0,0 +1,84 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2020 the original author or authors.
+ */
+package org.assertj.core.api.recursive.comparison;
+
+import static java.util.stream.Collectors.toSet;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * Snapshot of the field path based criteria of a {@link RecursiveComparisonConfiguration} answering whether a field
+ * designated by its concatenated path (ex: "person.address.street") is ignored, has its overridden equals ignored or
+ * its collection order ignored.
+ * <p>
+ * Field locations are exact paths and are thus looked up in sets, regexes are only evaluated once per path as the
+ * result is memoized (paths are bounded by the compared types structure since collection elements share their parent path).
+ */
+final class FieldPathDecisions {
+
+  private final Set<String> ignoredFields;
+  private final Pattern[] ignoredFieldsRegexes;
+  private final Set<String> ignoredOverriddenEqualsForFields;
+  private final Set<String> ignoredCollectionOrderInFields;
+  private final Pattern[] ignoredCollectionOrderInFieldsMatchingRegexes;
+  private final Map<String, Boolean> ignoredFieldsMatchingRegexesByPath = new ConcurrentHashMap<>();
+  private final Map<String, Boolean> ignoredCollectionOrderMatchingRegexesByPath = new ConcurrentHashMap<>();
+
+  FieldPathDecisions(Collection<FieldLocation> ignoredFields, List<Pattern> ignoredFieldsRegexes,
+                     Collection<FieldLocation> ignoredOverriddenEqualsForFields,
+                     Collection<FieldLocation> ignoredCollectionOrderInFields,
+                     List<Pattern> ignoredCollectionOrderInFieldsMatchingRegexes) {
+    this.ignoredFields = pathsOf(ignoredFields);
+    this.ignoredFieldsRegexes = ignoredFieldsRegexes.toArray(new Pattern[0]);
+    this.ignoredOverriddenEqualsForFields = pathsOf(ignoredOverriddenEqualsForFields);
+    this.ignoredCollectionOrderInFields = pathsOf(ignoredCollectionOrderInFields);
+    this.ignoredCollectionOrderInFieldsMatchingRegexes = ignoredCollectionOrderInFieldsMatchingRegexes.toArray(new Pattern[0]);
+  }
+
+  boolean isIgnoredField(String concatenatedPath) {
+    return ignoredFields.contains(concatenatedPath)
+           || matchesAny(ignoredFieldsRegexes, concatenatedPath, ignoredFieldsMatchingRegexesByPath);
+  }
+
+  boolean isIgnoredOverriddenEqualsField(String concatenatedPath) {
+    return ignoredOverriddenEqualsForFields.contains(concatenatedPath);
+  }
+
+  boolean isIgnoredCollectionOrderField(String concatenatedPath) {
+    return ignoredCollectionOrderInFields.contains(concatenatedPath)
+           || matchesAny(ignoredCollectionOrderInFieldsMatchingRegexes, concatenatedPath,
+                         ignoredCollectionOrderMatchingRegexesByPath);
+  }
+
+  private static boolean matchesAny(Pattern[] regexes, String concatenatedPath, Map<String, Boolean> matchesByPath) {
+    if (regexes.length == 0) return false; // shortcut
+    return matchesByPath.computeIfAbsent(concatenatedPath, path -> matchesAny(regexes, path));
+  }
+
+  private static boolean matchesAny(Pattern[] regexes, String concatenatedPath) {
+    for (Pattern regex : regexes) {
+      if (regex.matcher(concatenatedPath).matches()) return true;
+    }
+    return false;
+  }
+
+  private static Set<String> pathsOf(Collection<FieldLocation> fieldLocations) {
+    return fieldLocations.stream().map(FieldLocation::getFieldPath).collect(toSet());
+  }
+
+}
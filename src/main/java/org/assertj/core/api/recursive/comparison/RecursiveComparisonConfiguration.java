@@ -20,7 +20,6 @@ import static java.util.stream.Collectors.toSet;
 import static org.assertj.core.configuration.ConfigurationProvider.CONFIGURATION_PROVIDER;
 import static org.assertj.core.internal.TypeComparators.defaultTypeComparators;
 import static org.assertj.core.util.Lists.list;
-import static org.assertj.core.util.Lists.newArrayList;
 import static org.assertj.core.util.Strings.join;
 import static org.assertj.core.util.introspection.PropertyOrFieldSupport.COMPARISON;
 
@@ -69,6 +68,9 @@ public class RecursiveComparisonConfiguration {
   private TypeComparators typeComparators = defaultTypeComparators();
   private FieldComparators fieldComparators = new FieldComparators();
 
+  // field path criteria snapshot, discarded when one of them is changed
+  private volatile FieldPathDecisions fieldPathDecisions;
+
   private RecursiveComparisonConfiguration(Builder builder) {
     this.strictTypeChecking = builder.strictTypeChecking;
     this.ignoreAllActualNullFields = builder.ignoreAllActualNullFields;
@@ -185,6 +187,7 @@ public class RecursiveComparisonConfiguration {
   public void ignoreFields(String... fieldsToIgnore) {
     List<FieldLocation> fieldLocations = FieldLocation.from(fieldsToIgnore);
     ignoredFields.addAll(fieldLocations);
+    fieldPathDecisions = null;
   }
 
   /**
@@ -198,6 +201,7 @@ public class RecursiveComparisonConfiguration {
     ignoredFieldsRegexes.addAll(Stream.of(regexes)
                                       .map(Pattern::compile)
                                       .collect(toList()));
+    fieldPathDecisions = null;
   }
 
   /**
@@ -273,6 +277,7 @@ public class RecursiveComparisonConfiguration {
   public void ignoreOverriddenEqualsForFields(String... fields) {
     List<FieldLocation> fieldLocations = FieldLocation.from(fields);
     ignoredOverriddenEqualsForFields.addAll(fieldLocations);
+    fieldPathDecisions = null;
   }
 
   /**
@@ -325,6 +330,7 @@ public class RecursiveComparisonConfiguration {
   public void ignoreCollectionOrderInFields(String... fieldsToIgnoreCollectionOrder) {
     List<FieldLocation> fieldLocations = FieldLocation.from(fieldsToIgnoreCollectionOrder);
     ignoredCollectionOrderInFields.addAll(fieldLocations);
+    fieldPathDecisions = null;
   }
 
   /**
@@ -347,6 +353,7 @@ public class RecursiveComparisonConfiguration {
     ignoredCollectionOrderInFieldsMatchingRegexes.addAll(Stream.of(regexes)
                                                                .map(Pattern::compile)
                                                                .collect(toList()));
+    fieldPathDecisions = null;
   }
 
   /**
@@ -549,10 +556,25 @@ public class RecursiveComparisonConfiguration {
     return description.toString();
   }
 
+  /**
+   * Takes a snapshot of the field path criteria (ignored fields, collection order and overridden equals ones) used by the
+   * next comparisons, this is done once per recursive comparison to avoid evaluating each criteria for each compared field.
+   * <p>
+   * The snapshot is also discarded when changing a criteria with this class methods but not when the collections returned
+   * by the getters are directly modified.
+   */
+  void compileFieldPathDecisions() {
+    fieldPathDecisions = new FieldPathDecisions(ignoredFields, ignoredFieldsRegexes, ignoredOverriddenEqualsForFields,
+                                                ignoredCollectionOrderInFields, ignoredCollectionOrderInFieldsMatchingRegexes);
+  }
+
+  private FieldPathDecisions fieldPathDecisions() {
+    if (fieldPathDecisions == null) compileFieldPathDecisions();
+    return fieldPathDecisions;
+  }
+
   boolean shouldIgnore(DualValue dualValue) {
-    String concatenatedPath = dualValue.concatenatedPath;
-    return matchesAnIgnoredField(concatenatedPath)
-           || matchesAnIgnoredFieldRegex(concatenatedPath)
+    return fieldPathDecisions().isIgnoredField(dualValue.concatenatedPath)
            || shouldIgnoreFieldButWithoutNeedingEvaluatingFieldName(dualValue);
   }
 
@@ -564,7 +586,7 @@ public class RecursiveComparisonConfiguration {
     // DualValues are built introspecting fields which is expensive.
     return actualFieldsNames.stream()
                             // evaluate field name ignoring criteria
-                            .filter(fieldName -> !shouldIgnore(dualValue.path, fieldName))
+                            .filter(fieldName -> !shouldIgnore(dualValue, fieldName))
                             .map(fieldName -> dualValueForField(dualValue, fieldName))
                             // evaluate field value ignoring criteria
                             .filter(fieldDualValue -> !shouldIgnoreFieldButWithoutNeedingEvaluatingFieldName(fieldDualValue))
@@ -582,16 +604,11 @@ public class RecursiveComparisonConfiguration {
            || matchesAnIgnoredEmptyOptionalField(dualValue);
   }
 
-  private boolean shouldIgnore(List<String> parentConcatenatedPath, String fieldName) {
-    List<String> fieldConcatenatedPathList = newArrayList(parentConcatenatedPath);
-    fieldConcatenatedPathList.add(fieldName);
-    String fieldConcatenatedPath = join(fieldConcatenatedPathList).with(".");
-    return matchesAnIgnoredField(fieldConcatenatedPath) || matchesAnIgnoredFieldRegex(fieldConcatenatedPath);
+  private boolean shouldIgnore(DualValue parentDualValue, String fieldName) {
+    return fieldPathDecisions().isIgnoredField(parentDualValue.fieldConcatenatedPath(fieldName));
   }
 
   private static DualValue dualValueForField(DualValue parentDualValue, String fieldName) {
-    List<String> path = newArrayList(parentDualValue.path);
-    path.add(fieldName);
     Object actualFieldValue = COMPARISON.getSimpleValue(fieldName, parentDualValue.actual);
     // no guarantees we have a field in expected named as fieldName
     Object expectedFieldValue;
@@ -602,7 +619,7 @@ public class RecursiveComparisonConfiguration {
       // but it works to evaluate if dualValue should be ignored with matchesAnIgnoredFieldType
       expectedFieldValue = null;
     }
-    return new DualValue(path, actualFieldValue, expectedFieldValue);
+    return new DualValue(parentDualValue, fieldName, actualFieldValue, expectedFieldValue);
   }
 
   boolean hasCustomComparator(DualValue dualValue) {
@@ -620,7 +637,7 @@ public class RecursiveComparisonConfiguration {
     // enums don't have fields, comparing them field by field has no sense, we need to use equals which is overridden and final
     if (dualValue.isActualAnEnum()) return false;
     return ignoreAllOverriddenEquals
-           || matchesAnIgnoredOverriddenEqualsField(dualValue)
+           || fieldPathDecisions().isIgnoredOverriddenEqualsField(dualValue.concatenatedPath)
            || (dualValue.actual != null && shouldIgnoreOverriddenEqualsOf(dualValue.actual.getClass()));
   }
 
@@ -630,9 +647,7 @@ public class RecursiveComparisonConfiguration {
   }
 
   boolean shouldIgnoreCollectionOrder(DualValue dualValue) {
-    return ignoreCollectionOrder
-           || matchesAnIgnoredCollectionOrderInField(dualValue)
-           || matchesAnIgnoredCollectionOrderInFieldRegex(dualValue);
+    return ignoreCollectionOrder || fieldPathDecisions().isIgnoredCollectionOrderField(dualValue.concatenatedPath);
   }
 
   private void describeIgnoredFieldsRegexes(StringBuilder description) {
@@ -730,11 +745,6 @@ public class RecursiveComparisonConfiguration {
     return ignoredOverriddenEqualsForTypes.contains(clazz);
   }
 
-  private boolean matchesAnIgnoredOverriddenEqualsField(DualValue dualValue) {
-    return ignoredOverriddenEqualsForFields.stream()
-                                           .anyMatch(fieldLocation -> fieldLocation.matches(dualValue.concatenatedPath));
-  }
-
   private boolean matchesAnIgnoredNullField(DualValue dualValue) {
     return (ignoreAllActualNullFields && dualValue.actual == null)
            || (ignoreAllExpectedNullFields && dualValue.expected == null);
@@ -745,11 +755,6 @@ public class RecursiveComparisonConfiguration {
            && dualValue.isActualFieldAnEmptyOptionalOfAnyType();
   }
 
-  private boolean matchesAnIgnoredFieldRegex(String fieldConcatenatedPath) {
-    return ignoredFieldsRegexes.stream()
-                               .anyMatch(regex -> regex.matcher(fieldConcatenatedPath).matches());
-  }
-
   private boolean matchesAnIgnoredFieldType(DualValue dualValue) {
     Object actual = dualValue.actual;
     if (actual != null) return ignoredTypes.contains(actual.getClass());
@@ -761,21 +766,6 @@ public class RecursiveComparisonConfiguration {
     return false;
   }
 
-  private boolean matchesAnIgnoredField(String fieldConcatenatedPath) {
-    return ignoredFields.stream()
-                        .anyMatch(fieldLocation -> fieldLocation.matches(fieldConcatenatedPath));
-  }
-
-  private boolean matchesAnIgnoredCollectionOrderInField(DualValue dualValue) {
-    return ignoredCollectionOrderInFields.stream()
-                                         .anyMatch(fieldLocation -> fieldLocation.matches(dualValue.concatenatedPath));
-  }
-
-  private boolean matchesAnIgnoredCollectionOrderInFieldRegex(DualValue dualValue) {
-    return ignoredCollectionOrderInFieldsMatchingRegexes.stream()
-                                                        .anyMatch(regex -> regex.matcher(dualValue.concatenatedPath).matches());
-  }
-
   private String describeIgnoredFields() {
     List<String> fieldsDescription = ignoredFields.stream()
                                                   .map(FieldLocation::getFieldPath)
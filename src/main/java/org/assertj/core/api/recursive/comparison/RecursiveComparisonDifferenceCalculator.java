@@ -13,24 +13,24 @@
 package org.assertj.core.api.recursive.comparison;
 
 import static java.lang.String.format;
+import static java.util.Collections.emptyList;
 import static java.util.stream.Collectors.joining;
 import static java.util.stream.Collectors.toMap;
 import static org.assertj.core.api.recursive.comparison.ComparisonDifference.rootComparisonDifference;
 import static org.assertj.core.api.recursive.comparison.DualValue.DEFAULT_ORDERED_COLLECTION_TYPES;
-import static org.assertj.core.internal.Objects.getDeclaredFieldsIncludingInherited;
 import static org.assertj.core.internal.Objects.getFieldsNames;
 import static org.assertj.core.util.IterableUtil.sizeOf;
-import static org.assertj.core.util.IterableUtil.toCollection;
 import static org.assertj.core.util.Lists.list;
+import static org.assertj.core.util.Lists.newArrayList;
 import static org.assertj.core.util.Sets.newHashSet;
 import static org.assertj.core.util.introspection.PropertyOrFieldSupport.COMPARISON;
 
 import java.lang.reflect.Array;
-import java.lang.reflect.Field;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedList;
@@ -39,6 +39,7 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import org.assertj.core.internal.DeepDifference;
@@ -65,13 +66,12 @@ public class RecursiveComparisonDifferenceCalculator {
   private static final Map<Class<?>, Boolean> customHash = new ConcurrentHashMap<>();
 
   private static class ComparisonState {
-    // Not using a Set as we want to precisely track visited values, a set would remove duplicates
-    List<DualValue> visitedDualValues;
+    VisitedDualValues visitedDualValues;
     List<ComparisonDifference> differences = new ArrayList<>();
     DualValueDeque dualValuesToCompare;
     RecursiveComparisonConfiguration recursiveComparisonConfiguration;
 
-    public ComparisonState(List<DualValue> visited, RecursiveComparisonConfiguration recursiveComparisonConfiguration) {
+    public ComparisonState(VisitedDualValues visited, RecursiveComparisonConfiguration recursiveComparisonConfiguration) {
       this.visitedDualValues = visited;
       this.dualValuesToCompare = new DualValueDeque(recursiveComparisonConfiguration);
       this.recursiveComparisonConfiguration = recursiveComparisonConfiguration;
@@ -122,7 +122,7 @@ public class RecursiveComparisonDifferenceCalculator {
           if (expectedFieldsNames.containsAll(nonIgnoredActualFieldsNames)) {
             // we compare actual fields vs expected, ignoring expected additional fields
             for (String nonIgnoredActualFieldName : nonIgnoredActualFieldsNames) {
-              DualValue fieldDualValue = new DualValue(parentPath, nonIgnoredActualFieldName,
+              DualValue fieldDualValue = new DualValue(dualValue, nonIgnoredActualFieldName,
                                                        COMPARISON.getSimpleValue(nonIgnoredActualFieldName, actual),
                                                        COMPARISON.getSimpleValue(nonIgnoredActualFieldName, expected));
               dualValuesToCompare.addFirst(fieldDualValue);
@@ -141,10 +141,21 @@ public class RecursiveComparisonDifferenceCalculator {
       // it occurs to unordered collection where we compare all possible combination of the collection elements recursively
       // --
       // remove visited values one by one, DualValue.equals correctly compare respective actual and expected fields by reference
-      visitedDualValues.forEach(visitedDualValue -> dualValuesToCompare.stream()
-                                                                       .filter(dualValueToCompare -> dualValueToCompare.equals(visitedDualValue))
-                                                                       .findFirst()
-                                                                       .ifPresent(dualValuesToCompare::remove));
+      removeVisitedDualValuesToCompare();
+    }
+
+    // a dual value visited n times removes (at most) the n first dual values to compare equal to it
+    private void removeVisitedDualValuesToCompare() {
+      Map<DualValue, Integer> removedCounts = new HashMap<>();
+      Iterator<DualValue> dualValuesToCompareIterator = dualValuesToCompare.iterator();
+      while (dualValuesToCompareIterator.hasNext()) {
+        DualValue dualValueToCompare = dualValuesToCompareIterator.next();
+        int removedCount = removedCounts.getOrDefault(dualValueToCompare, 0);
+        if (removedCount < visitedDualValues.visitCountOf(dualValueToCompare)) {
+          dualValuesToCompareIterator.remove();
+          removedCounts.put(dualValueToCompare, removedCount + 1);
+        }
+      }
     }
 
     private boolean mustCompareFieldsRecursively(boolean isRootObject, DualValue dualValue) {
@@ -181,15 +192,16 @@ public class RecursiveComparisonDifferenceCalculator {
     if (recursiveComparisonConfiguration.isInStrictTypeCheckingMode() && expectedTypeIsNotSubtypeOfActualType(actual, expected)) {
       return list(expectedAndActualTypeDifference(actual, expected));
     }
+    recursiveComparisonConfiguration.compileFieldPathDecisions();
     List<String> rootPath = list();
-    List<DualValue> visited = list();
+    VisitedDualValues visited = new VisitedDualValues();
     return determineDifferences(actual, expected, rootPath, true, visited, recursiveComparisonConfiguration);
   }
 
   // TODO keep track of ignored fields in an RecursiveComparisonExecution class ?
 
   private static List<ComparisonDifference> determineDifferences(Object actual, Object expected, List<String> parentPath,
-                                                                 boolean isRootObject, List<DualValue> visited,
+                                                                 boolean isRootObject, VisitedDualValues visited,
                                                                  RecursiveComparisonConfiguration recursiveComparisonConfiguration) {
     ComparisonState comparisonState = new ComparisonState(visited, recursiveComparisonConfiguration);
     comparisonState.initDualValuesToCompare(actual, expected, parentPath, isRootObject);
@@ -197,7 +209,6 @@ public class RecursiveComparisonDifferenceCalculator {
     while (comparisonState.hasDualValuesToCompare()) {
       final DualValue dualValue = comparisonState.pickDualValueToCompare();
 
-      final List<String> currentPath = dualValue.getPath();
       final Object actualFieldValue = dualValue.actual;
       final Object expectedFieldValue = dualValue.expected;
 
@@ -290,7 +301,7 @@ public class RecursiveComparisonDifferenceCalculator {
         // - if actual has more fields than expected, the additional fields are ignored as expected is the reference
         for (String actualFieldName : actualNonIgnoredFieldsNames) {
           if (expectedFieldsNames.contains(actualFieldName)) {
-            DualValue newDualValue = new DualValue(currentPath, actualFieldName,
+            DualValue newDualValue = new DualValue(dualValue, actualFieldName,
                                                    COMPARISON.getSimpleValue(actualFieldName, actualFieldValue),
                                                    COMPARISON.getSimpleValue(actualFieldName, expectedFieldValue));
             comparisonState.registerForComparison(newDualValue);
@@ -409,34 +420,64 @@ public class RecursiveComparisonDifferenceCalculator {
       // - expected elements not found in actual.
     }
     List<String> path = dualValue.getPath();
-    // copy expected as we will remove elements found in actual
-    Collection<?> expectedCopy = new LinkedList<>(toCollection(expected));
+    // expected elements are indexed by fingerprint so that actual elements are first compared to the expected elements
+    // likely to match them instead of all of them which would make the comparison O(n^2).
+    List<?> expectedElements = newArrayList(expected);
+    boolean[] matchedExpectedElements = new boolean[expectedSize];
+    StructuralFingerprint fingerprint = new StructuralFingerprint(comparisonState.recursiveComparisonConfiguration);
+    int[] expectedElementFingerprints = new int[expectedSize];
+    Map<Integer, List<Integer>> expectedElementIndexesByFingerprint = new HashMap<>();
+    for (int i = 0; i < expectedSize; i++) {
+      expectedElementFingerprints[i] = fingerprint.of(expectedElements.get(i), path);
+      expectedElementIndexesByFingerprint.computeIfAbsent(expectedElementFingerprints[i], key -> new ArrayList<>()).add(i);
+    }
     for (Object actualElement : actual) {
-      // compare recursively actualElement to all remaining expected elements
-      Iterator<?> expectedIterator = expectedCopy.iterator();
-      while (expectedIterator.hasNext()) {
-        Object expectedElement = expectedIterator.next();
-        // we need to get the currently visited dual values otherwise a cycle would cause an infinite recursion.
-        List<ComparisonDifference> differences = determineDifferences(actualElement, expectedElement, path, false,
-                                                                      comparisonState.visitedDualValues,
-                                                                      comparisonState.recursiveComparisonConfiguration);
-        if (differences.isEmpty()) {
-          // we found an element in expected matching actualElement, we must remove it as if actual matches expected
-          // it means for each actual element there is one and only matching expected element.
-          expectedIterator.remove();
-          // jump to next actual element check
-          break;
-        }
+      int actualElementFingerprint = fingerprint.of(actualElement, path);
+      List<Integer> candidateIndexes = expectedElementIndexesByFingerprint.getOrDefault(actualElementFingerprint, emptyList());
+      int matchingExpectedElementIndex = findMatchingExpectedElement(actualElement, candidateIndexes.stream(),
+                                                                     expectedElements, matchedExpectedElements, path,
+                                                                     comparisonState);
+      if (matchingExpectedElementIndex == -1) {
+        // the fingerprint is not guaranteed to be the same for matching elements (ex: comparing different types), compare
+        // actualElement recursively to the remaining expected elements not compared yet, comparing again the same elements
+        // is not an option as the visited dual values of the first comparison would be ignored.
+        // Only this element falls back to a full search, the next ones are still looked for by fingerprint first.
+        Stream<Integer> notComparedIndexes = IntStream.range(0, expectedSize)
+                                                      .filter(i -> expectedElementFingerprints[i] != actualElementFingerprint)
+                                                      .boxed();
+        matchingExpectedElementIndex = findMatchingExpectedElement(actualElement, notComparedIndexes, expectedElements,
+                                                                   matchedExpectedElements, path, comparisonState);
+      }
+      if (matchingExpectedElementIndex == -1) {
+        // actualElement does not match any expected elements, no need to check the remaining actual elements.
+        comparisonState.addDifference(dualValue);
+        return;
       }
+      // we found an element in expected matching actualElement, we must mark it as matched as if actual matches expected
+      // it means for each actual element there is one and only matching expected element.
+      matchedExpectedElements[matchingExpectedElementIndex] = true;
     }
-
-    // expectedCopy not empty = there was at least one actual element not matching any expected elements.
-    if (!expectedCopy.isEmpty()) comparisonState.addDifference(dualValue);
     // TODO instead we could register the diff between expected and actual that is:
     // - unexpected actual elements (the ones not matching any expected)
     // - expected elements not found in actual.
   }
 
+  private static int findMatchingExpectedElement(Object actualElement, Stream<Integer> expectedElementIndexes,
+                                                 List<?> expectedElements, boolean[] matchedExpectedElements,
+                                                 List<String> path, ComparisonState comparisonState) {
+    Iterator<Integer> expectedElementIndexesIterator = expectedElementIndexes.iterator();
+    while (expectedElementIndexesIterator.hasNext()) {
+      int expectedElementIndex = expectedElementIndexesIterator.next();
+      if (matchedExpectedElements[expectedElementIndex]) continue;
+      // we need to get the currently visited dual values otherwise a cycle would cause an infinite recursion.
+      List<ComparisonDifference> differences = determineDifferences(actualElement, expectedElements.get(expectedElementIndex),
+                                                                    path, false, comparisonState.visitedDualValues,
+                                                                    comparisonState.recursiveComparisonConfiguration);
+      if (differences.isEmpty()) return expectedElementIndex;
+    }
+    return -1;
+  }
+
   private static <K, V> void compareSortedMap(DualValue dualValue, ComparisonState comparisonState) {
     if (!dualValue.isActualFieldASortedMap()) {
       // at the moment we only compare iterable with iterables (but we might allow arrays too)
@@ -610,9 +651,8 @@ public class RecursiveComparisonDifferenceCalculator {
         continue;
       }
 
-      Collection<Field> fields = getDeclaredFieldsIncludingInherited(obj.getClass());
-      for (Field field : fields) {
-        stack.addFirst(COMPARISON.getSimpleValue(field.getName(), obj));
+      for (String fieldName : getFieldsNames(obj.getClass())) {
+        stack.addFirst(COMPARISON.getSimpleValue(fieldName, obj));
       }
     }
     return hash;
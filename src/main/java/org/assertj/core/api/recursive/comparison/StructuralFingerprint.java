@@ -0,0 +1,118 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2020 the original author or authors.
+ */
+package org.assertj.core.api.recursive.comparison;
+
+import static java.util.Collections.newSetFromMap;
+import static org.assertj.core.api.recursive.comparison.RecursiveComparisonDifferenceCalculator.hasOverriddenEquals;
+import static org.assertj.core.util.introspection.PropertyOrFieldSupport.COMPARISON;
+
+import java.lang.reflect.Array;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Computes a hash of a value honoring the {@link RecursiveComparisonConfiguration} used to compare it, that is:
+ * <ul>
+ * <li>ignored fields don't contribute to the fingerprint</li>
+ * <li>values compared with a registered comparator have a constant fingerprint as we can't know how the comparator sees them</li>
+ * <li>values compared with their overridden equals use their hashCode</li>
+ * <li>enums use their name as they are compared by name</li>
+ * <li>other values are fingerprinted field by field, containers element by element regardless of their order</li>
+ * </ul>
+ * Values considered equal by the recursive comparison are expected to have the same fingerprint but that's not guaranteed
+ * (for example when comparing values of different types or ignoring null fields), the fingerprint must thus only be used
+ * to find the likely matching values first.
+ */
+final class StructuralFingerprint {
+
+  private static final int CUSTOM_COMPARISON_FINGERPRINT = 1;
+  // bounds the fingerprint computation cost for values referencing large graphs
+  private static final int MAX_DEPTH = 8;
+
+  private final RecursiveComparisonConfiguration recursiveComparisonConfiguration;
+
+  StructuralFingerprint(RecursiveComparisonConfiguration recursiveComparisonConfiguration) {
+    this.recursiveComparisonConfiguration = recursiveComparisonConfiguration;
+  }
+
+  int of(Object value, List<String> path) {
+    try {
+      return fingerprint(new DualValue(path, value, value), 0, newSetFromMap(new IdentityHashMap<>()));
+    } catch (@SuppressWarnings("unused") RuntimeException e) {
+      // the fingerprint is only used to speed up the comparison, fields that can't be read will be reported by it
+      return 0;
+    }
+  }
+
+  private int fingerprint(DualValue dualValue, int depth, Set<Object> ancestors) {
+    Object value = dualValue.actual;
+    if (value == null) return 0;
+    if (recursiveComparisonConfiguration.hasCustomComparator(dualValue)) return CUSTOM_COMPARISON_FINGERPRINT;
+    if (dualValue.isActualAnEnum()) return ((Enum<?>) value).name().hashCode();
+    // stop at cycles and at the depth limit, we only need a good enough fingerprint
+    if (depth > MAX_DEPTH || ancestors.contains(value)) return 0;
+    ancestors.add(value);
+    try {
+      return containerOrObjectFingerprint(dualValue, depth + 1, ancestors);
+    } finally {
+      ancestors.remove(value);
+    }
+  }
+
+  private int containerOrObjectFingerprint(DualValue dualValue, int depth, Set<Object> ancestors) {
+    Object value = dualValue.actual;
+    List<String> path = dualValue.getPath();
+    // containers element fingerprints are summed to be independent of the elements order
+    if (dualValue.isActualFieldAnArray()) {
+      int fingerprint = 0;
+      for (int i = 0; i < Array.getLength(value); i++) {
+        fingerprint += fingerprint(new DualValue(path, Array.get(value, i), Array.get(value, i)), depth, ancestors);
+      }
+      return fingerprint;
+    }
+    if (dualValue.isActualFieldAnIterable()) {
+      int fingerprint = 0;
+      for (Object element : (Iterable<?>) value) {
+        fingerprint += fingerprint(new DualValue(path, element, element), depth, ancestors);
+      }
+      return fingerprint;
+    }
+    if (dualValue.isActualFieldAMap()) {
+      int fingerprint = 0;
+      for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+        int keyFingerprint = fingerprint(new DualValue(path, entry.getKey(), entry.getKey()), depth, ancestors);
+        int valueFingerprint = fingerprint(new DualValue(path, entry.getValue(), entry.getValue()), depth, ancestors);
+        fingerprint += 31 * keyFingerprint + valueFingerprint;
+      }
+      return fingerprint;
+    }
+    if (dualValue.isActualFieldAnOptional()) {
+      Object optionalValue = ((Optional<?>) value).orElse(null);
+      return fingerprint(new DualValue(path, "value", optionalValue, optionalValue), depth, ancestors);
+    }
+    if (!recursiveComparisonConfiguration.shouldIgnoreOverriddenEqualsOf(dualValue) && hasOverriddenEquals(value.getClass())) {
+      return value.hashCode();
+    }
+    int fingerprint = 0;
+    for (String fieldName : recursiveComparisonConfiguration.getNonIgnoredActualFieldNames(dualValue)) {
+      Object fieldValue = COMPARISON.getSimpleValue(fieldName, value);
+      fingerprint += 31 * fieldName.hashCode() + fingerprint(new DualValue(dualValue, fieldName, fieldValue, fieldValue), depth,
+                                                             ancestors);
+    }
+    return fingerprint;
+  }
+
+}
@@ -0,0 +1,41 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2020 the original author or authors.
+ */
+package org.assertj.core.api.recursive.comparison;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Keeps track of the dual values visited during a recursive comparison to avoid cycles.
+ * <p>
+ * Dual values are tracked by their actual and expected values reference (see {@link DualValue#equals(Object)}), the number
+ * of times a dual value was visited is recorded so that visited values are precisely tracked (a plain set would remove
+ * duplicates), lookups are done in constant time.
+ */
+final class VisitedDualValues {
+
+  private final Map<DualValue, Integer> visitCounts = new HashMap<>();
+
+  void add(DualValue dualValue) {
+    visitCounts.merge(dualValue, 1, Integer::sum);
+  }
+
+  boolean contains(DualValue dualValue) {
+    return visitCounts.containsKey(dualValue);
+  }
+
+  int visitCountOf(DualValue dualValue) {
+    return visitCounts.getOrDefault(dualValue, 0);
+  }
+
+}
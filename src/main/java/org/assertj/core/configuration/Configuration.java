@@ -25,6 +25,7 @@ import java.util.stream.Stream;
 
 import org.assertj.core.api.Assertions;
 import org.assertj.core.description.Description;
+import org.assertj.core.internal.CompiledPatternCache;
 import org.assertj.core.presentation.Representation;
 
 /**
@@ -39,6 +40,8 @@ public class Configuration {
 
   public static final int MAX_LENGTH_FOR_SINGLE_LINE_DESCRIPTION = 80;
   public static final int MAX_ELEMENTS_FOR_PRINTING = 1000;
+  public static final int MAX_LENGTH_FOR_PRINTING = Integer.MAX_VALUE;
+  public static final int PATTERN_CACHE_SIZE = 256;
   public static final boolean REMOVE_ASSERTJ_RELATED_ELEMENTS_FROM_STACK_TRACE = true;
   public static final boolean ALLOW_COMPARING_PRIVATE_FIELDS = true;
   public static final boolean ALLOW_EXTRACTING_PRIVATE_FIELDS = true;
@@ -54,6 +57,8 @@ public class Configuration {
   private List<DateFormat> additionalDateFormats = emptyList();
   private int maxLengthForSingleLineDescription = MAX_LENGTH_FOR_SINGLE_LINE_DESCRIPTION;
   private int maxElementsForPrinting = MAX_ELEMENTS_FOR_PRINTING;
+  private int maxLengthForPrinting = MAX_LENGTH_FOR_PRINTING;
+  private int patternCacheSize = PATTERN_CACHE_SIZE;
   private boolean printAssertionsDescription = PRINT_ASSERTIONS_DESCRIPTION_ENABLED;
   private Consumer<Description> descriptionConsumer = null;
 
@@ -279,6 +284,60 @@ public class Configuration {
     this.maxElementsForPrinting = maxElementsForPrinting;
   }
 
+  /**
+   * Returns how many characters at most of a value representation will be displayed in error messages.
+   * <p>
+   * Default is {@value #MAX_LENGTH_FOR_PRINTING}, that is representations are not truncated.
+   * <p>
+   * See {@link Assertions#setMaxLengthForPrinting(int)} for a detailed description.
+   *
+   * @return the maximum length of a value representation in error messages.
+   */
+  public int maxLengthForPrinting() {
+    return maxLengthForPrinting;
+  }
+
+  /**
+   * Sets how many characters at most of a value representation will be displayed in error messages.
+   * <p>
+   * See {@link Assertions#setMaxLengthForPrinting(int)} for a detailed description.
+   * <p>
+   * Note that this change will only be effective once {@link #apply()} or {@link #applyAndDisplay()} is called.
+   *
+   * @param maxLengthForPrinting the maximum length of a value representation in error messages.
+   */
+  public void setMaxLengthForPrinting(int maxLengthForPrinting) {
+    this.maxLengthForPrinting = maxLengthForPrinting;
+  }
+
+  /**
+   * Returns how many compiled regular expressions and path matchers at most are cached by the assertions taking them as
+   * {@code String}s. Default is {@value #PATTERN_CACHE_SIZE}.
+   * <p>
+   * See {@link CompiledPatternCache} for a detailed description.
+   *
+   * @return the maximum number of cached compiled patterns.
+   * @since 3.18.0
+   */
+  public int patternCacheSize() {
+    return patternCacheSize;
+  }
+
+  /**
+   * Sets how many compiled regular expressions and path matchers at most are cached by the assertions taking them as
+   * {@code String}s, 0 disables caching.
+   * <p>
+   * See {@link CompiledPatternCache} for a detailed description.
+   * <p>
+   * Note that this change will only be effective once {@link #apply()} or {@link #applyAndDisplay()} is called.
+   *
+   * @param patternCacheSize the maximum number of cached compiled patterns.
+   * @since 3.18.0
+   */
+  public void setPatternCacheSize(int patternCacheSize) {
+    this.patternCacheSize = patternCacheSize;
+  }
+
   public boolean printAssertionsDescription() {
     return printAssertionsDescription;
   }
@@ -305,6 +364,8 @@ public class Configuration {
     Assertions.setLenientDateParsing(lenientDateParsingEnabled());
     Assertions.setMaxElementsForPrinting(maxElementsForPrinting());
     Assertions.setMaxLengthForSingleLineDescription(maxLengthForSingleLineDescription());
+    Assertions.setMaxLengthForPrinting(maxLengthForPrinting());
+    CompiledPatternCache.instance().setMaxSize(patternCacheSize());
     Assertions.setRemoveAssertJRelatedElementsFromStackTrace(removeAssertJRelatedElementsFromStackTraceEnabled());
     Assertions.useRepresentation(representation());
     Assertions.setDescriptionConsumer(descriptionConsumer());
@@ -330,6 +391,8 @@ public class Configuration {
                   "- additional date formats ......................... = %s%n" +
                   "- maxLengthForSingleLineDescription ............... = %s%n" +
                   "- maxElementsForPrinting .......................... = %s%n" +
+                  "- maxLengthForPrinting ............................ = %s%n" +
+                  "- patternCacheSize ................................ = %s%n" +
                   "- printAssertionsDescription ...................... = %s%n" +
                   "- descriptionConsumer ............................. = %s%n" +
                   "- removeAssertJRelatedElementsFromStackTraceEnabled = %s%n",
@@ -342,6 +405,8 @@ public class Configuration {
                   describeAdditionalDateFormats(),
                   maxLengthForSingleLineDescription(),
                   maxElementsForPrinting(),
+                  maxLengthForPrinting(),
+                  patternCacheSize(),
                   printAssertionsDescription(),
                   descriptionConsumer(),
                   removeAssertJRelatedElementsFromStackTraceEnabled());
@@ -12,19 +12,107 @@
  */
 package org.assertj.core.error;
 
+import static java.lang.invoke.MethodType.methodType;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
 import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
 
 /**
  * Access to constructors using Java reflection.
+ * <p>
+ * Constructors are resolved once and then invoked through a {@link MethodHandle}, failing to resolve a constructor (for
+ * example when its class is not in the classpath) is also remembered and reported by throwing a new exception of the same
+ * type on each call. Like {@link Constructor#newInstance(Object...)}, anything thrown by the invoked constructor is wrapped
+ * in an {@link InvocationTargetException}.
+ * The resolutions are kept per class loader of this class as it is the one used to load the classes by name.
  *
  * @author Yvonne Wang
  * @author Alex Ruiz
  */
 public class ConstructorInvoker {
 
+  private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+  private static final Map<ConstructorSignature, ResolvedConstructor> RESOLVED_CONSTRUCTORS = new ConcurrentHashMap<>();
+
   public Object newInstance(String className, Class<?>[] parameterTypes, Object... parameterValues) throws Exception {
-    Class<?> targetType = Class.forName(className);
-    Constructor<?> constructor = targetType.getConstructor(parameterTypes);
-    return constructor.newInstance(parameterValues);
+    ConstructorSignature signature = new ConstructorSignature(className, parameterTypes);
+    ResolvedConstructor resolvedConstructor = RESOLVED_CONSTRUCTORS.computeIfAbsent(signature, ConstructorInvoker::resolve);
+    return resolvedConstructor.newInstance(parameterValues);
+  }
+
+  private static ResolvedConstructor resolve(ConstructorSignature signature) {
+    try {
+      Class<?> targetType = Class.forName(signature.className);
+      Constructor<?> constructor = targetType.getConstructor(signature.parameterTypes);
+      // (Object[])Object handle taking the constructor arguments as an array
+      MethodHandle constructorHandle = LOOKUP.unreflectConstructor(constructor)
+                                             .asSpreader(Object[].class, signature.parameterTypes.length)
+                                             .asType(methodType(Object.class, Object[].class));
+      return new ResolvedConstructor(constructorHandle, null);
+    } catch (Exception e) {
+      return new ResolvedConstructor(null, resolutionFailureFactory(e));
+    }
+  }
+
+  // only the type and message of the failure are kept, throwing the same instance would share a stale stack trace
+  private static Supplier<Exception> resolutionFailureFactory(Exception resolutionFailure) {
+    String message = resolutionFailure.getMessage();
+    if (resolutionFailure instanceof ClassNotFoundException) return () -> new ClassNotFoundException(message);
+    if (resolutionFailure instanceof NoSuchMethodException) return () -> new NoSuchMethodException(message);
+    if (resolutionFailure instanceof IllegalAccessException) return () -> new IllegalAccessException(message);
+    if (resolutionFailure instanceof SecurityException) return () -> new SecurityException(message);
+    String description = resolutionFailure.toString();
+    return () -> new IllegalStateException(description);
+  }
+
+  private static final class ResolvedConstructor {
+    private final MethodHandle constructorHandle;
+    // null if the constructor could be resolved
+    private final Supplier<Exception> resolutionFailureFactory;
+
+    private ResolvedConstructor(MethodHandle constructorHandle, Supplier<Exception> resolutionFailureFactory) {
+      this.constructorHandle = constructorHandle;
+      this.resolutionFailureFactory = resolutionFailureFactory;
+    }
+
+    private Object newInstance(Object[] parameterValues) throws Exception {
+      if (resolutionFailureFactory != null) throw resolutionFailureFactory.get();
+      try {
+        return (Object) constructorHandle.invokeExact(parameterValues);
+      } catch (Throwable t) {
+        // like Constructor.newInstance, callers expect constructor failures (including errors) as a checked exception
+        throw new InvocationTargetException(t);
+      }
+    }
+  }
+
+  private static final class ConstructorSignature {
+    private final String className;
+    private final Class<?>[] parameterTypes;
+
+    private ConstructorSignature(String className, Class<?>[] parameterTypes) {
+      this.className = className;
+      this.parameterTypes = parameterTypes;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      if (this == obj) return true;
+      if (!(obj instanceof ConstructorSignature)) return false;
+      ConstructorSignature other = (ConstructorSignature) obj;
+      return Objects.equals(className, other.className) && Arrays.equals(parameterTypes, other.parameterTypes);
+    }
+
+    @Override
+    public int hashCode() {
+      return 31 * Objects.hashCode(className) + Arrays.hashCode(parameterTypes);
+    }
   }
 }
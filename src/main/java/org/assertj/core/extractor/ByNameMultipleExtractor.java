@@ -24,9 +24,12 @@ import org.assertj.core.groups.Tuple;
 class ByNameMultipleExtractor implements Function<Object, Tuple> {
 
   private final String[] fieldsOrProperties;
+  // built once as they resolve how to read their property/field for all the extracted elements
+  private final List<Function<Object, Object>> extractors;
 
   ByNameMultipleExtractor(String... fieldsOrProperties) {
     this.fieldsOrProperties = fieldsOrProperties;
+    this.extractors = fieldsOrProperties == null ? null : buildExtractors();
   }
 
   @Override
@@ -35,18 +38,19 @@ class ByNameMultipleExtractor implements Function<Object, Tuple> {
     checkArgument(fieldsOrProperties.length > 0, "The names of the fields/properties to read should not be empty");
     checkArgument(input != null, "The object to extract fields/properties from should not be null");
 
-    List<Function<Object, Object>> extractors = buildExtractors();
-    List<Object> values = extractValues(input, extractors);
-
-    return new Tuple(values.toArray());
+    return new Tuple(extractValues(input));
   }
 
   private List<Function<Object, Object>> buildExtractors() {
     return Arrays.stream(fieldsOrProperties).map(ByNameSingleExtractor::new).collect(toList());
   }
 
-  private List<Object> extractValues(Object input, List<Function<Object, Object>> singleExtractors) {
-    return singleExtractors.stream().map(extractor -> extractor.apply(input)).collect(toList());
+  private Object[] extractValues(Object input) {
+    Object[] values = new Object[extractors.size()];
+    for (int i = 0; i < values.length; i++) {
+      values[i] = extractors.get(i).apply(input);
+    }
+    return values;
   }
 
 }
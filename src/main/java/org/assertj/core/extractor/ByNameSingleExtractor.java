@@ -18,15 +18,16 @@ import org.assertj.core.util.introspection.PropertyOrFieldSupport;
 
 class ByNameSingleExtractor implements Function<Object, Object> {
 
-  private final String propertyOrFieldName;
+  // the name is parsed and its value reading resolved once for all the extracted elements
+  private final Function<Object, Object> valueReader;
 
   ByNameSingleExtractor(String propertyOrFieldName) {
-    this.propertyOrFieldName = propertyOrFieldName;
+    this.valueReader = PropertyOrFieldSupport.EXTRACTION.valueReaderOf(propertyOrFieldName);
   }
 
   @Override
   public Object apply(Object input) {
-    return PropertyOrFieldSupport.EXTRACTION.getValueOf(propertyOrFieldName, input);
+    return valueReader.apply(input);
   }
 
 }
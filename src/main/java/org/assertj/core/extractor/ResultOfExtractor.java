@@ -25,10 +25,11 @@ import org.assertj.core.util.introspection.MethodSupport;
  */
 class ResultOfExtractor implements Function<Object, Object> {
 
-  private final String methodName;
+  // the method is looked up once for all the extracted elements of the same class
+  private final Function<Object, Object> methodResultReader;
 
   ResultOfExtractor(String methodName) {
-    this.methodName = methodName;
+    this.methodResultReader = MethodSupport.methodResultReader(methodName);
   }
 
   /**
@@ -36,7 +37,7 @@ class ResultOfExtractor implements Function<Object, Object> {
    */
   @Override
   public Object apply(Object input) {
-    return MethodSupport.methodResultFor(input, methodName);
+    return methodResultReader.apply(input);
   }
 
 }
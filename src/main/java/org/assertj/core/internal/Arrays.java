@@ -14,6 +14,7 @@ package org.assertj.core.internal;
 
 import static java.lang.reflect.Array.getLength;
 import static java.util.Objects.requireNonNull;
+import static java.util.stream.Collectors.toList;
 import static org.assertj.core.error.ConditionAndGroupGenericParameterTypeShouldBeTheSame.shouldBeSameGenericBetweenIterableAndCondition;
 import static org.assertj.core.error.ElementsShouldBe.elementsShouldBe;
 import static org.assertj.core.error.ElementsShouldBeAtLeast.elementsShouldBeAtLeast;
@@ -68,6 +69,9 @@ import static org.assertj.core.internal.CommonValidations.checkSizeLessThanOrEqu
 import static org.assertj.core.internal.CommonValidations.checkSizes;
 import static org.assertj.core.internal.CommonValidations.hasSameSizeAsCheck;
 import static org.assertj.core.internal.IterableDiff.diff;
+import static org.assertj.core.internal.SortedPrimitiveElements.areComparablePrimitiveArrays;
+import static org.assertj.core.internal.SortedPrimitiveElements.keysOf;
+import static org.assertj.core.internal.SortedPrimitiveElements.sortedElementsOf;
 import static org.assertj.core.util.ArrayWrapperList.wrap;
 import static org.assertj.core.util.Arrays.isArray;
 import static org.assertj.core.util.Arrays.prepend;
@@ -83,6 +87,7 @@ import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Set;
+import java.util.stream.IntStream;
 
 import org.assertj.core.api.AssertionInfo;
 import org.assertj.core.api.Condition;
@@ -101,7 +106,9 @@ import org.assertj.core.util.VisibleForTesting;
 public class Arrays {
 
   private static final Arrays INSTANCE = new Arrays();
+  private static final int NOT_FOUND = -1;
   private final ComparisonStrategy comparisonStrategy;
+  private final boolean parallel;
 
   /**
    * Returns the singleton instance of this class based on {@link StandardComparisonStrategy}.
@@ -117,7 +124,27 @@ public class Arrays {
   }
 
   public Arrays(ComparisonStrategy comparisonStrategy) {
+    this(comparisonStrategy, false);
+  }
+
+  private Arrays(ComparisonStrategy comparisonStrategy, boolean parallel) {
     this.comparisonStrategy = comparisonStrategy;
+    this.parallel = parallel;
+  }
+
+  /**
+   * Returns an {@code Arrays} with the same comparison strategy that evaluates element-wise conditions in parallel (in
+   * the common {@link java.util.concurrent.ForkJoinPool}), reported elements are kept in their original order.
+   *
+   * @return an {@code Arrays} evaluating elements in parallel.
+   */
+  public Arrays inParallel() {
+    return parallel ? this : new Arrays(comparisonStrategy, true);
+  }
+
+  @VisibleForTesting
+  public boolean isParallel() {
+    return parallel;
   }
 
   @VisibleForTesting
@@ -195,6 +222,7 @@ public class Arrays {
   @VisibleForTesting
   public void assertContains(AssertionInfo info, Failures failures, Object actual, Object values) {
     if (commonChecks(info, actual, values)) return;
+    if (canCheckPrimitiveElements(actual, values) && sortedElementsOf(actual).containsAll(keysOf(values))) return;
     Set<Object> notFound = new LinkedHashSet<>();
     int valueCount = sizeOf(values);
     for (int i = 0; i < valueCount; i++) {
@@ -242,6 +270,8 @@ public class Arrays {
 
   void assertContainsOnly(AssertionInfo info, Failures failures, Object actual, Object values) {
     if (commonChecks(info, actual, values)) return;
+    if (canCheckPrimitiveElements(actual, values)
+        && sortedElementsOf(actual).hasSameDistinctElementsAs(sortedElementsOf(values))) return;
     List<Object> notExpected = asList(actual);
     List<Object> notFound = asList(values);
 
@@ -275,6 +305,8 @@ public class Arrays {
     if (commonChecks(info, actual, values)) return;
     assertIsArray(info, actual);
     assertIsArray(info, values);
+    // the standard comparison compares primitive arrays element by element
+    if (canCheckPrimitiveElements(actual, values) && areEqual(actual, values)) return;
 
     List<Object> actualAsList = asList(actual);
     IterableDiff diff = diff(actualAsList, asList(values), comparisonStrategy);
@@ -296,25 +328,19 @@ public class Arrays {
 
   void assertContainsExactlyInAnyOrder(AssertionInfo info, Failures failures, Object actual, Object values) {
     if (commonChecks(info, actual, values)) return;
-    List<Object> notExpected = asList(actual);
-    List<Object> notFound = asList(values);
-
-    for (Object value : asList(values)) {
-      if (iterableContains(notExpected, value)) {
-        iterablesRemoveFirst(notExpected, value);
-        iterablesRemoveFirst(notFound, value);
-      }
-    }
-
-    if (notExpected.isEmpty() && notFound.isEmpty()) return;
+    if (canCheckPrimitiveElements(actual, values)
+        && sortedElementsOf(actual).hasSameElementsAs(sortedElementsOf(values))) return;
+    IterableDiff diff = diff(asList(actual), asList(values), comparisonStrategy);
+    if (!diff.differencesFound()) return;
 
     throw failures.failure(info,
-                           shouldContainExactlyInAnyOrder(actual, values, notFound, notExpected, comparisonStrategy));
+                           shouldContainExactlyInAnyOrder(actual, values, diff.missing, diff.unexpected, comparisonStrategy));
   }
 
   void assertContainsOnlyOnce(AssertionInfo info, Failures failures, Object actual, Object values) {
     if (commonChecks(info, actual, values))
       return;
+    if (canCheckPrimitiveElements(actual, values) && sortedElementsOf(actual).containsEachOnlyOnce(keysOf(values))) return;
     Iterable<?> actualDuplicates = comparisonStrategy.duplicatesFrom(asList(actual));
     Set<Object> notFound = new LinkedHashSet<>();
     Set<Object> notOnlyOnce = new LinkedHashSet<>();
@@ -330,12 +356,16 @@ public class Arrays {
     // assertion succeeded
   }
 
-  private boolean iterableContains(Iterable<?> actual, Object value) {
-    return comparisonStrategy.iterableContains(actual, value);
+  /**
+   * Primitive arrays compared with the standard comparison strategy are checked on their primitive elements without
+   * boxing them, the generic checks only run when this first check fails to build the error message.
+   */
+  private boolean canCheckPrimitiveElements(Object actual, Object values) {
+    return comparisonStrategy.isStandard() && areComparablePrimitiveArrays(actual, values);
   }
 
-  private void iterablesRemoveFirst(Collection<?> actual, Object value) {
-    comparisonStrategy.iterablesRemoveFirst(actual, value);
+  private boolean iterableContains(Iterable<?> actual, Object value) {
+    return comparisonStrategy.iterableContains(actual, value);
   }
 
   private void iterableRemoves(Collection<?> actual, Object value) {
@@ -344,42 +374,35 @@ public class Arrays {
 
   void assertContainsSequence(AssertionInfo info, Failures failures, Object actual, Object sequence) {
     if (commonChecks(info, actual, sequence)) return;
-    // look for given sequence, stop check when there are not enough elements remaining in actual to contain sequence
-    int lastIndexWhereSequenceCanBeFound = sizeOf(actual) - sizeOf(sequence);
-    for (int actualIndex = 0; actualIndex <= lastIndexWhereSequenceCanBeFound; actualIndex++) {
-      if (containsSequenceAtGivenIndex(actualIndex, actual, sequence)) return;
-    }
+    if (indexOfSequence(actual, sequence) != -1) return;
     throw failures.failure(info, shouldContainSequence(actual, sequence, comparisonStrategy));
   }
 
   void assertDoesNotContainSequence(AssertionInfo info, Failures failures, Object actual, Object sequence) {
     if (commonChecks(info, actual, sequence)) return;
 
-    // look for given sequence, stop check when there are not enough elements remaining in actual to contain sequence
-    int lastIndexWhereSequenceCanBeFound = sizeOf(actual) - sizeOf(sequence);
-    for (int actualIndex = 0; actualIndex <= lastIndexWhereSequenceCanBeFound; actualIndex++) {
-      if (containsSequenceAtGivenIndex(actualIndex, actual, sequence)) {
-        throw failures.failure(info, shouldNotContainSequence(actual, sequence, actualIndex, comparisonStrategy));
-      }
+    int sequenceIndex = indexOfSequence(actual, sequence);
+    if (sequenceIndex != -1) {
+      throw failures.failure(info, shouldNotContainSequence(actual, sequence, sequenceIndex, comparisonStrategy));
     }
   }
 
   /**
-   * Return true if actualArray contains exactly the given sequence at given starting index, false otherwise.
+   * Returns the index of the first occurrence of the given sequence in actualArray, -1 if there is none.
    *
-   * @param actualStartIndex the index to start looking for sequence in actualArray
    * @param actualArray the actual array to search sequence in
-   * @param sequence the sequence to look for
-   * @return true if actualArray contains exactly the given sequence at given starting index, false otherwise.
+   * @param sequence the non empty sequence to look for
+   * @return the index of the first occurrence of the given sequence in actualArray, -1 if there is none.
    */
-  private boolean containsSequenceAtGivenIndex(int actualStartIndex, Object actualArray, Object sequence) {
+  private int indexOfSequence(Object actualArray, Object sequence) {
     int sequenceSize = sizeOf(sequence);
-    for (int i = 0; i < sequenceSize; i++) {
-      if (areEqual(Array.get(sequence, i), Array.get(actualArray, i + actualStartIndex)))
-        continue;
-      return false;
+    SequenceMatcher sequenceMatcher = SequenceMatcher.comparingSequenceElementsFirst(asList(sequence).toArray(),
+                                                                                     comparisonStrategy);
+    int actualSize = sizeOf(actualArray);
+    for (int i = 0; i < actualSize; i++) {
+      if (sequenceMatcher.completesSequence(Array.get(actualArray, i))) return i - sequenceSize + 1;
     }
-    return true;
+    return -1;
   }
 
   void assertContainsSubsequence(AssertionInfo info, Failures failures, Object actual, Object subsequence) {
@@ -459,6 +482,7 @@ public class Arrays {
   void assertDoesNotContain(AssertionInfo info, Failures failures, Object array, Object values) {
     checkIsNotNullAndNotEmpty(values);
     assertNotNull(info, array);
+    if (canCheckPrimitiveElements(array, values) && sortedElementsOf(array).containsNoneOf(keysOf(values))) return;
     Set<Object> found = new LinkedHashSet<>();
     int valuesSize = sizeOf(values);
     for (int i = 0; i < valuesSize; i++) {
@@ -474,6 +498,7 @@ public class Arrays {
 
   void assertDoesNotHaveDuplicates(AssertionInfo info, Failures failures, Object array) {
     assertNotNull(info, array);
+    if (canCheckPrimitiveElements(array, array) && !sortedElementsOf(array).hasDuplicates()) return;
     ArrayWrapperList wrapped = wrap(array);
     Iterable<?> duplicates = comparisonStrategy.duplicatesFrom(wrapped);
     if (!isNullOrEmpty(duplicates))
@@ -655,6 +680,13 @@ public class Arrays {
     assertNotNull(info, array);
     conditions.assertIsNotNull(condition);
     try {
+      if (parallel) {
+        // the ordered parallel stream keeps the filtered elements in their array order
+        return IntStream.range(0, sizeOf(array)).parallel()
+                        .mapToObj(i -> (E) Array.get(array, i))
+                        .filter(element -> negateCondition != condition.matches(element))
+                        .collect(toList());
+      }
       List<E> filteredElements = new LinkedList<>();
       int arraySize = sizeOf(array);
       for (int i = 0; i < arraySize; i++) {
@@ -679,16 +711,9 @@ public class Arrays {
     if (sizeOf(array) == 0) return;
     assertThatArrayComponentTypeIsSortable(info, failures, array);
     try {
-      // sorted assertion is only relevant if array elements are Comparable
-      // => we should be able to build a Comparable array
-      Comparable<Object>[] comparableArray = arrayOfComparableItems(array);
-      // array with 0 or 1 element are considered sorted.
-      if (comparableArray.length <= 1) return;
-      for (int i = 0; i < comparableArray.length - 1; i++) {
-        // array is sorted in ascending order iif element i is less or equal than element i+1
-        if (comparableArray[i].compareTo(comparableArray[i + 1]) > 0)
-          throw failures.failure(info, shouldBeSorted(i, array));
-      }
+      // sorted assertion is only relevant if array elements are Comparable which the component type check ensures
+      int unsortedIndex = indexOfFirstUnsortedElement(array);
+      if (unsortedIndex != NOT_FOUND) throw failures.failure(info, shouldBeSorted(unsortedIndex, array));
     } catch (ClassCastException e) {
       // elements are either not Comparable or not mutually Comparable (e.g. array with String and Integer)
       throw failures.failure(info, shouldHaveMutuallyComparableElements(array));
@@ -700,19 +725,24 @@ public class Arrays {
                                                       Comparator<T> comparator) {
     assertNotNull(info, array);
     requireNonNull(comparator, "The given comparator should not be null");
+    checkArgument(isArray(array), "The object should be an array");
     try {
-      List<T> arrayAsList = asList(array);
+      int size = sizeOf(array);
       // empty arrays are considered sorted even if comparator can't be applied to <T>.
-      if (arrayAsList.size() == 0) return;
-      if (arrayAsList.size() == 1) {
+      if (size == 0) return;
+      if (size == 1) {
         // call compare to see if unique element is compatible with comparator.
-        comparator.compare(arrayAsList.get(0), arrayAsList.get(0));
+        T uniqueElement = elementAt(array, 0);
+        comparator.compare(uniqueElement, uniqueElement);
         return;
       }
-      for (int i = 0; i < arrayAsList.size() - 1; i++) {
+      T element = elementAt(array, 0);
+      for (int i = 0; i < size - 1; i++) {
+        T nextElement = elementAt(array, i + 1);
         // array is sorted in comparator defined order iif element i is less or equal than element i+1
-        if (comparator.compare(arrayAsList.get(i), arrayAsList.get(i + 1)) > 0)
+        if (comparator.compare(element, nextElement) > 0)
           throw failures.failure(info, shouldBeSortedAccordingToGivenComparator(i, array, comparator));
+        element = nextElement;
       }
     } catch (ClassCastException e) {
       throw failures.failure(info, shouldHaveComparableElementsAccordingToGivenComparator(array, comparator));
@@ -731,19 +761,68 @@ public class Arrays {
     return list;
   }
 
+  // elements of primitive arrays are read without boxing them, comparisons follow the natural order of the boxed values
   @SuppressWarnings("unchecked")
-  private static Comparable<Object>[] arrayOfComparableItems(Object array) {
-    ArrayWrapperList arrayWrapperList = wrap(array);
-    Comparable<Object>[] arrayOfComparableItems = new Comparable[arrayWrapperList.size()];
-    for (int i = 0; i < arrayWrapperList.size(); i++) {
-      arrayOfComparableItems[i] = (Comparable<Object>) arrayWrapperList.get(i);
+  private static int indexOfFirstUnsortedElement(Object array) {
+    if (array instanceof Object[]) {
+      Object[] elements = (Object[]) array;
+      for (int i = 0; i < elements.length - 1; i++) {
+        if (((Comparable<Object>) elements[i]).compareTo(elements[i + 1]) > 0) return i;
+      }
+    } else if (array instanceof int[]) {
+      int[] elements = (int[]) array;
+      for (int i = 0; i < elements.length - 1; i++) {
+        if (elements[i] > elements[i + 1]) return i;
+      }
+    } else if (array instanceof long[]) {
+      long[] elements = (long[]) array;
+      for (int i = 0; i < elements.length - 1; i++) {
+        if (elements[i] > elements[i + 1]) return i;
+      }
+    } else if (array instanceof double[]) {
+      double[] elements = (double[]) array;
+      for (int i = 0; i < elements.length - 1; i++) {
+        // Double.compare orders -0.0 before 0.0 and NaN after any other value as Double.compareTo does
+        if (Double.compare(elements[i], elements[i + 1]) > 0) return i;
+      }
+    } else if (array instanceof float[]) {
+      float[] elements = (float[]) array;
+      for (int i = 0; i < elements.length - 1; i++) {
+        if (Float.compare(elements[i], elements[i + 1]) > 0) return i;
+      }
+    } else if (array instanceof short[]) {
+      short[] elements = (short[]) array;
+      for (int i = 0; i < elements.length - 1; i++) {
+        if (elements[i] > elements[i + 1]) return i;
+      }
+    } else if (array instanceof byte[]) {
+      byte[] elements = (byte[]) array;
+      for (int i = 0; i < elements.length - 1; i++) {
+        if (elements[i] > elements[i + 1]) return i;
+      }
+    } else if (array instanceof char[]) {
+      char[] elements = (char[]) array;
+      for (int i = 0; i < elements.length - 1; i++) {
+        if (elements[i] > elements[i + 1]) return i;
+      }
+    } else {
+      boolean[] elements = (boolean[]) array;
+      for (int i = 0; i < elements.length - 1; i++) {
+        // false is less than true
+        if (elements[i] && !elements[i + 1]) return i;
+      }
     }
-    return arrayOfComparableItems;
+    return NOT_FOUND;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <T> T elementAt(Object array, int index) {
+    if (array instanceof Object[]) return (T) ((Object[]) array)[index];
+    return (T) Array.get(array, index);
   }
 
   private static void assertThatArrayComponentTypeIsSortable(AssertionInfo info, Failures failures, Object array) {
-    ArrayWrapperList arrayAsList = wrap(array);
-    Class<?> arrayComponentType = arrayAsList.getComponentType();
+    Class<?> arrayComponentType = array.getClass().getComponentType();
     if (arrayComponentType.isPrimitive()) return;
     if (!Comparable.class.isAssignableFrom(arrayComponentType))
       throw failures.failure(info, shouldHaveMutuallyComparableElements(array));
@@ -12,10 +12,16 @@
  */
 package org.assertj.core.internal;
 
+import static java.lang.Math.min;
+import static java.nio.file.StandardOpenOption.READ;
+
 import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.file.Files;
 import java.nio.file.Path;
 
@@ -24,17 +30,34 @@ import org.assertj.core.util.VisibleForTesting;
 
 /**
  * Compares the binary content of two inputStreams/paths.
+ * <p>
+ * Contents are compared block by block, regular files being read region by region in direct buffers. They are not
+ * memory-mapped as a mapping can't be released on demand and keeps the file locked on some platforms until it is
+ * garbage collected.
  * 
  * @author Olivier Michallat
  */
 @VisibleForTesting
 public class BinaryDiff {
 
+  private static final int EOF = -1;
+  private static final int NO_MISMATCH = -1;
+  @VisibleForTesting
+  static final int BLOCK_SIZE = 8192;
+  // bounds the memory read at once when comparing large files
+  @VisibleForTesting
+  static final int REGION_SIZE = 16 * 1024 * 1024;
+
   @VisibleForTesting
   public BinaryDiffResult diff(File actual, byte[] expected) throws IOException {
     return diff(actual.toPath(), expected);
   }
 
+  @VisibleForTesting
+  public BinaryDiffResult diff(File actual, File expected) throws IOException {
+    return diff(actual.toPath(), expected.toPath());
+  }
+
   @VisibleForTesting
   public BinaryDiffResult diff(Path actual, byte[] expected) throws IOException {
     try (InputStream actualStream = Files.newInputStream(actual)) {
@@ -42,6 +65,40 @@ public class BinaryDiff {
     }
   }
 
+  @VisibleForTesting
+  public BinaryDiffResult diff(Path actual, Path expected) throws IOException {
+    // the size of special files like pipes or devices is not their content size, they are read as streams
+    if (!Files.isRegularFile(actual) || !Files.isRegularFile(expected)) {
+      try (InputStream actualStream = Files.newInputStream(actual);
+          InputStream expectedStream = Files.newInputStream(expected)) {
+        return diff(actualStream, expectedStream);
+      }
+    }
+    try (FileChannel actualChannel = FileChannel.open(actual, READ);
+        FileChannel expectedChannel = FileChannel.open(expected, READ)) {
+      long commonSize = min(actualChannel.size(), expectedChannel.size());
+      // buffers are reused for all the regions, they are not larger than the files
+      int bufferSize = (int) min(REGION_SIZE, commonSize);
+      ByteBuffer actualRegion = ByteBuffer.allocateDirect(bufferSize);
+      ByteBuffer expectedRegion = ByteBuffer.allocateDirect(bufferSize);
+      for (long position = 0; position < commonSize; position += REGION_SIZE) {
+        int regionSize = (int) min(REGION_SIZE, commonSize - position);
+        int length = min(readRegion(actualChannel, position, regionSize, actualRegion),
+                         readRegion(expectedChannel, position, regionSize, expectedRegion));
+        int mismatch = mismatch(actualRegion, expectedRegion, length);
+        if (mismatch != NO_MISMATCH) {
+          return new BinaryDiffResult(position + mismatch, Byte.toUnsignedInt(expectedRegion.get(mismatch)),
+                                      Byte.toUnsignedInt(actualRegion.get(mismatch)));
+        }
+        // a file truncated while being read, the sizes compared below tell how they differ
+        if (length < regionSize) break;
+      }
+      if (actualChannel.size() == expectedChannel.size()) return BinaryDiffResult.noDiff();
+      // one file is a prefix of the other, they differ right after the end of the shorter one
+      return new BinaryDiffResult(commonSize, byteAt(expectedChannel, commonSize), byteAt(actualChannel, commonSize));
+    }
+  }
+
   @VisibleForTesting
   public BinaryDiffResult diff(InputStream actualStream, byte[] expected) throws IOException {
     try (InputStream expectedStream = new ByteArrayInputStream(expected)) {
@@ -51,13 +108,80 @@ public class BinaryDiff {
 
   @VisibleForTesting
   public BinaryDiffResult diff(InputStream actualStream, InputStream expectedStream) throws IOException {
-    int index = 0;
+    byte[] actualBlock = new byte[BLOCK_SIZE];
+    byte[] expectedBlock = new byte[BLOCK_SIZE];
+    long offset = 0;
     while (true) {
-      int actual = actualStream.read();
-      int expected = expectedStream.read();
-      if (actual == -1 && expected == -1) return BinaryDiffResult.noDiff(); // reached end of both streams
-      if (actual != expected) return new BinaryDiffResult(index, expected, actual);
-      index += 1;
+      int actualLength = readBlock(actualStream, actualBlock);
+      int expectedLength = readBlock(expectedStream, expectedBlock);
+      int commonLength = min(actualLength, expectedLength);
+      int mismatch = mismatch(actualBlock, expectedBlock, commonLength);
+      if (mismatch != NO_MISMATCH) {
+        return new BinaryDiffResult(offset + mismatch, Byte.toUnsignedInt(expectedBlock[mismatch]),
+                                    Byte.toUnsignedInt(actualBlock[mismatch]));
+      }
+      if (actualLength != expectedLength) {
+        // blocks are only partially filled at the end of a stream, the shorter one has reached its end
+        return new BinaryDiffResult(offset + commonLength, byteAt(expectedBlock, expectedLength, commonLength),
+                                    byteAt(actualBlock, actualLength, commonLength));
+      }
+      if (actualLength < BLOCK_SIZE) return BinaryDiffResult.noDiff(); // reached end of both streams
+      offset += BLOCK_SIZE;
+    }
+  }
+
+  /**
+   * Fills the given block with the next bytes of the stream, it is only partially filled when the end of the stream is
+   * reached.
+   */
+  private static int readBlock(InputStream stream, byte[] block) throws IOException {
+    int length = 0;
+    while (length < block.length) {
+      int read = stream.read(block, length, block.length - length);
+      if (read == EOF) break;
+      length += read;
     }
+    return length;
+  }
+
+  /**
+   * Reads the region of the given size starting at position into the buffer, it is only partially filled when the end
+   * of the file is reached.
+   */
+  private static int readRegion(FileChannel channel, long position, int regionSize, ByteBuffer region) throws IOException {
+    // called on Buffer as ByteBuffer overrides clear from Java 9, which would not link on Java 8
+    ((Buffer) region).clear().limit(regionSize);
+    while (region.hasRemaining()) {
+      if (channel.read(region, position + region.position()) == EOF) break;
+    }
+    return region.position();
+  }
+
+  private static int mismatch(byte[] actual, byte[] expected, int length) {
+    for (int i = 0; i < length; i++) {
+      if (actual[i] != expected[i]) return i;
+    }
+    return NO_MISMATCH;
+  }
+
+  // compares both buffers from their start, a long at a time then byte by byte for the remaining ones
+  private static int mismatch(ByteBuffer actual, ByteBuffer expected, int length) {
+    int i = 0;
+    for (; i <= length - Long.BYTES; i += Long.BYTES) {
+      if (actual.getLong(i) != expected.getLong(i)) break;
+    }
+    for (; i < length; i++) {
+      if (actual.get(i) != expected.get(i)) return i;
+    }
+    return NO_MISMATCH;
+  }
+
+  private static int byteAt(byte[] block, int length, int index) {
+    return index < length ? Byte.toUnsignedInt(block[index]) : EOF;
+  }
+
+  private static int byteAt(FileChannel channel, long position) throws IOException {
+    ByteBuffer singleByte = ByteBuffer.allocate(1);
+    return channel.read(singleByte, position) == EOF ? EOF : Byte.toUnsignedInt(singleByte.get(0));
   }
 }
@@ -20,9 +20,16 @@ package org.assertj.core.internal;
 public class BinaryDiffResult {
   private static final int EOF = -1;
 
+  /**
+   * The offset at which the difference occurred, {@link Integer#MAX_VALUE} if it does not fit in an {@code int}.
+   *
+   * @deprecated use {@link #getOffset()} instead which supports offsets of contents larger than 2GB.
+   */
+  @Deprecated
   public final int offset;
   public final String expected;
   public final String actual;
+  private final long longOffset;
 
   /**
    * Builds a new instance.
@@ -32,13 +39,34 @@ public class BinaryDiffResult {
    * @param actual the actual byte in the same format.
    */
   public BinaryDiffResult(int offset, int expected, int actual) {
-    this.offset = offset;
+    this((long) offset, expected, actual);
+  }
+
+  /**
+   * Builds a new instance.
+   *
+   * @param offset the offset at which the difference occurred.
+   * @param expected the expected byte as an int in the range 0 to 255, or -1 for EOF.
+   * @param actual the actual byte in the same format.
+   */
+  public BinaryDiffResult(long offset, int expected, int actual) {
+    this.longOffset = offset;
+    this.offset = (int) Math.min(offset, Integer.MAX_VALUE);
     this.expected = describe(expected);
     this.actual = describe(actual);
   }
 
+  /**
+   * Returns the offset at which the difference occurred.
+   *
+   * @return the offset at which the difference occurred.
+   */
+  public long getOffset() {
+    return longOffset;
+  }
+
   public boolean hasNoDiff() {
-    return offset == EOF;
+    return longOffset == EOF;
   }
 
   public boolean hasDiff() {
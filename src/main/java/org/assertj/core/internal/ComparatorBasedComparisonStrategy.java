@@ -202,13 +202,18 @@ public class ComparatorBasedComparisonStrategy extends AbstractComparisonStrateg
 
   @Override
   public boolean stringContains(String string, String sequence) {
+    return stringIndexOf(string, sequence, 0) != -1;
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public int stringIndexOf(String string, String sequence, int fromIndex) {
     int sequenceLength = sequence.length();
-    for (int i = 0; i < string.length(); i++) {
-      String subString = string.substring(i);
-      if (subString.length() < sequenceLength) return false;
-      if (stringStartsWith(subString, sequence)) return true;
+    for (int i = fromIndex; i <= string.length() - sequenceLength; i++) {
+      // the comparator expects Strings, only the candidate window is copied, not the rest of string
+      if (comparator.compare(string.substring(i, i + sequenceLength), sequence) == 0) return i;
     }
-    return false;
+    return -1;
   }
 
   @Override
@@ -130,6 +130,28 @@ public interface ComparisonStrategy {
    */
   boolean stringContains(String string, String sequence);
 
+  /**
+   * Returns the index of the first occurrence of sequence in string at or after fromIndex according to the implemented
+   * comparison strategy, -1 if there is none.
+   * <p>
+   * The default implementation relies on {@link #stringStartsWith(String, String)}, implementations are expected to
+   * override it to search in place.
+   *
+   * @param string the string to search sequence in (must not be null)
+   * @param sequence the String to look for in given string (must not be null)
+   * @param fromIndex the index to start the search from (must not be negative)
+   * @return the index of the first occurrence of sequence in string at or after fromIndex, -1 if there is none.
+   * @since 3.18.0
+   */
+  default int stringIndexOf(String string, String sequence, int fromIndex) {
+    int sequenceLength = sequence.length();
+    for (int i = fromIndex; i <= string.length() - sequenceLength; i++) {
+      // only the candidate window is copied, not the rest of string
+      if (stringStartsWith(string.substring(i, i + sequenceLength), sequence)) return i;
+    }
+    return -1;
+  }
+
   /**
    * Returns true if string starts with prefix according to the implemented comparison strategy, false otherwise.
    * 
@@ -0,0 +1,215 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2020 the original author or authors.
+ */
+package org.assertj.core.internal;
+
+import static org.assertj.core.util.Preconditions.checkArgument;
+
+import java.nio.file.FileSystem;
+import java.nio.file.PathMatcher;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+
+import org.assertj.core.configuration.Configuration;
+
+/**
+ * Bounded least recently used cache of the compiled regular expressions and {@link PathMatcher}s used by assertions
+ * taking them as {@code String}s, this avoids compiling the same expressions again and again when they are used to check
+ * many values.
+ * <p>
+ * The cache is shared by all threads, {@link Pattern}s and the default file system {@link PathMatcher}s being immutable.
+ * Its size can be changed with {@link Configuration#setPatternCacheSize(int)}, a size of 0 disables caching.
+ * <p>
+ * Hit and miss counts are available to check that the cache size fits the expressions used by a test suite.
+ *
+ * @since 3.18.0
+ */
+public final class CompiledPatternCache {
+
+  private static final CompiledPatternCache INSTANCE = new CompiledPatternCache(Configuration.PATTERN_CACHE_SIZE);
+
+  // guarded by this, LinkedHashMap in access order evicts the least recently used entry
+  private final Map<Key, Object> compiledPatterns = new LinkedHashMap<Key, Object>(16, 0.75f, true) {
+    private static final long serialVersionUID = 1L;
+
+    @Override
+    protected boolean removeEldestEntry(Map.Entry<Key, Object> eldest) {
+      return size() > maxSize;
+    }
+  };
+  private final AtomicLong hitCount = new AtomicLong();
+  private final AtomicLong missCount = new AtomicLong();
+  private int maxSize;
+
+  /**
+   * Returns the singleton instance of this class.
+   *
+   * @return the singleton instance of this class.
+   */
+  public static CompiledPatternCache instance() {
+    return INSTANCE;
+  }
+
+  CompiledPatternCache(int maxSize) {
+    checkMaxSize(maxSize);
+    this.maxSize = maxSize;
+  }
+
+  /**
+   * Returns the compiled {@link Pattern} of the given regular expression.
+   *
+   * @param regex the regular expression to compile.
+   * @return the compiled {@link Pattern} of the given regular expression.
+   * @throws java.util.regex.PatternSyntaxException if the regular expression's syntax is invalid.
+   */
+  public Pattern pattern(String regex) {
+    return pattern(regex, 0);
+  }
+
+  /**
+   * Returns the compiled {@link Pattern} of the given regular expression with the given flags.
+   *
+   * @param regex the regular expression to compile.
+   * @param flags the {@link Pattern} match flags.
+   * @return the compiled {@link Pattern} of the given regular expression.
+   * @throws java.util.regex.PatternSyntaxException if the regular expression's syntax is invalid.
+   */
+  public Pattern pattern(String regex, int flags) {
+    return get(new Key(regex, flags, null), () -> Pattern.compile(regex, flags));
+  }
+
+  /**
+   * Returns the {@link PathMatcher} of the given file system for the given syntax and pattern, see
+   * {@link FileSystem#getPathMatcher(String)}.
+   *
+   * @param fileSystem the file system whose path matcher is requested.
+   * @param syntaxAndPattern the syntax and the pattern of the path matcher.
+   * @return the {@link PathMatcher} for the given syntax and pattern.
+   */
+  public PathMatcher pathMatcher(FileSystem fileSystem, String syntaxAndPattern) {
+    return get(new Key(syntaxAndPattern, 0, fileSystem), () -> fileSystem.getPathMatcher(syntaxAndPattern));
+  }
+
+  @SuppressWarnings("unchecked")
+  private <T> T get(Key key, Supplier<T> compiler) {
+    Object compiled;
+    synchronized (this) {
+      compiled = compiledPatterns.get(key);
+    }
+    if (compiled != null) {
+      hitCount.incrementAndGet();
+      return (T) compiled;
+    }
+    missCount.incrementAndGet();
+    // compile outside the lock, compiling the same expression concurrently is harmless
+    T newlyCompiled = compiler.get();
+    synchronized (this) {
+      if (maxSize > 0) compiledPatterns.put(key, newlyCompiled);
+    }
+    return newlyCompiled;
+  }
+
+  /**
+   * Sets the maximum number of compiled patterns kept, the least recently used ones are evicted first.
+   *
+   * @param maxSize the maximum number of compiled patterns kept, 0 disables caching.
+   * @throws IllegalArgumentException if the given size is negative.
+   */
+  public synchronized void setMaxSize(int maxSize) {
+    checkMaxSize(maxSize);
+    this.maxSize = maxSize;
+    // drop the least recently used entries exceeding the new size
+    while (compiledPatterns.size() > maxSize) {
+      compiledPatterns.remove(compiledPatterns.keySet().iterator().next());
+    }
+  }
+
+  /**
+   * Returns the maximum number of compiled patterns kept.
+   *
+   * @return the maximum number of compiled patterns kept.
+   */
+  public synchronized int getMaxSize() {
+    return maxSize;
+  }
+
+  /**
+   * Returns the number of compiled patterns currently kept.
+   *
+   * @return the number of compiled patterns currently kept.
+   */
+  public synchronized int size() {
+    return compiledPatterns.size();
+  }
+
+  /**
+   * Returns how many times a requested pattern was already compiled.
+   *
+   * @return how many times a requested pattern was already compiled.
+   */
+  public long hitCount() {
+    return hitCount.get();
+  }
+
+  /**
+   * Returns how many times a requested pattern had to be compiled.
+   *
+   * @return how many times a requested pattern had to be compiled.
+   */
+  public long missCount() {
+    return missCount.get();
+  }
+
+  /**
+   * Removes all the compiled patterns and resets the hit and miss counts.
+   */
+  public synchronized void clear() {
+    compiledPatterns.clear();
+    hitCount.set(0);
+    missCount.set(0);
+  }
+
+  private static void checkMaxSize(int maxSize) {
+    checkArgument(maxSize >= 0, "The pattern cache size must be >= 0 but was %s", maxSize);
+  }
+
+  private static final class Key {
+    private final String pattern;
+    private final int flags;
+    // null for regular expressions
+    private final FileSystem fileSystem;
+
+    private Key(String pattern, int flags, FileSystem fileSystem) {
+      this.pattern = pattern;
+      this.flags = flags;
+      this.fileSystem = fileSystem;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      if (this == obj) return true;
+      if (!(obj instanceof Key)) return false;
+      Key other = (Key) obj;
+      return flags == other.flags && pattern.equals(other.pattern) && Objects.equals(fileSystem, other.fileSystem);
+    }
+
+    @Override
+    public int hashCode() {
+      return 31 * (31 * pattern.hashCode() + flags) + Objects.hashCode(fileSystem);
+    }
+  }
+
+}
@@ -12,29 +12,44 @@
  */
 package org.assertj.core.internal;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.Files.isRegularFile;
 import static java.nio.file.Files.newBufferedReader;
+import static java.util.Collections.emptyList;
 import static java.util.Collections.unmodifiableList;
 import static org.assertj.core.util.Closeables.closeQuietly;
 
 import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.io.SequenceInputStream;
 import java.io.StringReader;
 import java.nio.charset.Charset;
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 import org.assertj.core.util.VisibleForTesting;
+import org.assertj.core.util.diff.ChangeDelta;
+import org.assertj.core.util.diff.Chunk;
+import org.assertj.core.util.diff.DeleteDelta;
 import org.assertj.core.util.diff.Delta;
 import org.assertj.core.util.diff.DiffUtils;
+import org.assertj.core.util.diff.InsertDelta;
 import org.assertj.core.util.diff.Patch;
 
 
 /**
  * Compares the contents of two files, inputStreams or paths.
+ * <p>
+ * Contents to compare with each other are first compared byte by byte, the line diff is only computed when they differ
+ * and starts at the first line that is not common to both contents. Files are read through buffers rather than
+ * memory-mapped so that they are not kept locked once compared.
  * 
  * @author David DIDIER
  * @author Alex Ruiz
@@ -47,14 +62,48 @@ import org.assertj.core.util.diff.Patch;
 @VisibleForTesting
 public class Diff {
 
+  private static final int EOF = -1;
+  private static final int NO_MISMATCH = -1;
+  private static final int NOT_FOUND = -1;
+  @VisibleForTesting
+  static final int BLOCK_SIZE = 8192;
+
+  private final BinaryDiff binaryDiff = new BinaryDiff();
+
   @VisibleForTesting
   public List<Delta<String>> diff(InputStream actual, InputStream expected) throws IOException {
-    return diff(readerFor(actual), readerFor(expected));
+    Charset charset = Charset.defaultCharset();
+    byte[] actualBlock = new byte[BLOCK_SIZE];
+    byte[] expectedBlock = new byte[BLOCK_SIZE];
+    // common bytes that may still be part of a differing line, the lines before them are skipped
+    ByteArrayOutputStream pendingLine = new ByteArrayOutputStream();
+    boolean canSkipLines = hasSingleByteLineFeed(charset);
+    int skippedLines = 0;
+    while (true) {
+      int actualLength = readBlock(actual, actualBlock);
+      int expectedLength = readBlock(expected, expectedBlock);
+      if (actualLength != expectedLength || mismatch(actualBlock, expectedBlock, actualLength) != NO_MISMATCH) {
+        byte[] pendingBytes = pendingLine.toByteArray();
+        InputStream actualRemaining = remaining(pendingBytes, actualBlock, actualLength, actual);
+        InputStream expectedRemaining = remaining(pendingBytes, expectedBlock, expectedLength, expected);
+        return diff(readerFor(actualRemaining, charset), readerFor(expectedRemaining, charset), skippedLines);
+      }
+      if (actualLength < BLOCK_SIZE) return emptyList(); // reached end of both streams
+      int lastLineFeed = canSkipLines ? lastIndexOf('\n', actualBlock) : NOT_FOUND;
+      if (lastLineFeed == NOT_FOUND) {
+        pendingLine.write(actualBlock, 0, actualLength);
+      } else {
+        pendingLine.write(actualBlock, 0, lastLineFeed + 1);
+        skippedLines += countLineTerminators(pendingLine.toByteArray());
+        pendingLine.reset();
+        pendingLine.write(actualBlock, lastLineFeed + 1, actualLength - lastLineFeed - 1);
+      }
+    }
   }
 
   @VisibleForTesting
   public List<Delta<String>> diff(InputStream actual, String expected) throws IOException {
-    return diff(readerFor(actual), readerFor(expected));
+    return diff(readerFor(actual, Charset.defaultCharset()), readerFor(expected), 0);
   }
 
   @VisibleForTesting
@@ -64,7 +113,15 @@ public class Diff {
 
   @VisibleForTesting
   public List<Delta<String>> diff(Path actual, Charset actualCharset, Path expected, Charset expectedCharset) throws IOException {
-    return diff(newBufferedReader(actual, actualCharset), newBufferedReader(expected, expectedCharset));
+    // the same bytes decoded with the same charset give the same text, regular files can be read again if they differ,
+    // BinaryDiff and LineCounter read them in buffers and release them before returning
+    if (actualCharset.equals(expectedCharset) && isRegularFile(actual) && isRegularFile(expected)
+        && binaryDiff.diff(actual, expected).hasNoDiff()) {
+      // decoding reports malformed content as reading its lines would, without keeping them
+      LineCounter.countLines(actual, actualCharset);
+      return emptyList();
+    }
+    return diff(newBufferedReader(actual, actualCharset), newBufferedReader(expected, expectedCharset), 0);
   }
 
   @VisibleForTesting
@@ -74,35 +131,126 @@ public class Diff {
 
   @VisibleForTesting
   public List<Delta<String>> diff(Path actual, String expected, Charset charset) throws IOException {
-    return diff(newBufferedReader(actual, charset), readerFor(expected));
+    return diff(newBufferedReader(actual, charset), readerFor(expected), 0);
   }
 
-  private BufferedReader readerFor(InputStream stream) {
-    return new BufferedReader(new InputStreamReader(stream, Charset.defaultCharset()));
+  private BufferedReader readerFor(InputStream stream, Charset charset) {
+    return new BufferedReader(new InputStreamReader(stream, charset));
   }
 
   private BufferedReader readerFor(String string) {
     return new BufferedReader(new StringReader(string));
   }
 
-  private List<Delta<String>> diff(BufferedReader actual, BufferedReader expected) throws IOException {
+  /**
+   * Diffs the lines of the given readers, the lines they have in common at their start are not kept in memory and not
+   * given to the diff algorithm which would have matched them anyway.
+   */
+  private List<Delta<String>> diff(BufferedReader actual, BufferedReader expected, int skippedLines) throws IOException {
     try {
-      List<String> actualLines = linesFromBufferedReader(actual);
-      List<String> expectedLines = linesFromBufferedReader(expected);
-      
+      int commonLines = skippedLines;
+      String actualLine = actual.readLine();
+      String expectedLine = expected.readLine();
+      while (actualLine != null && actualLine.equals(expectedLine)) {
+        commonLines++;
+        actualLine = actual.readLine();
+        expectedLine = expected.readLine();
+      }
+      if (actualLine == null && expectedLine == null) return emptyList();
+      List<String> actualLines = linesFromBufferedReader(actualLine, actual);
+      List<String> expectedLines = linesFromBufferedReader(expectedLine, expected);
+
       Patch<String> patch = DiffUtils.diff(expectedLines, actualLines);
-      return unmodifiableList(patch.getDeltas());
+      return unmodifiableList(shift(patch.getDeltas(), commonLines));
     } finally {
       closeQuietly(actual, expected);
     }
   }
 
-  private List<String> linesFromBufferedReader(BufferedReader reader) throws IOException {
-    String line;
+  private List<String> linesFromBufferedReader(String firstLine, BufferedReader reader) throws IOException {
     List<String> lines = new ArrayList<>();
-    while ((line = reader.readLine()) != null) {
+    String line = firstLine;
+    while (line != null) {
       lines.add(line);
+      line = reader.readLine();
     }
     return lines;
   }
+
+  private static List<Delta<String>> shift(List<Delta<String>> deltas, int lineCount) {
+    if (lineCount == 0) return deltas;
+    List<Delta<String>> shiftedDeltas = new ArrayList<>(deltas.size());
+    for (Delta<String> delta : deltas) {
+      Chunk<String> original = shift(delta.getOriginal(), lineCount);
+      Chunk<String> revised = shift(delta.getRevised(), lineCount);
+      switch (delta.getType()) {
+      case INSERT:
+        shiftedDeltas.add(new InsertDelta<>(original, revised));
+        break;
+      case DELETE:
+        shiftedDeltas.add(new DeleteDelta<>(original, revised));
+        break;
+      default:
+        shiftedDeltas.add(new ChangeDelta<>(original, revised));
+      }
+    }
+    return shiftedDeltas;
+  }
+
+  private static Chunk<String> shift(Chunk<String> chunk, int lineCount) {
+    return new Chunk<>(chunk.getPosition() + lineCount, chunk.getLines());
+  }
+
+  private static InputStream remaining(byte[] pendingBytes, byte[] block, int blockLength, InputStream stream) {
+    byte[] readBytes = Arrays.copyOf(pendingBytes, pendingBytes.length + blockLength);
+    System.arraycopy(block, 0, readBytes, pendingBytes.length, blockLength);
+    return new SequenceInputStream(new ByteArrayInputStream(readBytes), stream);
+  }
+
+  /**
+   * Lines can only be told apart from the raw bytes when a line feed byte can't be part of another character and
+   * decoding can start again right after it, which holds for UTF-8 and the single byte charsets.
+   */
+  private static boolean hasSingleByteLineFeed(Charset charset) {
+    if (charset.equals(UTF_8)) return true;
+    if (!charset.canEncode() || charset.newEncoder().maxBytesPerChar() != 1) return false;
+    return Arrays.equals("\r\n".getBytes(charset), new byte[] { '\r', '\n' });
+  }
+
+  // counts the lines ended in the given bytes the way BufferedReader.readLine does, the bytes ending with a line feed
+  private static int countLineTerminators(byte[] bytes) {
+    int count = 0;
+    for (int i = 0; i < bytes.length; i++) {
+      if (bytes[i] == '\r' || (bytes[i] == '\n' && (i == 0 || bytes[i - 1] != '\r'))) count++;
+    }
+    return count;
+  }
+
+  /**
+   * Fills the given block with the next bytes of the stream, it is only partially filled when the end of the stream is
+   * reached.
+   */
+  private static int readBlock(InputStream stream, byte[] block) throws IOException {
+    int length = 0;
+    while (length < block.length) {
+      int read = stream.read(block, length, block.length - length);
+      if (read == EOF) break;
+      length += read;
+    }
+    return length;
+  }
+
+  private static int mismatch(byte[] actual, byte[] expected, int length) {
+    for (int i = 0; i < length; i++) {
+      if (actual[i] != expected[i]) return i;
+    }
+    return NO_MISMATCH;
+  }
+
+  private static int lastIndexOf(char c, byte[] block) {
+    for (int i = block.length - 1; i >= 0; i--) {
+      if (block[i] == c) return i;
+    }
+    return NOT_FOUND;
+  }
 }
@@ -13,6 +13,7 @@
 package org.assertj.core.internal;
 
 import static java.lang.String.format;
+import static org.assertj.core.util.Preconditions.checkArgument;
 import static org.assertj.core.util.Strings.isNullOrEmpty;
 
 import java.lang.management.ManagementFactory;
@@ -82,6 +83,38 @@ public class Failures {
     return removeAssertJRelatedElementsFromStackTrace;
   }
 
+  /**
+   * maximum number of stack trace elements kept in assertion errors stack trace, all of them by default.
+   */
+  private int maxStackTraceElementsKept = Integer.MAX_VALUE;
+
+  /**
+   * Sets the maximum number of stack trace elements kept in assertion errors stack trace, the ones closest to where the
+   * error was created are kept.
+   * <p>
+   * Limiting the stack trace makes creating and collecting many assertion errors (for example with soft assertions)
+   * cheaper on deep call stacks. The limit applies after AssertJ related elements have been removed if
+   * {@link #setRemoveAssertJRelatedElementsFromStackTrace(boolean)} is enabled.
+   *
+   * @param maxStackTraceElementsKept the maximum number of stack trace elements kept, must be greater than 0.
+   * @throws IllegalArgumentException if the given value is not greater than 0.
+   * @since 3.18.0
+   */
+  public void setMaxStackTraceElementsKept(int maxStackTraceElementsKept) {
+    checkArgument(maxStackTraceElementsKept > 0, "maxStackTraceElementsKept must be > 0 but was %s",
+                  maxStackTraceElementsKept);
+    this.maxStackTraceElementsKept = maxStackTraceElementsKept;
+  }
+
+  /**
+   * Returns the maximum number of stack trace elements kept in assertion errors stack trace.
+   * @return the maximum number of stack trace elements kept in assertion errors stack trace.
+   * @since 3.18.0
+   */
+  public int getMaxStackTraceElementsKept() {
+    return maxStackTraceElementsKept;
+  }
+
   @VisibleForTesting
   Failures() {}
 
@@ -185,6 +218,8 @@ public class Failures {
    * If is {@link #removeAssertJRelatedElementsFromStackTrace} is true, it filters the stack trace of the given {@link AssertionError}
    * by removing stack trace elements related to AssertJ in order to get a more readable stack trace.
    * <p>
+   * The stack trace is also truncated to {@link #setMaxStackTraceElementsKept(int) maxStackTraceElementsKept} elements.
+   * <p>
    * See example below :
    * <pre><code class='java'> --------------- stack trace not filtered -----------------
   org.junit.ComparisonFailure: expected:&lt;'[Ronaldo]'&gt; but was:&lt;'[Messi]'&gt;
@@ -214,7 +249,9 @@ public class Failures {
    */
   public void removeAssertJRelatedElementsFromStackTraceIfNeeded(AssertionError assertionError) {
     if (removeAssertJRelatedElementsFromStackTrace) {
-      Throwables.removeAssertJRelatedElementsFromStackTrace(assertionError);
+      Throwables.removeAssertJRelatedElementsFromStackTrace(assertionError, maxStackTraceElementsKept);
+    } else if (maxStackTraceElementsKept != Integer.MAX_VALUE) {
+      Throwables.truncateStackTrace(assertionError, maxStackTraceElementsKept);
     }
   }
 
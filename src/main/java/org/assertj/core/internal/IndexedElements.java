@@ -0,0 +1,188 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2020 the original author or authors.
+ */
+package org.assertj.core.internal;
+
+import java.util.ArrayDeque;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Elements indexed to find the ones equal to a given value according to a {@link ComparisonStrategy} without going
+ * through all of them:
+ * <ul>
+ * <li>by hash code for the standard comparison strategy</li>
+ * <li>sorted with the comparator for comparator based comparison strategies</li>
+ * </ul>
+ * The index is only a shortcut, a value not found with it is looked for in all remaining elements as hashCode might not
+ * be consistent with equals or the comparator might not define an ordering (ex: {@link FieldByFieldComparator}).
+ * Elements of other comparison strategies, elements that could not be indexed and values whose hashCode or comparison
+ * fails are looked up one by one.
+ * <p>
+ * As with {@link ComparisonStrategy#areEqual(Object, Object)} called with an element and a value, elements are the
+ * receivers of equals or the first argument of the comparator when they are compared to a value.
+ */
+class IndexedElements {
+
+  private final List<?> elements;
+  private final boolean[] removed;
+  private int remainingCount;
+  private final ComparisonStrategy comparisonStrategy;
+  // equal elements indexes in iteration order, null if the elements could not be indexed
+  private final Map<Object, Deque<Integer>> equalElementsIndexes;
+
+  IndexedElements(List<?> elements, ComparisonStrategy comparisonStrategy) {
+    this.elements = elements;
+    this.removed = new boolean[elements.size()];
+    this.remainingCount = elements.size();
+    this.comparisonStrategy = comparisonStrategy;
+    this.equalElementsIndexes = index(elements, comparisonStrategy);
+  }
+
+  private static Map<Object, Deque<Integer>> index(List<?> elements, ComparisonStrategy comparisonStrategy) {
+    Map<Object, Deque<Integer>> equalElementsIndexes = newIndex(comparisonStrategy);
+    if (equalElementsIndexes == null) return null;
+    try {
+      for (int i = 0; i < elements.size(); i++) {
+        equalElementsIndexes.computeIfAbsent(keyOf(elements.get(i), comparisonStrategy), key -> new ArrayDeque<>()).add(i);
+      }
+      return equalElementsIndexes;
+    } catch (@SuppressWarnings("unused") RuntimeException e) {
+      // hashCode or comparator failing on some elements, elements will be looked up one by one
+      return null;
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private static Map<Object, Deque<Integer>> newIndex(ComparisonStrategy comparisonStrategy) {
+    if (comparisonStrategy.isStandard()) return new HashMap<>();
+    if (comparisonStrategy instanceof ComparatorBasedComparisonStrategy) {
+      ComparatorBasedComparisonStrategy comparatorBasedComparisonStrategy = (ComparatorBasedComparisonStrategy) comparisonStrategy;
+      Comparator<Object> comparator = (Comparator<Object>) comparatorBasedComparisonStrategy.getComparator();
+      // TreeMap compares the looked up value to the elements, reversed to compare elements to the value
+      return new TreeMap<>(comparator.reversed());
+    }
+    return null;
+  }
+
+  private static Object keyOf(Object element, ComparisonStrategy comparisonStrategy) {
+    return comparisonStrategy.isStandard() ? new DeepEqualsKey(element) : element;
+  }
+
+  /**
+   * Returns true if one of the remaining elements is equal to the given value according to the comparison strategy.
+   *
+   * @param value the value to look for
+   * @return true if one of the remaining elements is equal to the given value, false otherwise
+   */
+  boolean contains(Object value) {
+    return indexOfFirstEqualElement(value) != -1;
+  }
+
+  /**
+   * Returns true if at least two of the remaining elements are equal to the given value according to the comparison
+   * strategy.
+   *
+   * @param value the value to look for
+   * @return true if at least two of the remaining elements are equal to the given value, false otherwise
+   */
+  boolean containsSeveralTimes(Object value) {
+    int equalElementsCount = 0;
+    Deque<Integer> equalElementIndexes = equalElementIndexesOf(value);
+    if (equalElementIndexes != null) {
+      for (int index : equalElementIndexes) {
+        if (!removed[index]) equalElementsCount++;
+        if (equalElementsCount > 1) return true;
+      }
+      // equal elements might not all be found with the index
+      equalElementsCount = 0;
+    }
+    for (int i = 0; i < elements.size(); i++) {
+      if (!removed[i] && comparisonStrategy.areEqual(elements.get(i), value)) equalElementsCount++;
+      if (equalElementsCount > 1) return true;
+    }
+    return false;
+  }
+
+  /**
+   * Removes the first remaining element equal to the given value according to the comparison strategy.
+   *
+   * @param value the value to look for
+   * @return true if an element equal to value was found and removed, false otherwise
+   */
+  boolean removeFirst(Object value) {
+    int index = indexOfFirstEqualElement(value);
+    if (index == -1) return false;
+    removed[index] = true;
+    remainingCount--;
+    return true;
+  }
+
+  private int indexOfFirstEqualElement(Object value) {
+    if (remainingCount == 0) return -1;
+    Deque<Integer> equalElementIndexes = equalElementIndexesOf(value);
+    while (equalElementIndexes != null && !equalElementIndexes.isEmpty()) {
+      int index = equalElementIndexes.peek();
+      if (!removed[index]) return index;
+      // elements removed are still in the index until they are skipped here
+      equalElementIndexes.poll();
+    }
+    for (int i = 0; i < elements.size(); i++) {
+      if (!removed[i] && comparisonStrategy.areEqual(elements.get(i), value)) return i;
+    }
+    return -1;
+  }
+
+  // the indexes of elements equal to value, null if none was found with the index
+  private Deque<Integer> equalElementIndexesOf(Object value) {
+    if (equalElementsIndexes == null) return null;
+    try {
+      return equalElementsIndexes.get(keyOf(value, comparisonStrategy));
+    } catch (@SuppressWarnings("unused") RuntimeException e) {
+      // hashCode or comparator failing on value
+      return null;
+    }
+  }
+
+  /**
+   * Wraps an element to use it as a hash key consistent with {@link StandardComparisonStrategy#areEqual(Object, Object)},
+   * arrays being compared and hashed by content.
+   */
+  private static class DeepEqualsKey {
+
+    private final Object element;
+    private final int hashCode;
+
+    DeepEqualsKey(Object element) {
+      this.element = element;
+      this.hashCode = element != null && element.getClass().isArray()
+          ? java.util.Arrays.deepHashCode(new Object[] { element })
+          : java.util.Objects.hashCode(element);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      // HashMap calls equals on the looked up key with the indexed one, the indexed element is the receiver as in
+      // areEqual(element, value)
+      return obj instanceof DeepEqualsKey && java.util.Objects.deepEquals(((DeepEqualsKey) obj).element, element);
+    }
+
+    @Override
+    public int hashCode() {
+      return hashCode;
+    }
+  }
+}
@@ -19,10 +19,12 @@ import static org.assertj.core.error.ShouldHaveBinaryContent.shouldHaveBinaryCon
 import static org.assertj.core.error.ShouldHaveDigest.shouldHaveDigest;
 import static org.assertj.core.error.ShouldHaveSameContent.shouldHaveSameContent;
 import static org.assertj.core.error.ShouldNotBeEmpty.shouldNotBeEmpty;
+import static org.assertj.core.internal.CommonValidations.checkLineCounts;
 import static org.assertj.core.internal.Digests.digestDiff;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.charset.Charset;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.util.List;
@@ -163,6 +165,28 @@ public class InputStreams {
     }
   }
 
+  /**
+   * Asserts that the given InputStream has the given number of lines, the stream being decoded with the given charset.
+   *
+   * @param info contains information about the assertion.
+   * @param actual the actual InputStream.
+   * @param expectedLineCount the expected line count.
+   * @param charset the charset used to decode the actual InputStream.
+   * @throws AssertionError if {@code actual} is {@code null}.
+   * @throws AssertionError if the given InputStream does not have the expected number of lines.
+   * @throws InputStreamsException if an I/O error occurs.
+   */
+  public void assertHasLineCount(AssertionInfo info, InputStream actual, int expectedLineCount, Charset charset) {
+    assertNotNull(info, actual);
+    int lineCount;
+    try {
+      lineCount = LineCounter.countLines(actual, charset);
+    } catch (IOException e) {
+      throw new InputStreamsException(format("Unable to count lines of InputStream:%n  <%s>", actual), e);
+    }
+    checkLineCounts(actual, lineCount, expectedLineCount, info);
+  }
+
   private static void assertNotNull(AssertionInfo info, InputStream stream) {
     Objects.instance().assertNotNull(info, stream);
   }
@@ -52,24 +52,11 @@ class IterableDiff {
    */
   private <T> List<Object> subtract(Iterable<T> first, Iterable<T> second) {
     List<Object> missingInFirst = new ArrayList<>();
-    // use a copy to deal correctly with potential duplicates
-    List<T> copyOfSecond = newArrayList(second);
+    // each element of second can only be matched once to deal correctly with potential duplicates
+    IndexedElements remainingOfSecond = new IndexedElements(newArrayList(second), comparisonStrategy);
     for (Object elementInFirst : first) {
-      if (iterableContains(copyOfSecond, elementInFirst)) {
-        // remove the element otherwise a duplicate would be found in the case if there is one in actual
-        iterablesRemoveFirst(copyOfSecond, elementInFirst);
-      } else {
-        missingInFirst.add(elementInFirst);
-      }
+      if (!remainingOfSecond.removeFirst(elementInFirst)) missingInFirst.add(elementInFirst);
     }
     return unmodifiableList(missingInFirst);
   }
-
-  private boolean iterableContains(Iterable<?> actual, Object value) {
-    return comparisonStrategy.iterableContains(actual, value);
-  }
-
-  private void iterablesRemoveFirst(Iterable<?> actual, Object value) {
-    comparisonStrategy.iterablesRemoveFirst(actual, value);
-  }
 }
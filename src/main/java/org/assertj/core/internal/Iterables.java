@@ -84,13 +84,14 @@ import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.Iterator;
 import java.util.LinkedHashSet;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Optional;
+import java.util.RandomAccess;
 import java.util.Set;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
+import java.util.stream.Stream;
 
 import org.assertj.core.api.AssertionInfo;
 import org.assertj.core.api.Condition;
@@ -112,7 +113,9 @@ import org.assertj.core.util.VisibleForTesting;
 public class Iterables {
 
   private static final Iterables INSTANCE = new Iterables();
+  private static final int MIN_VALUES_COUNT_TO_INDEX = 8;
   private final ComparisonStrategy comparisonStrategy;
+  private final boolean parallel;
   @VisibleForTesting
   Failures failures = Failures.instance();
   @VisibleForTesting
@@ -135,7 +138,30 @@ public class Iterables {
   }
 
   public Iterables(ComparisonStrategy comparisonStrategy) {
+    this(comparisonStrategy, false);
+  }
+
+  private Iterables(ComparisonStrategy comparisonStrategy, boolean parallel) {
     this.comparisonStrategy = comparisonStrategy;
+    this.parallel = parallel;
+  }
+
+  /**
+   * Returns an {@code Iterables} with the same comparison strategy that evaluates element-wise conditions, predicates
+   * and requirements of {@link RandomAccess} lists in parallel (in the common {@link java.util.concurrent.ForkJoinPool}).
+   * <p>
+   * Reported elements are kept in their original order, the evaluated conditions, predicates and requirements must
+   * thus only be thread safe.
+   *
+   * @return an {@code Iterables} evaluating elements in parallel.
+   */
+  public Iterables inParallel() {
+    return parallel ? this : new Iterables(comparisonStrategy, true);
+  }
+
+  @VisibleForTesting
+  public boolean isParallel() {
+    return parallel;
   }
 
   @VisibleForTesting
@@ -339,7 +365,11 @@ public class Iterables {
   }
 
   private void assertIterableContainsGivenValues(Iterable<?> actual, Object[] values, AssertionInfo info) {
-    Set<Object> notFound = stream(values).filter(value -> !iterableContains(actual, value))
+    // indexing goes through all elements, it only pays off when looking for more than a few values
+    Predicate<Object> contained = values.length < MIN_VALUES_COUNT_TO_INDEX
+        ? value -> iterableContains(actual, value)
+        : indexed(actual)::contains;
+    Set<Object> notFound = stream(values).filter(contained.negate())
                                          .collect(toCollection(LinkedHashSet::new));
     if (notFound.isEmpty())
       return;
@@ -350,12 +380,9 @@ public class Iterables {
     return comparisonStrategy.iterableContains(actual, value);
   }
 
-  private void iterablesRemoveFirst(Iterable<?> actual, Object value) {
-    comparisonStrategy.iterablesRemoveFirst(actual, value);
-  }
-
-  private void iterablesRemove(Iterable<?> actual, Object value) {
-    comparisonStrategy.iterableRemoves(actual, value);
+  // index the elements to look for values in a linear time rather than going through all elements for each of them
+  private IndexedElements indexed(Iterable<?> iterable) {
+    return new IndexedElements(newArrayList(iterable), comparisonStrategy);
   }
 
   /**
@@ -374,19 +401,15 @@ public class Iterables {
     final List<?> actualAsList = newArrayList(actual);
     if (commonCheckThatIterableAssertionSucceeds(info, actualAsList, expectedValues)) return;
 
-    // after the for loop, unexpected = expectedValues - actual
-    List<Object> unexpectedValues = newArrayList(actualAsList);
-    // after the for loop, missing = actual - expectedValues
-    List<Object> missingValues = newArrayList(expectedValues);
-    for (Object expected : expectedValues) {
-      if (iterableContains(actualAsList, expected)) {
-        // since expected was found in actual:
-        // -- it does not belong to the missing elements
-        iterablesRemove(missingValues, expected);
-        // -- it does not belong to the unexpected elements
-        iterablesRemove(unexpectedValues, expected);
-      }
-    }
+    // unexpected = actual - expectedValues
+    IndexedElements expectedElements = indexed(asList(expectedValues));
+    List<Object> unexpectedValues = actualAsList.stream()
+                                                .filter(actualElement -> !expectedElements.contains(actualElement))
+                                                .collect(toList());
+    // missing = expectedValues - actual
+    IndexedElements actualElements = indexed(actualAsList);
+    List<Object> missingValues = stream(expectedValues).filter(expected -> !actualElements.contains(expected))
+                                                       .collect(toList());
 
     if (!unexpectedValues.isEmpty() || !missingValues.isEmpty()) {
       throw failures.failure(info, shouldContainOnly(actualAsList, expectedValues,
@@ -412,11 +435,11 @@ public class Iterables {
     // check for elements in values that are missing in actual.
     Set<Object> notFound = new LinkedHashSet<>();
     Set<Object> notOnlyOnce = new LinkedHashSet<>();
-    Iterable<?> actualDuplicates = comparisonStrategy.duplicatesFrom(actual);
+    IndexedElements actualElements = indexed(actual);
     for (Object expectedOnlyOnce : values) {
-      if (!iterableContains(actual, expectedOnlyOnce)) {
+      if (!actualElements.contains(expectedOnlyOnce)) {
         notFound.add(expectedOnlyOnce);
-      } else if (iterableContains(actualDuplicates, expectedOnlyOnce)) {
+      } else if (actualElements.containsSeveralTimes(expectedOnlyOnce)) {
         notOnlyOnce.add(expectedOnlyOnce);
       }
     }
@@ -459,45 +482,18 @@ public class Iterables {
     // perform the checks that would have been done in commonCheckThatIterableAssertionSucceeds but do them explicitly without
     // having to create a new iterator on actual - which would break if actual were only singly-traversable.
     checkNotNullIterables(info, actual, sequence);
-    // store the elements from actual that have been visited (because we don't know we can look ahead - the 'actual'
-    // might be singly-traversable) in a fixed-length LIFO having what is in effect a sliding window.
-    // So we store each element and slide for each new element until a match is found or until the 'actual' is
-    // exhausted. Of course if 'actual' really is infinite then this could take a while :-D
+    // match the elements of actual one by one as we can't assume that we can look back or ahead - 'actual' might be
+    // singly-traversable. Of course if 'actual' really is infinite then this could take a while :-D
     final Iterator<?> actualIterator = actual.iterator();
     if (!actualIterator.hasNext() && sequence.length == 0) return;
     failIfEmptySinceActualIsNotEmpty(sequence);
-    // we only store sequence.length entries from actual in the LIFO, no need for more.
-    Lifo lifo = new Lifo(sequence.length);
+    SequenceMatcher sequenceMatcher = new SequenceMatcher(sequence, comparisonStrategy);
     while (actualIterator.hasNext()) {
-      lifo.add(actualIterator.next());
-      if (lifo.matchesExactly(sequence)) return;
+      if (sequenceMatcher.completesSequence(actualIterator.next())) return;
     }
     throw actualDoesNotContainSequence(info, actual, sequence);
   }
 
-  private class Lifo {
-    private int maxSize;
-    private LinkedList<Object> stack;
-
-    Lifo(int maxSize) {
-      this.maxSize = maxSize;
-      stack = new LinkedList<>();
-    }
-
-    void add(final Object element) {
-      if (stack.size() == maxSize) stack.removeFirst();
-      stack.addLast(element);
-    }
-
-    boolean matchesExactly(Object[] sequence) {
-      if (stack.size() != sequence.length) return false;
-      for (int i = 0; i < sequence.length; i++) {
-        if (!areEqual(stack.get(i), sequence[i])) return false;
-      }
-      return true;
-    }
-  }
-
   /**
    * Verifies that the given <code>{@link Iterable}</code> does not contain the given sequence of objects in order.
    *
@@ -513,13 +509,13 @@ public class Iterables {
     requireNonNull(sequence, nullSequence());
     checkIsNotEmptySequence(sequence);
     assertNotNull(info, actual);
-    // check for elements in values that are missing in actual.
-    List<?> actualAsList = newArrayList(actual);
-    for (int index = 0; index < actualAsList.size(); index++) {
-      // look for given sequence in actual starting from current index (i)
-      if (containsSequenceAtGivenIndex(actualAsList, sequence, index)) {
-        throw actualDoesContainSequence(info, actual, sequence, index);
+    SequenceMatcher sequenceMatcher = new SequenceMatcher(sequence, comparisonStrategy);
+    int index = 0;
+    for (Object element : actual) {
+      if (sequenceMatcher.completesSequence(element)) {
+        throw actualDoesContainSequence(info, actual, sequence, index - sequence.length + 1);
       }
+      index++;
     }
   }
 
@@ -602,28 +598,12 @@ public class Iterables {
   public void assertIsSubsetOf(AssertionInfo info, Iterable<?> actual, Iterable<?> values) {
     assertNotNull(info, actual);
     checkIterableIsNotNull(values);
-    List<Object> extra = stream(actual).filter(actualElement -> !iterableContains(values, actualElement))
+    IndexedElements valuesElements = indexed(values);
+    List<Object> extra = stream(actual).filter(actualElement -> !valuesElements.contains(actualElement))
                                        .collect(toList());
     if (extra.size() > 0) throw failures.failure(info, shouldBeSubsetOf(actual, values, extra, comparisonStrategy));
   }
 
-  /**
-   * Return true if actualAsList contains exactly the given sequence at given starting index, false otherwise.
-   *
-   * @param actualAsList the list to look sequence in
-   * @param sequence the sequence to look for
-   * @param startingIndex the index of actual list at which we start looking for sequence.
-   * @return true if actualAsList contains exactly the given sequence at given starting index, false otherwise.
-   */
-  private boolean containsSequenceAtGivenIndex(List<?> actualAsList, Object[] sequence, int startingIndex) {
-    // check that, starting from given index, actualAsList has enough remaining elements to contain sequence
-    if (actualAsList.size() - startingIndex < sequence.length) return false;
-    for (int i = 0; i < sequence.length; i++) {
-      if (!areEqual(actualAsList.get(startingIndex + i), sequence[i])) return false;
-    }
-    return true;
-  }
-
   private boolean areEqual(Object actual, Object other) {
     return comparisonStrategy.areEqual(actual, other);
   }
@@ -939,8 +919,7 @@ public class Iterables {
 
   private <E> boolean conditionIsSatisfiedAtLeastNTimes(Iterable<? extends E> actual, int n,
                                                         Condition<? super E> condition) {
-    List<E> satisfiesCondition = satisfiesCondition(actual, condition);
-    return satisfiesCondition.size() >= n;
+    return countSatisfyingCondition(actual, condition, n) >= n;
   }
 
   /**
@@ -970,8 +949,7 @@ public class Iterables {
 
   private <E> boolean conditionIsSatisfiedAtMostNTimes(Iterable<? extends E> actual, Condition<? super E> condition,
                                                        int n) {
-    List<E> satisfiesCondition = satisfiesCondition(actual, condition);
-    return satisfiesCondition.size() <= n;
+    return countSatisfyingCondition(actual, condition, n + 1L) <= n;
   }
 
   /**
@@ -1001,8 +979,7 @@ public class Iterables {
 
   private <E> boolean conditionIsSatisfiedNTimes(Iterable<? extends E> actual, Condition<? super E> condition,
                                                  int times) {
-    List<E> satisfiesCondition = satisfiesCondition(actual, condition);
-    return satisfiesCondition.size() == times;
+    return countSatisfyingCondition(actual, condition, times + 1L) == times;
   }
 
   /**
@@ -1136,10 +1113,11 @@ public class Iterables {
     assertNotNull(info, actual);
     requireNonNull(requirements, "The Consumer<T> expressing the assertions requirements must not be null");
 
-    List<UnsatisfiedRequirement> unsatisfiedRequirements = stream(actual).map(element -> failsRequirements(requirements, element))
-                                                                         .filter(Optional::isPresent)
-                                                                         .map(Optional::get)
-                                                                         .collect(toList());
+    List<UnsatisfiedRequirement> unsatisfiedRequirements = elements(actual).map(element -> failsRequirements(requirements,
+                                                                                                             element))
+                                                                           .filter(Optional::isPresent)
+                                                                           .map(Optional::get)
+                                                                           .collect(toList());
     if (!unsatisfiedRequirements.isEmpty())
       throw failures.failure(info, elementsShouldSatisfy(actual, unsatisfiedRequirements, info));
   }
@@ -1200,7 +1178,7 @@ public class Iterables {
                                  PredicateDescription predicateDescription) {
     assertNotNull(info, actual);
     predicates.assertIsNotNull(predicate);
-    List<? extends E> nonMatches = stream(actual).filter(predicate.negate()).collect(toList());
+    List<? extends E> nonMatches = elements(actual).filter(predicate.negate()).collect(toList());
 
     if (!nonMatches.isEmpty()) {
       throw failures.failure(info, elementsShouldMatch(actual,
@@ -1212,10 +1190,10 @@ public class Iterables {
   public <E> void assertNoneSatisfy(AssertionInfo info, Iterable<? extends E> actual, Consumer<? super E> restrictions) {
     assertNotNull(info, actual);
     requireNonNull(restrictions, "The Consumer<T> expressing the restrictions must not be null");
-    List<E> erroneousElements = stream(actual).map(element -> failsRestrictions(element, restrictions))
-                                              .filter(Optional::isPresent)
-                                              .map(Optional::get)
-                                              .collect(toList());
+    List<E> erroneousElements = elements(actual).map(element -> failsRestrictions(element, restrictions))
+                                                .filter(Optional::isPresent)
+                                                .map(Optional::get)
+                                                .collect(toList());
     if (erroneousElements.size() > 0) throw failures.failure(info, noElementsShouldSatisfy(actual, erroneousElements));
   }
 
@@ -1234,21 +1212,20 @@ public class Iterables {
                                  PredicateDescription predicateDescription) {
     assertNotNull(info, actual);
     predicates.assertIsNotNull(predicate);
-    stream(actual).filter(predicate)
-                  .findFirst()
-                  .orElseThrow(() -> failures.failure(info, anyElementShouldMatch(actual, predicateDescription)));
+    if (!elements(actual).anyMatch(predicate))
+      throw failures.failure(info, anyElementShouldMatch(actual, predicateDescription));
   }
 
   public <E> void assertNoneMatch(AssertionInfo info, Iterable<? extends E> actual, Predicate<? super E> predicate,
                                   PredicateDescription predicateDescription) {
     assertNotNull(info, actual);
     predicates.assertIsNotNull(predicate);
-    stream(actual).filter(predicate)
-                  .findFirst()
-                  .ifPresent(e -> {
-                    throw failures.failure(info, noElementsShouldMatch(actual, e,
-                                                                       predicateDescription));
-                  });
+    elements(actual).filter(predicate)
+                    .findFirst()
+                    .ifPresent(e -> {
+                      throw failures.failure(info, noElementsShouldMatch(actual, e,
+                                                                         predicateDescription));
+                    });
   }
 
   /**
@@ -1276,20 +1253,11 @@ public class Iterables {
   public void assertContainsExactlyInAnyOrder(AssertionInfo info, Iterable<?> actual, Object[] values) {
     checkIsNotNull(values);
     assertNotNull(info, actual);
-    List<Object> notExpected = newArrayList(actual);
-    List<Object> notFound = newArrayList(values);
-
-    for (Object value : values) {
-      if (iterableContains(notExpected, value)) {
-        iterablesRemoveFirst(notExpected, value);
-        iterablesRemoveFirst(notFound, value);
-      }
-    }
-
-    if (notExpected.isEmpty() && notFound.isEmpty()) return;
+    IterableDiff diff = diff(newArrayList(actual), asList(values), comparisonStrategy);
+    if (!diff.differencesFound()) return;
 
     throw failures.failure(info,
-                           shouldContainExactlyInAnyOrder(actual, values, notFound, notExpected, comparisonStrategy));
+                           shouldContainExactlyInAnyOrder(actual, values, diff.missing, diff.unexpected, comparisonStrategy));
   }
 
   void assertNotNull(AssertionInfo info, Iterable<?> actual) {
@@ -1301,11 +1269,26 @@ public class Iterables {
   }
 
   private <E> List<E> notSatisfyingCondition(Iterable<? extends E> actual, Condition<? super E> condition) {
-    return stream(actual).filter(o -> !condition.matches(o)).collect(toList());
+    return elements(actual).filter(o -> !condition.matches(o)).collect(toList());
   }
 
   private <E> List<E> satisfiesCondition(Iterable<? extends E> actual, Condition<? super E> condition) {
-    return stream(actual).filter(o -> condition.matches(o)).collect(toList());
+    return elements(actual).filter(o -> condition.matches(o)).collect(toList());
+  }
+
+  // counting stops as soon as maxCount matching elements are found since the outcome can't change afterwards
+  private <E> long countSatisfyingCondition(Iterable<? extends E> actual, Condition<? super E> condition, long maxCount) {
+    return elements(actual).unordered()
+                           .filter(o -> condition.matches(o))
+                           .limit(Math.max(maxCount, 0))
+                           .count();
+  }
+
+  @SuppressWarnings("unchecked")
+  private <E> Stream<E> elements(Iterable<? extends E> actual) {
+    // only RandomAccess lists can be split evenly, other iterables are evaluated sequentially
+    if (parallel && actual instanceof List && actual instanceof RandomAccess) return ((List<E>) actual).parallelStream();
+    return stream((Iterable<E>) actual);
   }
 
   public static <T> Predicate<T> byPassingAssertions(Consumer<? super T> assertions) {
@@ -0,0 +1,140 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2020 the original author or authors.
+ */
+package org.assertj.core.internal;
+
+import static java.nio.file.StandardOpenOption.READ;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.nio.file.Path;
+
+/**
+ * Counts the lines of a text read from a {@link CharSequence}, a {@link Path} or an {@link InputStream} without creating
+ * a {@code String} per line.
+ * <p>
+ * A line is considered to be <i>terminated</i> by any one of a line feed ({@code '\n'}), a carriage return ({@code '\r'}),
+ * or a carriage return followed immediately by a linefeed, a last unterminated line being counted too, which gives the
+ * same count as reading the text with a {@link java.io.LineNumberReader LineNumberReader}.
+ * <p>
+ * Files and streams are read and decoded chunk by chunk in fixed size buffers, the text is thus never held in memory as
+ * a whole. Files are not memory-mapped as a mapping can't be released on demand and keeps the file locked on some
+ * platforms until it is garbage collected. Malformed or unmappable input is reported with a
+ * {@link java.nio.charset.CharacterCodingException CharacterCodingException} for both, like
+ * {@link java.nio.file.Files#newBufferedReader(Path, Charset)} does.
+ */
+final class LineCounter {
+
+  private static final int BUFFER_SIZE = 8192;
+
+  private int terminatedLines;
+  private boolean inLine;
+  private boolean skipLineFeed;
+
+  private LineCounter() {}
+
+  static int countLines(CharSequence text) {
+    LineCounter counter = new LineCounter();
+    counter.scan(text);
+    return counter.lineCount();
+  }
+
+  static int countLines(Path path, Charset charset) throws IOException {
+    try (FileChannel channel = FileChannel.open(path, READ)) {
+      return countLines(channel, charset);
+    }
+  }
+
+  static int countLines(InputStream stream, Charset charset) throws IOException {
+    // the stream is not closed, it is owned by the caller
+    return countLines(Channels.newChannel(stream), charset);
+  }
+
+  private static int countLines(ReadableByteChannel channel, Charset charset) throws IOException {
+    LineCounter counter = new LineCounter();
+    CharsetDecoder decoder = charset.newDecoder();
+    ByteBuffer bytes = ByteBuffer.allocateDirect(BUFFER_SIZE);
+    CharBuffer chars = CharBuffer.allocate(BUFFER_SIZE);
+    boolean endOfInput;
+    do {
+      endOfInput = channel.read(bytes) == -1;
+      flip(bytes);
+      counter.decode(decoder, bytes, chars, endOfInput);
+      // bytes of a character split across two reads are kept to be decoded with the next ones
+      bytes.compact();
+    } while (!endOfInput);
+    counter.flush(decoder, chars);
+    return counter.lineCount();
+  }
+
+  private void decode(CharsetDecoder decoder, ByteBuffer bytes, CharBuffer chars, boolean endOfInput) throws IOException {
+    CoderResult result;
+    do {
+      result = decoder.decode(bytes, chars, endOfInput);
+      if (result.isError()) result.throwException();
+      scanAndClear(chars);
+    } while (result.isOverflow());
+  }
+
+  private void flush(CharsetDecoder decoder, CharBuffer chars) {
+    while (decoder.flush(chars).isOverflow()) {
+      scanAndClear(chars);
+    }
+    scanAndClear(chars);
+  }
+
+  private void scanAndClear(CharBuffer chars) {
+    flip(chars);
+    scan(chars);
+    clear(chars);
+  }
+
+  // called on Buffer as its subclasses override flip and clear from Java 9, which would not link on Java 8
+  private static void flip(Buffer buffer) {
+    buffer.flip();
+  }
+
+  private static void clear(Buffer buffer) {
+    buffer.clear();
+  }
+
+  private void scan(CharSequence text) {
+    for (int i = 0, length = text.length(); i < length; i++) {
+      char c = text.charAt(i);
+      if (c == '\n') {
+        if (!skipLineFeed) terminatedLines++;
+        inLine = false;
+        skipLineFeed = false;
+      } else if (c == '\r') {
+        terminatedLines++;
+        inLine = false;
+        skipLineFeed = true;
+      } else {
+        inLine = true;
+        skipLineFeed = false;
+      }
+    }
+  }
+
+  private int lineCount() {
+    return inLine ? terminatedLines + 1 : terminatedLines;
+  }
+}
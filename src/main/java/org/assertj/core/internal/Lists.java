@@ -13,7 +13,6 @@
 package org.assertj.core.internal;
 
 import static java.util.Objects.requireNonNull;
-import static java.util.stream.Collectors.toList;
 import static org.assertj.core.error.ShouldBeAtIndex.shouldBeAtIndex;
 import static org.assertj.core.error.ShouldBeSorted.shouldBeSorted;
 import static org.assertj.core.error.ShouldBeSorted.shouldBeSortedAccordingToGivenComparator;
@@ -25,7 +24,9 @@ import static org.assertj.core.error.ShouldNotContainAtIndex.shouldNotContainAtI
 import static org.assertj.core.internal.CommonValidations.checkIndexValueIsValid;
 
 import java.util.Comparator;
+import java.util.Iterator;
 import java.util.List;
+import java.util.RandomAccess;
 import java.util.function.Consumer;
 
 import org.assertj.core.api.AssertionInfo;
@@ -46,6 +47,9 @@ import org.assertj.core.util.VisibleForTesting;
 public class Lists {
 
   private static final Lists INSTANCE = new Lists();
+  private static final int NOT_FOUND = -1;
+  @SuppressWarnings("unchecked")
+  private static final Comparator<Object> NATURAL_ORDER = (element, other) -> ((Comparable<Object>) element).compareTo(other);
 
   /**
    * Returns the singleton instance of this class.
@@ -146,16 +150,15 @@ public class Lists {
       assertIsSortedAccordingToComparator(info, actual, comparator);
       return;
     }
+    // sorted assertion is only relevant if elements are Comparable, all of them are checked before comparing any
+    for (Object element : actual) {
+      if (element != null && !(element instanceof Comparable))
+        throw failures.failure(info, shouldHaveMutuallyComparableElements(actual));
+    }
     try {
-      // sorted assertion is only relevant if elements are Comparable, we assume they are
-      List<Comparable<Object>> comparableList = listOfComparableElements(actual);
-      // array with 0 or 1 element are considered sorted.
-      if (comparableList.size() <= 1) return;
-      for (int i = 0; i < comparableList.size() - 1; i++) {
-        // array is sorted in ascending order iif element i is less or equal than element i+1
-        if (comparableList.get(i).compareTo(comparableList.get(i + 1)) > 0)
-          throw failures.failure(info, shouldBeSorted(i, actual));
-      }
+      // list with 0 or 1 element are considered sorted.
+      int unsortedIndex = indexOfFirstUnsortedElement(actual, NATURAL_ORDER);
+      if (unsortedIndex != NOT_FOUND) throw failures.failure(info, shouldBeSorted(unsortedIndex, actual));
     } catch (ClassCastException e) {
       // elements are either not Comparable or not mutually Comparable (e.g. List<Object> containing String and Integer)
       throw failures.failure(info, shouldHaveMutuallyComparableElements(actual));
@@ -190,11 +193,9 @@ public class Lists {
         rawComparator.compare(actual.get(0), actual.get(0));
         return;
       }
-      for (int i = 0; i < actual.size() - 1; i++) {
-        // List is sorted in comparator defined order if current element is less or equal than next element
-        if (rawComparator.compare(actual.get(i), actual.get(i + 1)) > 0)
-          throw failures.failure(info, shouldBeSortedAccordingToGivenComparator(i, actual, comparator));
-      }
+      int unsortedIndex = indexOfFirstUnsortedElement(actual, rawComparator);
+      if (unsortedIndex != NOT_FOUND)
+        throw failures.failure(info, shouldBeSortedAccordingToGivenComparator(unsortedIndex, actual, comparator));
     } catch (ClassCastException e) {
       throw failures.failure(info, shouldHaveComparableElementsAccordingToGivenComparator(actual, comparator));
     }
@@ -255,9 +256,27 @@ public class Lists {
     return condition.matches(actual.get(index.value));
   }
 
-  @SuppressWarnings("unchecked")
-  private static List<Comparable<Object>> listOfComparableElements(List<?> collection) {
-    return collection.stream().map(object -> (Comparable<Object>) object).collect(toList());
+  /**
+   * Returns the index of the first element greater than the next one according to the given comparator, -1 if the list is
+   * sorted. {@link RandomAccess} lists are read by index, other lists are iterated over once.
+   */
+  private static <T> int indexOfFirstUnsortedElement(List<T> list, Comparator<? super T> comparator) {
+    if (list instanceof RandomAccess) {
+      for (int i = 0; i < list.size() - 1; i++) {
+        // list is sorted if current element is less or equal than next element
+        if (comparator.compare(list.get(i), list.get(i + 1)) > 0) return i;
+      }
+      return NOT_FOUND;
+    }
+    Iterator<T> iterator = list.iterator();
+    if (!iterator.hasNext()) return NOT_FOUND;
+    T element = iterator.next();
+    for (int i = 0; iterator.hasNext(); i++) {
+      T nextElement = iterator.next();
+      if (comparator.compare(element, nextElement) > 0) return i;
+      element = nextElement;
+    }
+    return NOT_FOUND;
   }
 
   private void assertNotNull(AssertionInfo info, List<?> actual) {
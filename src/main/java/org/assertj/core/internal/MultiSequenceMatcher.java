@@ -0,0 +1,198 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2020 the original author or authors.
+ */
+package org.assertj.core.internal;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+
+/**
+ * Finds which of many sequences occur in a text in a single scan of the text with the Aho-Corasick algorithm, each text
+ * character being looked at a constant number of times on average, whatever the number of sequences.
+ * <p>
+ * The sequences are stored in a trie whose states are the sequences prefixes, each state knows the state of its longest
+ * proper suffix in the trie to resume from when the next character does not extend the current match.
+ * <p>
+ * Sequences and text are compared with {@link String#equals(Object)} semantics, the case insensitive variant compares
+ * the {@link String#toLowerCase() lower case} versions of them.
+ */
+final class MultiSequenceMatcher {
+
+  private static final int ROOT = 0;
+  private static final int NONE = -1;
+
+  private final boolean ignoringCase;
+  // transitions of each state, sorted by character to be binary searched
+  private final char[][] transitionCharacters;
+  private final int[][] transitionStates;
+  // the state of the longest proper suffix of each state prefix
+  private final int[] fallbackStates;
+  // the closest state in the fallback chain of each state that ends some sequences, NONE if there is none
+  private final int[] outputLinks;
+  // the sequences ending at each state
+  private final String[][] outputs;
+  private final int distinctSequencesCount;
+
+  private MultiSequenceMatcher(CharSequence[] sequences, boolean ignoringCase) {
+    this.ignoringCase = ignoringCase;
+    List<Map<Character, Integer>> transitions = new ArrayList<>();
+    List<Set<String>> sequencesByState = new ArrayList<>();
+    transitions.add(new HashMap<>());
+    sequencesByState.add(new HashSet<>());
+    Set<String> distinctSequences = new HashSet<>();
+    for (CharSequence sequence : sequences) {
+      String string = fold(sequence.toString());
+      distinctSequences.add(string);
+      int state = ROOT;
+      for (int i = 0; i < string.length(); i++) {
+        Map<Character, Integer> stateTransitions = transitions.get(state);
+        Integer next = stateTransitions.get(string.charAt(i));
+        if (next == null) {
+          next = transitions.size();
+          stateTransitions.put(string.charAt(i), next);
+          transitions.add(new HashMap<>());
+          sequencesByState.add(new HashSet<>());
+        }
+        state = next;
+      }
+      sequencesByState.get(state).add(string);
+    }
+    distinctSequencesCount = distinctSequences.size();
+    int statesCount = transitions.size();
+    transitionCharacters = new char[statesCount][];
+    transitionStates = new int[statesCount][];
+    outputs = new String[statesCount][];
+    for (int state = 0; state < statesCount; state++) {
+      Map<Character, Integer> stateTransitions = transitions.get(state);
+      char[] characters = new char[stateTransitions.size()];
+      int i = 0;
+      for (Character character : stateTransitions.keySet()) {
+        characters[i++] = character;
+      }
+      Arrays.sort(characters);
+      int[] states = new int[characters.length];
+      for (i = 0; i < characters.length; i++) {
+        states[i] = stateTransitions.get(characters[i]);
+      }
+      transitionCharacters[state] = characters;
+      transitionStates[state] = states;
+      outputs[state] = sequencesByState.get(state).toArray(new String[0]);
+    }
+    fallbackStates = new int[statesCount];
+    outputLinks = new int[statesCount];
+    computeFallbackStatesAndOutputLinks();
+  }
+
+  /**
+   * Creates a matcher for the given sequences.
+   *
+   * @param sequences the sequences to look for, must not contain null
+   * @return the created matcher
+   */
+  static MultiSequenceMatcher of(CharSequence[] sequences) {
+    return new MultiSequenceMatcher(sequences, false);
+  }
+
+  /**
+   * Creates a matcher for the given sequences ignoring case considerations.
+   *
+   * @param sequences the sequences to look for, must not contain null
+   * @return the created matcher
+   */
+  static MultiSequenceMatcher ofIgnoringCase(CharSequence[] sequences) {
+    return new MultiSequenceMatcher(sequences, true);
+  }
+
+  // states are visited in breadth first order so that shorter prefixes (thus fallback ones) are computed first
+  private void computeFallbackStatesAndOutputLinks() {
+    fallbackStates[ROOT] = ROOT;
+    outputLinks[ROOT] = NONE;
+    Queue<Integer> states = new ArrayDeque<>();
+    for (int child : transitionStates[ROOT]) {
+      fallbackStates[child] = ROOT;
+      outputLinks[child] = outputs[ROOT].length > 0 ? ROOT : NONE;
+      states.add(child);
+    }
+    while (!states.isEmpty()) {
+      int state = states.remove();
+      for (int i = 0; i < transitionCharacters[state].length; i++) {
+        char character = transitionCharacters[state][i];
+        int child = transitionStates[state][i];
+        int fallbackState = fallbackStates[state];
+        while (fallbackState != ROOT && transition(fallbackState, character) == NONE) {
+          fallbackState = fallbackStates[fallbackState];
+        }
+        int childFallbackState = transition(fallbackState, character);
+        if (childFallbackState == NONE) childFallbackState = ROOT;
+        fallbackStates[child] = childFallbackState;
+        outputLinks[child] = outputs[childFallbackState].length > 0 ? childFallbackState : outputLinks[childFallbackState];
+        states.add(child);
+      }
+    }
+  }
+
+  private int transition(int state, char character) {
+    int index = Arrays.binarySearch(transitionCharacters[state], character);
+    return index < 0 ? NONE : transitionStates[state][index];
+  }
+
+  /**
+   * Returns the sequences found in the given text, the scan stops as soon as all the sequences have been found.
+   *
+   * @param text the text to look sequences in
+   * @return the sequences found in the given text, in lower case if the matcher ignores case.
+   */
+  Set<String> sequencesFoundIn(String text) {
+    Set<String> found = new HashSet<>();
+    // each state fallback chain is reported once, later visits would not find new sequences
+    boolean[] reportedStates = new boolean[fallbackStates.length];
+    report(ROOT, found, reportedStates); // empty sequences
+    String foldedText = fold(text);
+    int state = ROOT;
+    for (int i = 0; i < foldedText.length() && found.size() < distinctSequencesCount; i++) {
+      char character = foldedText.charAt(i);
+      int next = transition(state, character);
+      while (next == NONE && state != ROOT) {
+        state = fallbackStates[state];
+        next = transition(state, character);
+      }
+      state = next == NONE ? ROOT : next;
+      report(state, found, reportedStates);
+    }
+    return found;
+  }
+
+  private void report(int state, Set<String> found, boolean[] reportedStates) {
+    for (int reported = state; reported != NONE && !reportedStates[reported]; reported = outputLinks[reported]) {
+      reportedStates[reported] = true;
+      found.addAll(Arrays.asList(outputs[reported]));
+    }
+  }
+
+  /**
+   * Returns the given sequence as this matcher compares it.
+   *
+   * @param sequence the sequence to fold
+   * @return the sequence as this matcher compares it.
+   */
+  String fold(String sequence) {
+    return ignoringCase ? sequence.toLowerCase() : sequence;
+  }
+
+}
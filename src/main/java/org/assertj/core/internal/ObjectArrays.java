@@ -63,6 +63,24 @@ public class ObjectArrays {
     this.arrays = arrays;
   }
 
+  /**
+   * Returns an {@code ObjectArrays} with the same comparison strategy that evaluates element-wise conditions in
+   * parallel, see {@link Arrays#inParallel()}.
+   *
+   * @return an {@code ObjectArrays} evaluating elements in parallel.
+   */
+  public ObjectArrays inParallel() {
+    if (arrays.isParallel()) return this;
+    ObjectArrays parallelObjectArrays = new ObjectArrays(arrays.getComparisonStrategy());
+    parallelObjectArrays.setArrays(arrays.inParallel());
+    return parallelObjectArrays;
+  }
+
+  @VisibleForTesting
+  public boolean isParallel() {
+    return arrays.isParallel();
+  }
+
   @VisibleForTesting
   public Comparator<?> getComparator() {
     return arrays.getComparator();
@@ -16,6 +16,7 @@ import static java.lang.String.format;
 import static java.util.Arrays.asList;
 import static java.util.Arrays.stream;
 import static java.util.Objects.requireNonNull;
+import static java.util.stream.Collectors.collectingAndThen;
 import static java.util.stream.Collectors.toCollection;
 import static java.util.stream.Collectors.toList;
 import static java.util.stream.Collectors.toSet;
@@ -55,12 +56,14 @@ import static org.assertj.core.util.Sets.newLinkedHashSet;
 import java.lang.reflect.Field;
 import java.lang.reflect.Modifier;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.assertj.core.api.AssertionInfo;
 import org.assertj.core.internal.DeepDifference.Difference;
@@ -81,6 +84,7 @@ import org.assertj.core.util.introspection.PropertySupport;
 public class Objects {
 
   private static final Objects INSTANCE = new Objects();
+  private static final Map<Class<?>, Set<String>> FIELDS_NAMES_CACHE = new ConcurrentHashMap<>();
   @VisibleForTesting
   final PropertySupport propertySupport = PropertySupport.instance();
   private final ComparisonStrategy comparisonStrategy;
@@ -792,10 +796,23 @@ public class Objects {
     return declaredFields;
   }
 
+  /**
+   * Returns the names of the declared fields of given class and its superclasses (see
+   * {@link #getDeclaredFieldsIncludingInherited(Class)}).
+   * <p>
+   * The names are resolved once per class, the returned set is unmodifiable.
+   *
+   * @param clazz the class we want the declared fields names.
+   * @return the names of the declared fields of given class and its superclasses.
+   */
   public static Set<String> getFieldsNames(Class<?> clazz) {
+    return FIELDS_NAMES_CACHE.computeIfAbsent(clazz, Objects::resolveFieldsNames);
+  }
+
+  private static Set<String> resolveFieldsNames(Class<?> clazz) {
     return getDeclaredFieldsIncludingInherited(clazz).stream()
                                                      .map(Field::getName)
-                                                     .collect(toSet());
+                                                     .collect(collectingAndThen(toSet(), Collections::unmodifiableSet));
   }
 
   /**
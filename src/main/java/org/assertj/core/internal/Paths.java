@@ -13,7 +13,6 @@
 package org.assertj.core.internal;
 
 import static java.lang.String.format;
-import static java.nio.file.Files.readAllBytes;
 import static java.nio.file.Files.walk;
 import static java.util.Objects.requireNonNull;
 import static java.util.stream.Collectors.toList;
@@ -45,6 +44,7 @@ import static org.assertj.core.error.ShouldNotBeEmpty.shouldNotBeEmpty;
 import static org.assertj.core.error.ShouldNotContain.directoryShouldNotContain;
 import static org.assertj.core.error.ShouldNotExist.shouldNotExist;
 import static org.assertj.core.error.ShouldStartWithPath.shouldStartWith;
+import static org.assertj.core.internal.CommonValidations.checkLineCounts;
 import static org.assertj.core.util.Preconditions.checkArgument;
 
 import java.io.IOException;
@@ -289,6 +289,17 @@ public class Paths {
     }
   }
 
+  public void assertHasLineCount(AssertionInfo info, Path actual, int expectedLineCount, Charset charset) {
+    assertIsReadable(info, actual);
+    int lineCount;
+    try {
+      lineCount = LineCounter.countLines(actual, charset);
+    } catch (IOException e) {
+      throw new UncheckedIOException(format("Unable to count lines of path:<%s>", actual), e);
+    }
+    checkLineCounts(actual, lineCount, expectedLineCount, info);
+  }
+
   public void assertHasBinaryContent(AssertionInfo info, Path actual, byte[] expected) {
     requireNonNull(expected, "The binary content to compare to should not be null");
     assertIsReadable(info, actual);
@@ -308,7 +319,7 @@ public class Paths {
     checkArgument(nioFilesWrapper.isReadable(expected), "The given Path <%s> to compare actual content to should be readable",
                   expected);
     try {
-      BinaryDiffResult binaryDiffResult = binaryDiff.diff(actual, readAllBytes(expected));
+      BinaryDiffResult binaryDiffResult = binaryDiff.diff(actual, expected);
       if (binaryDiffResult.hasDiff()) throw failures.failure(info, shouldHaveBinaryContent(actual, binaryDiffResult));
     } catch (IOException ioe) {
       throw new UncheckedIOException(format(UNABLE_TO_COMPARE_PATH_CONTENTS, actual, expected), ioe);
@@ -477,7 +488,7 @@ public class Paths {
 
   private PathMatcher pathMatcher(AssertionInfo info, Path actual, String syntaxAndPattern) {
     assertNotNull(info, actual);
-    return actual.getFileSystem().getPathMatcher(syntaxAndPattern);
+    return CompiledPatternCache.instance().pathMatcher(actual.getFileSystem(), syntaxAndPattern);
   }
 
   private static void assertNotNull(final AssertionInfo info, final Path actual) {
@@ -0,0 +1,124 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2020 the original author or authors.
+ */
+package org.assertj.core.internal;
+
+/**
+ * Looks for a sequence in elements given one at a time, the elements can thus come from a singly-traversable
+ * {@link Iterable}.
+ * <p>
+ * With the standard comparison strategy, the Knuth-Morris-Pratt algorithm is used, each element being compared with the
+ * sequence elements a constant number of times on average, whatever the sequence size. This requires equality to be
+ * transitive which is not the case of every comparator (ex: comparing with a precision), with other comparison
+ * strategies the last {@code sequence.length} elements are kept and compared to the whole sequence.
+ */
+class SequenceMatcher {
+
+  private final Object[] sequence;
+  private final ComparisonStrategy comparisonStrategy;
+  private final boolean sequenceElementFirst;
+  // for each sequence prefix, the size of its longest proper prefix which is also a suffix of it, that is the size of the
+  // match to resume from when the next element does not extend the current one, null if not using Knuth-Morris-Pratt.
+  private final int[] fallbackMatchSizes;
+  private int matchSize;
+  // the last sequence.length elements given when not using Knuth-Morris-Pratt, the oldest one being at lastElementsStart
+  private final Object[] lastElements;
+  private int lastElementsStart;
+  private int givenElementsCount;
+
+  /**
+   * Creates a matcher for the given non empty sequence, comparing the given elements with the sequence ones, i.e. calling
+   * {@code comparisonStrategy.areEqual(element, sequenceElement)}.
+   *
+   * @param sequence the sequence to look for
+   * @param comparisonStrategy the comparison strategy used to compare elements with the sequence ones
+   */
+  SequenceMatcher(Object[] sequence, ComparisonStrategy comparisonStrategy) {
+    this(sequence, comparisonStrategy, false);
+  }
+
+  private SequenceMatcher(Object[] sequence, ComparisonStrategy comparisonStrategy, boolean sequenceElementFirst) {
+    this.sequence = sequence;
+    this.comparisonStrategy = comparisonStrategy;
+    this.sequenceElementFirst = sequenceElementFirst;
+    boolean knuthMorrisPratt = comparisonStrategy.isStandard();
+    this.fallbackMatchSizes = knuthMorrisPratt ? fallbackMatchSizes(sequence, comparisonStrategy) : null;
+    this.lastElements = knuthMorrisPratt ? null : new Object[sequence.length];
+  }
+
+  /**
+   * Creates a matcher for the given non empty sequence, comparing the sequence elements with the given ones, i.e. calling
+   * {@code comparisonStrategy.areEqual(sequenceElement, element)}.
+   *
+   * @param sequence the sequence to look for
+   * @param comparisonStrategy the comparison strategy used to compare the sequence elements with the given ones
+   * @return the created matcher
+   */
+  static SequenceMatcher comparingSequenceElementsFirst(Object[] sequence, ComparisonStrategy comparisonStrategy) {
+    return new SequenceMatcher(sequence, comparisonStrategy, true);
+  }
+
+  private static int[] fallbackMatchSizes(Object[] sequence, ComparisonStrategy comparisonStrategy) {
+    int[] fallbackMatchSizes = new int[sequence.length];
+    int matchSize = 0;
+    for (int i = 1; i < sequence.length; i++) {
+      while (matchSize > 0 && !comparisonStrategy.areEqual(sequence[i], sequence[matchSize])) {
+        matchSize = fallbackMatchSizes[matchSize - 1];
+      }
+      if (comparisonStrategy.areEqual(sequence[i], sequence[matchSize])) matchSize++;
+      fallbackMatchSizes[i] = matchSize;
+    }
+    return fallbackMatchSizes;
+  }
+
+  /**
+   * Gives the next element to the matcher.
+   *
+   * @param element the element following the previously given ones
+   * @return true if the sequence ends with this element, i.e. the last {@code sequence.length} given elements match the
+   *         sequence, false otherwise.
+   */
+  boolean completesSequence(Object element) {
+    return fallbackMatchSizes == null ? lastElementsMatchSequence(element) : extendsMatch(element);
+  }
+
+  private boolean extendsMatch(Object element) {
+    if (matchSize == sequence.length) matchSize = fallbackMatchSizes[matchSize - 1];
+    while (matchSize > 0 && !matches(element, sequence[matchSize])) {
+      matchSize = fallbackMatchSizes[matchSize - 1];
+    }
+    if (matches(element, sequence[matchSize])) matchSize++;
+    return matchSize == sequence.length;
+  }
+
+  private boolean lastElementsMatchSequence(Object element) {
+    if (givenElementsCount < sequence.length) {
+      lastElements[givenElementsCount++] = element;
+      if (givenElementsCount < sequence.length) return false;
+    } else {
+      // replace the oldest element
+      lastElements[lastElementsStart] = element;
+      lastElementsStart = (lastElementsStart + 1) % sequence.length;
+    }
+    for (int i = 0; i < sequence.length; i++) {
+      if (!matches(lastElements[(lastElementsStart + i) % sequence.length], sequence[i])) return false;
+    }
+    return true;
+  }
+
+  private boolean matches(Object element, Object sequenceElement) {
+    return sequenceElementFirst
+        ? comparisonStrategy.areEqual(sequenceElement, element)
+        : comparisonStrategy.areEqual(element, sequenceElement);
+  }
+
+}
@@ -0,0 +1,152 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2020 the original author or authors.
+ */
+package org.assertj.core.internal;
+
+import static java.lang.Double.doubleToLongBits;
+import static java.lang.Float.floatToIntBits;
+
+/**
+ * The elements of a primitive array as sorted {@code long} keys, used to check primitive arrays against each other with
+ * the standard comparison strategy without boxing their elements.
+ * <p>
+ * Two elements have the same key if and only if their boxed values are equal, floating point elements are thus keyed by
+ * their bits like {@link Float#equals(Object)} and {@link Double#equals(Object)} do ({@code NaN} is equal to itself,
+ * {@code 0.0} is not equal to {@code -0.0}).
+ */
+final class SortedPrimitiveElements {
+
+  private final long[] sortedKeys;
+
+  private SortedPrimitiveElements(long[] sortedKeys) {
+    this.sortedKeys = sortedKeys;
+  }
+
+  /**
+   * Returns whether both arrays are primitive arrays of the same type, which is what the primitive checks require.
+   */
+  static boolean areComparablePrimitiveArrays(Object actual, Object other) {
+    return actual != null && other != null && actual.getClass() == other.getClass()
+           && actual.getClass().getComponentType().isPrimitive();
+  }
+
+  static SortedPrimitiveElements sortedElementsOf(Object primitiveArray) {
+    long[] keys = keysOf(primitiveArray);
+    java.util.Arrays.sort(keys);
+    return new SortedPrimitiveElements(keys);
+  }
+
+  /**
+   * Returns the keys of the given primitive array elements in the array order.
+   */
+  static long[] keysOf(Object primitiveArray) {
+    if (primitiveArray instanceof int[]) {
+      int[] array = (int[]) primitiveArray;
+      long[] keys = new long[array.length];
+      for (int i = 0; i < array.length; i++) keys[i] = array[i];
+      return keys;
+    }
+    if (primitiveArray instanceof long[]) return ((long[]) primitiveArray).clone();
+    if (primitiveArray instanceof double[]) {
+      double[] array = (double[]) primitiveArray;
+      long[] keys = new long[array.length];
+      for (int i = 0; i < array.length; i++) keys[i] = doubleToLongBits(array[i]);
+      return keys;
+    }
+    if (primitiveArray instanceof float[]) {
+      float[] array = (float[]) primitiveArray;
+      long[] keys = new long[array.length];
+      for (int i = 0; i < array.length; i++) keys[i] = floatToIntBits(array[i]);
+      return keys;
+    }
+    if (primitiveArray instanceof short[]) {
+      short[] array = (short[]) primitiveArray;
+      long[] keys = new long[array.length];
+      for (int i = 0; i < array.length; i++) keys[i] = array[i];
+      return keys;
+    }
+    if (primitiveArray instanceof byte[]) {
+      byte[] array = (byte[]) primitiveArray;
+      long[] keys = new long[array.length];
+      for (int i = 0; i < array.length; i++) keys[i] = array[i];
+      return keys;
+    }
+    if (primitiveArray instanceof char[]) {
+      char[] array = (char[]) primitiveArray;
+      long[] keys = new long[array.length];
+      for (int i = 0; i < array.length; i++) keys[i] = array[i];
+      return keys;
+    }
+    boolean[] array = (boolean[]) primitiveArray;
+    long[] keys = new long[array.length];
+    for (int i = 0; i < array.length; i++) keys[i] = array[i] ? 1 : 0;
+    return keys;
+  }
+
+  boolean contains(long key) {
+    return java.util.Arrays.binarySearch(sortedKeys, key) >= 0;
+  }
+
+  boolean containsAll(long[] keys) {
+    for (long key : keys) {
+      if (!contains(key)) return false;
+    }
+    return true;
+  }
+
+  boolean containsNoneOf(long[] keys) {
+    for (long key : keys) {
+      if (contains(key)) return false;
+    }
+    return true;
+  }
+
+  boolean containsEachOnlyOnce(long[] keys) {
+    for (long key : keys) {
+      int index = java.util.Arrays.binarySearch(sortedKeys, key);
+      if (index < 0) return false;
+      // equal keys are adjacent
+      if (index > 0 && sortedKeys[index - 1] == key) return false;
+      if (index < sortedKeys.length - 1 && sortedKeys[index + 1] == key) return false;
+    }
+    return true;
+  }
+
+  boolean hasDuplicates() {
+    for (int i = 1; i < sortedKeys.length; i++) {
+      if (sortedKeys[i] == sortedKeys[i - 1]) return true;
+    }
+    return false;
+  }
+
+  /**
+   * Returns whether both elements are equal, duplicates included.
+   */
+  boolean hasSameElementsAs(SortedPrimitiveElements other) {
+    return java.util.Arrays.equals(sortedKeys, other.sortedKeys);
+  }
+
+  /**
+   * Returns whether both elements are equal, duplicates aside.
+   */
+  boolean hasSameDistinctElementsAs(SortedPrimitiveElements other) {
+    int i = 0;
+    int j = 0;
+    while (i < sortedKeys.length && j < other.sortedKeys.length) {
+      if (sortedKeys[i] != other.sortedKeys[j]) return false;
+      long key = sortedKeys[i];
+      while (i < sortedKeys.length && sortedKeys[i] == key) i++;
+      while (j < other.sortedKeys.length && other.sortedKeys[j] == key) j++;
+    }
+    return i == sortedKeys.length && j == other.sortedKeys.length;
+  }
+}
@@ -162,6 +162,13 @@ public class StandardComparisonStrategy extends AbstractComparisonStrategy {
     return string.contains(sequence);
   }
 
+  @Override
+  public int stringIndexOf(String string, String sequence, int fromIndex) {
+    // String.indexOf returns string length for an empty sequence searched past the end
+    if (fromIndex > string.length() - sequence.length()) return -1;
+    return string.indexOf(sequence, fromIndex);
+  }
+
   @SuppressWarnings({ "rawtypes", "unchecked" })
   @Override
   public boolean isGreaterThan(Object actual, Object other) {
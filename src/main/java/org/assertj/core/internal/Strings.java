@@ -72,13 +72,12 @@ import static org.assertj.core.internal.CommonValidations.checkSizes;
 import static org.assertj.core.internal.CommonValidations.hasSameSizeAsCheck;
 import static org.assertj.core.util.xml.XmlStringPrettyFormatter.xmlPrettyFormat;
 
-import java.io.IOException;
-import java.io.LineNumberReader;
-import java.io.StringReader;
 import java.util.Base64;
 import java.util.Comparator;
 import java.util.LinkedHashSet;
 import java.util.Set;
+import java.util.function.IntPredicate;
+import java.util.function.Predicate;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.regex.PatternSyntaxException;
@@ -98,7 +97,10 @@ import org.assertj.core.util.VisibleForTesting;
 public class Strings {
 
   private static final Strings INSTANCE = new Strings();
-  private static final String PUNCTUATION_REGEX = "\\p{Punct}";
+  private static final String PUNCTUATION = "!\"#$%&'()*+,-./:;<=>?@[\\]^_`{|}~";
+  private static final IntPredicate NO_IGNORED_CHARACTER = c -> false;
+  // below this number of values, scanning actual once per value is cheaper than building a multi sequence matcher
+  private static final int MULTI_SEQUENCE_SEARCH_MIN_VALUES = 8;
   private final ComparisonStrategy comparisonStrategy;
   @VisibleForTesting
   Failures failures = Failures.instance();
@@ -400,13 +402,7 @@ public class Strings {
    */
   public void assertHasLineCount(AssertionInfo info, CharSequence actual, int expectedLineCount) {
     assertNotNull(info, actual);
-    LineNumberReader reader = new LineNumberReader(new StringReader(actual.toString()));
-    try {
-      while (reader.readLine() != null);
-    } catch (IOException e) {
-      throw new InputStreamsException(format("Unable to count lines in `%s`", actual), e);
-    }
-    checkLineCounts(actual, reader.getLineNumber(), expectedLineCount, info);
+    checkLineCounts(actual, LineCounter.countLines(actual), expectedLineCount, info);
   }
 
   /**
@@ -460,7 +456,7 @@ public class Strings {
    */
   public void assertContains(AssertionInfo info, CharSequence actual, CharSequence... values) {
     doCommonCheckForCharSequence(info, actual, values);
-    Set<CharSequence> notFound = stream(values).filter(value -> !stringContains(actual, value))
+    Set<CharSequence> notFound = stream(values).filter(containedIn(actual, values).negate())
                                                .collect(toCollection(LinkedHashSet::new));
     if (notFound.isEmpty()) return;
     if (notFound.size() == 1 && values.length == 1) {
@@ -498,6 +494,26 @@ public class Strings {
     return comparisonStrategy.stringContains(actual.toString(), sequence.toString());
   }
 
+  // Looks for many values in a single scan of actual instead of one scan per value, this is only possible with the
+  // standard comparison strategy as comparators can only compare whole strings.
+  private Predicate<CharSequence> containedIn(CharSequence actual, CharSequence[] values) {
+    if (values.length < MULTI_SEQUENCE_SEARCH_MIN_VALUES || !comparisonStrategy.isStandard()) {
+      return value -> stringContains(actual, value);
+    }
+    Set<String> found = MultiSequenceMatcher.of(values).sequencesFoundIn(actual.toString());
+    return value -> found.contains(value.toString());
+  }
+
+  private static Predicate<CharSequence> containedInIgnoringCase(CharSequence actual, CharSequence[] values) {
+    if (values.length < MULTI_SEQUENCE_SEARCH_MIN_VALUES) {
+      String actualLowerCase = actual.toString().toLowerCase();
+      return value -> actualLowerCase.contains(value.toString().toLowerCase());
+    }
+    MultiSequenceMatcher matcher = MultiSequenceMatcher.ofIgnoringCase(values);
+    Set<String> found = matcher.sequencesFoundIn(actual.toString());
+    return value -> found.contains(matcher.fold(value.toString()));
+  }
+
   /**
    * Verifies that the given {@code CharSequence} contains the given sequence, ignoring case considerations.
    *
@@ -531,8 +547,7 @@ public class Strings {
   public void assertDoesNotContainIgnoringCase(AssertionInfo info, CharSequence actual, CharSequence... values) {
     doCommonCheckForCharSequence(info, actual, values);
 
-    String actualLowerCase = actual.toString().toLowerCase();
-    Set<CharSequence> foundValues = stream(values).filter(value -> actualLowerCase.contains(value.toString().toLowerCase()))
+    Set<CharSequence> foundValues = stream(values).filter(containedInIgnoringCase(actual, values))
                                                   .collect(toCollection(LinkedHashSet::new));
     if (foundValues.isEmpty()) return;
     if (foundValues.size() == 1 && values.length == 1) {
@@ -555,7 +570,7 @@ public class Strings {
    */
   public void assertDoesNotContain(AssertionInfo info, CharSequence actual, CharSequence... values) {
     doCommonCheckForCharSequence(info, actual, values);
-    Set<CharSequence> found = stream(values).filter(value -> stringContains(actual, value))
+    Set<CharSequence> found = stream(values).filter(containedIn(actual, values))
                                             .collect(toCollection(LinkedHashSet::new));
     if (found.isEmpty()) return;
     if (found.size() == 1 && values.length == 1) {
@@ -564,6 +579,10 @@ public class Strings {
     throw failures.failure(info, shouldNotContain(actual, values, found, comparisonStrategy));
   }
 
+  private static Pattern compiledPattern(CharSequence regex) {
+    return CompiledPatternCache.instance().pattern(regex.toString());
+  }
+
   private static void checkCharSequenceIsNotNull(CharSequence sequence) {
     requireNonNull(sequence, "The char sequence to look for should not be null");
   }
@@ -608,14 +627,26 @@ public class Strings {
    * @throws AssertionError if the given {@code CharSequence}s are equal after normalizing newlines.
    */
   public void assertIsEqualToNormalizingNewlines(AssertionInfo info, CharSequence actual, CharSequence expected) {
-    String actualNormalized = normalizeNewlines(actual);
-    String expectedNormalized = normalizeNewlines(expected);
-    if (!actualNormalized.equals(expectedNormalized))
+    if (!areEqualNormalizingNewlines(actual, expected))
       throw failures.failure(info, shouldBeEqualIgnoringNewLineDifferences(actual, expected), actual, expected);
   }
 
-  private static String normalizeNewlines(CharSequence actual) {
-    return actual.toString().replace("\r\n", "\n");
+  // compares both sequences as if their "\r\n" were "\n", stopping at the first difference
+  private static boolean areEqualNormalizingNewlines(CharSequence actual, CharSequence expected) {
+    int actualIndex = 0;
+    int expectedIndex = 0;
+    while (actualIndex < actual.length() && expectedIndex < expected.length()) {
+      char actualChar = isCrLf(actual, actualIndex) ? '\n' : actual.charAt(actualIndex);
+      char expectedChar = isCrLf(expected, expectedIndex) ? '\n' : expected.charAt(expectedIndex);
+      if (actualChar != expectedChar) return false;
+      actualIndex += isCrLf(actual, actualIndex) ? 2 : 1;
+      expectedIndex += isCrLf(expected, expectedIndex) ? 2 : 1;
+    }
+    return actualIndex == actual.length() && expectedIndex == expected.length();
+  }
+
+  private static boolean isCrLf(CharSequence text, int index) {
+    return text.charAt(index) == '\r' && index + 1 < text.length() && text.charAt(index + 1) == '\n';
   }
 
   /**
@@ -647,19 +678,17 @@ public class Strings {
   private boolean areEqualIgnoringWhitespace(CharSequence actual, CharSequence expected) {
     if (actual == null) return expected == null;
     checkCharSequenceIsNotNull(expected);
-    return removeAllWhitespaces(actual).equals(removeAllWhitespaces(expected));
-  }
-
-  private String removeAllWhitespaces(CharSequence toBeStripped) {
-    final StringBuilder result = new StringBuilder(toBeStripped.length());
-    for (int i = 0; i < toBeStripped.length(); i++) {
-      char c = toBeStripped.charAt(i);
-      if (isWhitespace(c)) {
-        continue;
+    // compare the non whitespace characters of both sequences, stopping at the first difference
+    int actualIndex = 0;
+    int expectedIndex = 0;
+    while (true) {
+      actualIndex = skipWhitespaces(actual, actualIndex, actual.length(), NO_IGNORED_CHARACTER);
+      expectedIndex = skipWhitespaces(expected, expectedIndex, expected.length(), NO_IGNORED_CHARACTER);
+      if (actualIndex == actual.length() || expectedIndex == expected.length()) {
+        return actualIndex == actual.length() && expectedIndex == expected.length();
       }
-      result.append(c);
+      if (actual.charAt(actualIndex++) != expected.charAt(expectedIndex++)) return false;
     }
-    return result.toString();
   }
 
   /**
@@ -695,23 +724,69 @@ public class Strings {
   private boolean areEqualNormalizingWhitespace(CharSequence actual, CharSequence expected) {
     if (actual == null) return expected == null;
     checkCharSequenceIsNotNull(expected);
-    return normalizeWhitespace(actual).equals(normalizeWhitespace(expected));
+    return areEqualNormalizingWhitespace(actual, expected, NO_IGNORED_CHARACTER);
   }
 
-  private static String normalizeWhitespace(CharSequence toNormalize) {
-    final StringBuilder result = new StringBuilder(toNormalize.length());
-    boolean lastWasSpace = true;
-    for (int i = 0; i < toNormalize.length(); i++) {
-      char c = toNormalize.charAt(i);
-      if (isWhitespace(c)) {
-        if (!lastWasSpace) result.append(' ');
-        lastWasSpace = true;
+  /**
+   * Compares both sequences as if their whitespace was normalized (leading and trailing whitespace removed, other
+   * whitespace sequences replaced by a single space) and their ignored characters removed.
+   * <p>
+   * Both sequences are walked at the same time and the comparison stops at the first difference, no normalized copies
+   * are built.
+   */
+  private static boolean areEqualNormalizingWhitespace(CharSequence actual, CharSequence expected, IntPredicate isIgnored) {
+    int actualEnd = trimmedEnd(actual, isIgnored);
+    int expectedEnd = trimmedEnd(expected, isIgnored);
+    int actualIndex = trimmedStart(actual, actualEnd, isIgnored);
+    int expectedIndex = trimmedStart(expected, expectedEnd, isIgnored);
+    while (actualIndex < actualEnd && expectedIndex < expectedEnd) {
+      char actualChar = actual.charAt(actualIndex);
+      char expectedChar = expected.charAt(expectedIndex);
+      if (isIgnored.test(actualChar)) {
+        actualIndex++;
+      } else if (isIgnored.test(expectedChar)) {
+        expectedIndex++;
+      } else if (isWhitespace(actualChar) && isWhitespace(expectedChar)) {
+        // whitespace sequences are equivalent to a single space, the trimmed sequences don't end with whitespace
+        actualIndex = skipWhitespaces(actual, actualIndex, actualEnd, isIgnored);
+        expectedIndex = skipWhitespaces(expected, expectedIndex, expectedEnd, isIgnored);
+      } else if (actualChar == expectedChar) {
+        actualIndex++;
+        expectedIndex++;
       } else {
-        result.append(c);
-        lastWasSpace = false;
+        return false;
       }
     }
-    return result.toString().trim();
+    // only ignored characters may remain
+    return skipIgnored(actual, actualIndex, actualEnd, isIgnored) == actualEnd
+           && skipIgnored(expected, expectedIndex, expectedEnd, isIgnored) == expectedEnd;
+  }
+
+  private static int skipWhitespaces(CharSequence text, int index, int end, IntPredicate isIgnored) {
+    while (index < end && (isWhitespace(text.charAt(index)) || isIgnored.test(text.charAt(index)))) index++;
+    return index;
+  }
+
+  private static int skipIgnored(CharSequence text, int index, int end, IntPredicate isIgnored) {
+    while (index < end && isIgnored.test(text.charAt(index))) index++;
+    return index;
+  }
+
+  // normalized strings used to be trimmed with String.trim() which removes any character lower than or equal to space
+  private static boolean isTrimmed(char c, IntPredicate isIgnored) {
+    return isWhitespace(c) || c <= ' ' || isIgnored.test(c);
+  }
+
+  private static int trimmedStart(CharSequence text, int end, IntPredicate isIgnored) {
+    int start = 0;
+    while (start < end && isTrimmed(text.charAt(start), isIgnored)) start++;
+    return start;
+  }
+
+  private static int trimmedEnd(CharSequence text, IntPredicate isIgnored) {
+    int end = text.length();
+    while (end > 0 && isTrimmed(text.charAt(end - 1), isIgnored)) end--;
+    return end;
   }
 
   /**
@@ -732,11 +807,12 @@ public class Strings {
   private static boolean areEqualNormalizingPunctuationAndWhitespace(CharSequence actual, CharSequence expected) {
     if (actual == null) return expected == null;
     checkCharSequenceIsNotNull(expected);
-    return normalizeWhitespaceAndPunctuation(actual).equals(normalizeWhitespaceAndPunctuation(expected));
+    return areEqualNormalizingWhitespace(actual, expected, Strings::isPunctuation);
   }
 
-  private static String normalizeWhitespaceAndPunctuation(CharSequence toNormalize) {
-    return normalizeWhitespace(toNormalize.toString().replaceAll(PUNCTUATION_REGEX, ""));
+  // same characters as the \p{Punct} regex
+  private static boolean isPunctuation(int c) {
+    return PUNCTUATION.indexOf(c) >= 0;
   }
 
   /**
@@ -770,10 +846,10 @@ public class Strings {
     String strToSearch = sequenceToSearch.toString();
     String strActual = actual.toString();
     int occurrences = 0;
-    for (int i = 0; i <= (strActual.length() - strToSearch.length()); i++) {
-      if (comparisonStrategy.areEqual(strActual.substring(i, i + sequenceToSearch.length()), strToSearch)) {
-        occurrences++;
-      }
+    // occurrences may overlap, the next one is searched from the index following the previous one
+    for (int i = comparisonStrategy.stringIndexOf(strActual, strToSearch, 0); i != -1;
+         i = comparisonStrategy.stringIndexOf(strActual, strToSearch, i + 1)) {
+      occurrences++;
     }
     return occurrences;
   }
@@ -868,7 +944,7 @@ public class Strings {
   public void assertMatches(AssertionInfo info, CharSequence actual, CharSequence regex) {
     checkRegexIsNotNull(regex);
     assertNotNull(info, actual);
-    if (!Pattern.matches(regex.toString(), actual)) throw failures.failure(info, shouldMatch(actual, regex));
+    if (!compiledPattern(regex).matcher(actual).matches()) throw failures.failure(info, shouldMatch(actual, regex));
   }
 
   /**
@@ -885,7 +961,7 @@ public class Strings {
   public void assertDoesNotMatch(AssertionInfo info, CharSequence actual, CharSequence regex) {
     checkRegexIsNotNull(regex);
     assertNotNull(info, actual);
-    if (Pattern.matches(regex.toString(), actual)) throw failures.failure(info, shouldNotMatch(actual, regex));
+    if (compiledPattern(regex).matcher(actual).matches()) throw failures.failure(info, shouldNotMatch(actual, regex));
   }
 
   private void checkRegexIsNotNull(CharSequence regex) {
@@ -948,7 +1024,7 @@ public class Strings {
   public void assertContainsSequence(AssertionInfo info, CharSequence actual, CharSequence[] sequence) {
     doCommonCheckForCharSequence(info, actual, sequence);
 
-    Set<CharSequence> notFound = stream(sequence).filter(value -> !stringContains(actual, value))
+    Set<CharSequence> notFound = stream(sequence).filter(containedIn(actual, sequence).negate())
                                                  .collect(toCollection(LinkedHashSet::new));
 
     if (!notFound.isEmpty()) {
@@ -985,7 +1061,7 @@ public class Strings {
   public void assertContainsSubsequence(AssertionInfo info, CharSequence actual, CharSequence[] subsequence) {
     doCommonCheckForCharSequence(info, actual, subsequence);
 
-    Set<CharSequence> notFound = stream(subsequence).filter(value -> !stringContains(actual, value))
+    Set<CharSequence> notFound = stream(subsequence).filter(containedIn(actual, subsequence).negate())
                                                     .collect(toCollection(LinkedHashSet::new));
 
     if (!notFound.isEmpty()) {
@@ -999,31 +1075,21 @@ public class Strings {
     // we have found all the given values but were they in the expected order ?
     if (subsequence.length == 1) return; // no order check needed for a one element subsequence
 
-    // the values are in the correct order if after removing the start of actual up to the
-    // subsequence element included, we are able to find the next subsequence element, ex:
+    // the values are in the correct order if we are able to find each subsequence element after the previous one, ex:
     // "{ George Martin }" with subsequence ["George", " ", "Martin"]:
-    // - remove up to "George" in "{ George Martin }" -> " Martin }", does it contain " " ?
-    // - remove up to " " in " Martin }" -> "Martin }", does it contain "Martin" ?
+    // - "George" found at index 2, is there a " " from index 8 ?
+    // - " " found at index 8, is there a "Martin" from index 9 ?
     // ...
-    String actualRest = removeUpTo(actual.toString(), subsequence[0]);
-    // check the subsequence second element since we already know the first is present
-    for (int i = 1; i < subsequence.length; i++) {
-      if (stringContains(actualRest, subsequence[i])) actualRest = removeUpTo(actualRest, subsequence[i]);
-      else throw failures.failure(info, shouldContainSubsequence(actual, subsequence, i - 1, comparisonStrategy));
-    }
-  }
-
-  private String removeUpTo(String string, CharSequence toRemove) {
-    int index = indexOf(string, toRemove);
-    // remove the start of string up to toRemove included
-    return string.substring(index + toRemove.length());
-  }
-
-  private int indexOf(String string, CharSequence toFind) {
-    for (int i = 0; i < string.length(); i++) {
-      if (comparisonStrategy.stringStartsWith(string.substring(i), toFind.toString())) return i;
+    // actual is searched in place to avoid copying its remaining part at each step.
+    String strActual = actual.toString();
+    int fromIndex = 0;
+    for (int i = 0; i < subsequence.length; i++) {
+      String value = subsequence[i].toString();
+      int index = comparisonStrategy.stringIndexOf(strActual, value, fromIndex);
+      // never happens for the first element which is known to be present
+      if (index == -1) throw failures.failure(info, shouldContainSubsequence(actual, subsequence, i - 1, comparisonStrategy));
+      fromIndex = index + value.length();
     }
-    return -1;
   }
 
   public void assertXmlEqualsTo(AssertionInfo info, CharSequence actualXml, CharSequence expectedXml) {
@@ -1060,7 +1126,7 @@ public class Strings {
   public void assertContainsPattern(AssertionInfo info, CharSequence actual, CharSequence regex) {
     checkRegexIsNotNull(regex);
     assertNotNull(info, actual);
-    Pattern pattern = Pattern.compile(regex.toString());
+    Pattern pattern = compiledPattern(regex);
     Matcher matcher = pattern.matcher(actual);
     if (!matcher.find()) throw failures.failure(info, shouldContainPattern(actual, pattern.pattern()));
   }
@@ -1095,7 +1161,7 @@ public class Strings {
    */
   public void assertDoesNotContainPattern(AssertionInfo info, CharSequence actual, CharSequence regex) {
     checkRegexIsNotNull(regex);
-    Pattern pattern = Pattern.compile(regex.toString());
+    Pattern pattern = compiledPattern(regex);
     assertDoesNotContainPattern(info, actual, pattern);
   }
 
@@ -1133,9 +1199,7 @@ public class Strings {
    * @param expected the expected {@code CharSequence} (new lines will be ignored).
    */
   public void assertIsEqualToIgnoringNewLines(AssertionInfo info, CharSequence actual, CharSequence expected) {
-    String actualWithoutNewLines = removeNewLines(actual);
-    String expectedWithoutNewLines = removeNewLines(expected);
-    if (!actualWithoutNewLines.equals(expectedWithoutNewLines))
+    if (!areEqualIgnoringNewLines(actual, expected))
       throw failures.failure(info, shouldBeEqualIgnoringNewLines(actual, expected), actual, expected);
   }
 
@@ -1168,9 +1232,27 @@ public class Strings {
     }
   }
 
-  private static String removeNewLines(CharSequence text) {
-    String normalizedText = normalizeNewlines(text);
-    return normalizedText.replace("\n", "");
+  // compares both sequences without their "\r\n" and "\n", stopping at the first difference
+  private static boolean areEqualIgnoringNewLines(CharSequence actual, CharSequence expected) {
+    int actualIndex = 0;
+    int expectedIndex = 0;
+    while (true) {
+      actualIndex = skipNewLines(actual, actualIndex);
+      expectedIndex = skipNewLines(expected, expectedIndex);
+      if (actualIndex == actual.length() || expectedIndex == expected.length()) {
+        return actualIndex == actual.length() && expectedIndex == expected.length();
+      }
+      if (actual.charAt(actualIndex++) != expected.charAt(expectedIndex++)) return false;
+    }
+  }
+
+  private static int skipNewLines(CharSequence text, int index) {
+    while (index < text.length()) {
+      if (text.charAt(index) == '\n') index++;
+      else if (isCrLf(text, index)) index += 2;
+      else break;
+    }
+    return index;
   }
 
   private void doCommonCheckForCharSequence(AssertionInfo info, CharSequence actual, CharSequence[] sequence) {
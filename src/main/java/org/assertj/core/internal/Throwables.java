@@ -313,7 +313,7 @@ public class Throwables {
   public void assertHasMessageMatching(AssertionInfo info, Throwable actual, String regex) {
     requireNonNull(regex, "regex must not be null");
     assertNotNull(info, actual);
-    if (actual.getMessage() != null && actual.getMessage().matches(regex)) return;
+    if (actual.getMessage() != null && CompiledPatternCache.instance().pattern(regex).matcher(actual.getMessage()).matches()) return;
     throw failures.failure(info, shouldHaveMessageMatchingRegex(actual, regex));
   }
 
@@ -332,7 +332,7 @@ public class Throwables {
     requireNonNull(regex, "regex must not be null");
     assertNotNull(info, actual);
     Objects.instance().assertNotNull(info, actual.getMessage(), "exception message of actual");
-    if (Pattern.compile(regex, Pattern.DOTALL).asPredicate().test(actual.getMessage())) return;
+    if (CompiledPatternCache.instance().pattern(regex, Pattern.DOTALL).asPredicate().test(actual.getMessage())) return;
     throw failures.failure(info, shouldHaveMessageFindingMatchRegex(actual, regex));
   }
 
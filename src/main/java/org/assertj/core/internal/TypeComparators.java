@@ -20,7 +20,9 @@ import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Optional;
 import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Stream;
 
 import org.assertj.core.util.DoubleComparator;
@@ -54,6 +56,10 @@ public class TypeComparators {
   @VisibleForTesting
   Map<Class<?>, Comparator<?>> typeComparators;
 
+  // most relevant comparator by class, Optional allows caching classes without comparator (ConcurrentHashMap does not permit
+  // nulls), must be cleared whenever registered comparators change.
+  private final Map<Class<?>, Optional<Comparator<?>>> resolvedComparators = new ConcurrentHashMap<>();
+
   public static TypeComparators defaultTypeComparators() {
     TypeComparators comparatorByType = new TypeComparators();
     comparatorByType.put(Double.class, DEFAULT_DOUBLE_COMPARATOR);
@@ -77,6 +83,14 @@ public class TypeComparators {
    * @return the most relevant comparator, or {@code null} if no comparator could be found
    */
   public Comparator<?> get(Class<?> clazz) {
+    return resolvedComparators.computeIfAbsent(clazz, this::resolveComparator).orElse(null);
+  }
+
+  private Optional<Comparator<?>> resolveComparator(Class<?> clazz) {
+    return Optional.ofNullable(findMostRelevantComparator(clazz));
+  }
+
+  private Comparator<?> findMostRelevantComparator(Class<?> clazz) {
     Comparator<?> comparator = typeComparators.get(clazz);
     if (comparator == null) {
       for (Class<?> superClass : ClassUtils.getAllSuperclasses(clazz)) {
@@ -106,6 +120,7 @@ public class TypeComparators {
    */
   public <T> void put(Class<T> clazz, Comparator<? super T> comparator) {
     typeComparators.put(clazz, comparator);
+    resolvedComparators.clear();
   }
 
   /**
@@ -120,6 +135,7 @@ public class TypeComparators {
    */
   public void clear() {
     typeComparators.clear();
+    resolvedComparators.clear();
   }
 
   public Stream<Entry<Class<?>, Comparator<?>>> comparatorByTypes() {
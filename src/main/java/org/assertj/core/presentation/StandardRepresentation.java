@@ -15,7 +15,6 @@ package org.assertj.core.presentation;
 import static java.lang.Integer.toHexString;
 import static java.lang.reflect.Array.get;
 import static java.lang.reflect.Array.getLength;
-import static java.util.stream.Collectors.toList;
 import static org.assertj.core.util.Arrays.isArray;
 import static org.assertj.core.util.Arrays.isArrayTypePrimitive;
 import static org.assertj.core.util.Arrays.isObjectArray;
@@ -23,7 +22,6 @@ import static org.assertj.core.util.Arrays.notAnArrayOfPrimitives;
 import static org.assertj.core.util.DateUtil.formatAsDatetime;
 import static org.assertj.core.util.DateUtil.formatAsDatetimeWithMs;
 import static org.assertj.core.util.Preconditions.checkArgument;
-import static org.assertj.core.util.Streams.stream;
 import static org.assertj.core.util.Strings.concat;
 import static org.assertj.core.util.Strings.quote;
 import static org.assertj.core.util.Throwables.getStackTrace;
@@ -37,15 +35,18 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.OffsetDateTime;
 import java.time.ZonedDateTime;
+import java.util.ArrayList;
 import java.util.Calendar;
 import java.util.Collection;
 import java.util.Comparator;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.RandomAccess;
 import java.util.TreeMap;
 import java.util.concurrent.CancellationException;
 import java.util.concurrent.ExecutionException;
@@ -61,7 +62,7 @@ import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 import java.util.concurrent.atomic.AtomicStampedReference;
 import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Function;
-import java.util.stream.Stream;
+import java.util.function.IntFunction;
 
 import org.assertj.core.configuration.Configuration;
 import org.assertj.core.configuration.ConfigurationProvider;
@@ -92,6 +93,7 @@ public class StandardRepresentation implements Representation {
   private static final String DEFAULT_END = "]";
 
   private static final String DEFAULT_MAX_ELEMENTS_EXCEEDED = "...";
+  private static final String DEFAULT_MAX_LENGTH_EXCEEDED = "...";
 
   // 4 spaces indentation : 2 space indentation after new line + '<' + '['
   static final String INDENTATION_AFTER_NEWLINE = "    ";
@@ -103,8 +105,11 @@ public class StandardRepresentation implements Representation {
 
   private static int maxLengthForSingleLineDescription = Configuration.MAX_LENGTH_FOR_SINGLE_LINE_DESCRIPTION;
   private static int maxElementsForPrinting = Configuration.MAX_ELEMENTS_FOR_PRINTING;
+  private static int maxLengthForPrinting = Configuration.MAX_LENGTH_FOR_PRINTING;
 
   private static final Map<Class<?>, Function<?, String>> customFormatterByType = new HashMap<>();
+  // length budget of the value being represented by the current thread, null when no value is being represented
+  private static final ThreadLocal<LengthBudget> LENGTH_BUDGET = new ThreadLocal<>();
   private static final Class<?>[] TYPE_WITH_UNAMBIGUOUS_REPRESENTATION = { Date.class, LocalDateTime.class, ZonedDateTime.class,
       OffsetDateTime.class, Calendar.class };
 
@@ -129,11 +134,13 @@ public class StandardRepresentation implements Representation {
    * <ul>
    *   <li>{@code maxLengthForSingleLineDescription} = {@value org.assertj.core.configuration.Configuration#MAX_LENGTH_FOR_SINGLE_LINE_DESCRIPTION} </li>
    *   <li>{@code maxElementsForPrinting} = {@value org.assertj.core.configuration.Configuration#MAX_ELEMENTS_FOR_PRINTING} </li>
+   *   <li>{@code maxLengthForPrinting} = {@value org.assertj.core.configuration.Configuration#MAX_LENGTH_FOR_PRINTING} </li>
    * </ul>
    */
   public static void resetDefaults() {
     maxLengthForSingleLineDescription = Configuration.MAX_LENGTH_FOR_SINGLE_LINE_DESCRIPTION;
     maxElementsForPrinting = Configuration.MAX_ELEMENTS_FOR_PRINTING;
+    maxLengthForPrinting = Configuration.MAX_LENGTH_FOR_PRINTING;
   }
 
   public static void setMaxLengthForSingleLineDescription(int value) {
@@ -158,6 +165,17 @@ public class StandardRepresentation implements Representation {
     return maxElementsForPrinting;
   }
 
+  public static void setMaxLengthForPrinting(int value) {
+    ConfigurationProvider.loadRegisteredConfiguration();
+    checkArgument(value >= 1, "maxLengthForPrinting must be >= 1, but was %s", value);
+    maxLengthForPrinting = value;
+  }
+
+  @VisibleForTesting
+  public static int getMaxLengthForPrinting() {
+    return maxLengthForPrinting;
+  }
+
   /**
    * Registers new formatter for the given type. All instances of the given type will be formatted with the provided formatter.
    *
@@ -185,6 +203,17 @@ public class StandardRepresentation implements Representation {
    */
   @Override
   public String toStringOf(Object object) {
+    // the representations of nested values are part of the outermost one, they share its length budget
+    if (LENGTH_BUDGET.get() != null) return represent(object);
+    LENGTH_BUDGET.set(new LengthBudget());
+    try {
+      return represent(object);
+    } finally {
+      LENGTH_BUDGET.remove();
+    }
+  }
+
+  private String represent(Object object) {
     if (object == null) return null;
     if (hasCustomFormatterFor(object)) return customFormat(object);
     if (object instanceof ComparatorBasedComparisonStrategy) return toStringOf((ComparatorBasedComparisonStrategy) object);
@@ -287,7 +316,7 @@ public class StandardRepresentation implements Representation {
    * @return to {@code toString} representation for the given object
    */
   protected String fallbackToStringOf(Object object) {
-    return object.toString();
+    return truncateIfTooLong(object.toString());
   }
 
   protected String toStringOf(Number number) {
@@ -337,7 +366,7 @@ public class StandardRepresentation implements Representation {
   }
 
   protected String toStringOf(String s) {
-    return concat("\"", s, "\"");
+    return concat("\"", truncateIfTooLong(s), "\"");
   }
 
   protected String toStringOf(Character c) {
@@ -422,10 +451,13 @@ public class StandardRepresentation implements Representation {
     Iterator<?> entriesIterator = sortedMap.entrySet().iterator();
     if (!entriesIterator.hasNext()) return "{}";
     StringBuilder builder = new StringBuilder("{");
+    LengthBudget lengthBudget = currentLengthBudget();
+    long spentBeforeMap = lengthBudget.spent;
     int printedElements = 0;
     for (;;) {
       Entry<?, ?> entry = (Entry<?, ?>) entriesIterator.next();
-      if (printedElements == maxElementsForPrinting) {
+      lengthBudget.spendAtLeast(spentBeforeMap, builder.length());
+      if (printedElements == maxElementsForPrinting || lengthBudget.isSpent()) {
         builder.append(DEFAULT_MAX_ELEMENTS_EXCEEDED);
         return builder.append("}").toString();
       }
@@ -469,8 +501,14 @@ public class StandardRepresentation implements Representation {
    * @return the {@code String} representation of the given {@code Iterable}.
    */
   protected String smartFormat(Iterable<?> iterable) {
+    if (iterable == null) return null;
+    LengthBudget lengthBudget = currentLengthBudget();
+    long spentBeforeFormatting = lengthBudget.spent;
     String singleLineDescription = singleLineFormat(iterable, DEFAULT_START, DEFAULT_END);
-    return doesDescriptionFitOnSingleLine(singleLineDescription) ? singleLineDescription : multiLineFormat(iterable);
+    if (doesDescriptionFitOnSingleLine(singleLineDescription)) return singleLineDescription;
+    // the multi line description replaces the single line one, it has the same length budget
+    lengthBudget.spent = spentBeforeFormatting;
+    return multiLineFormat(iterable);
   }
 
   /**
@@ -486,14 +524,22 @@ public class StandardRepresentation implements Representation {
   }
 
   protected String smartFormat(Object[] array) {
+    if (array == null) return null;
+    LengthBudget lengthBudget = currentLengthBudget();
+    long spentBeforeFormatting = lengthBudget.spent;
     String description = singleLineFormat(array, array);
-    return doesDescriptionFitOnSingleLine(description) ? description : multiLineFormat(array, array);
+    if (doesDescriptionFitOnSingleLine(description)) return description;
+    // the multi line description replaces the single line one, it has the same length budget
+    lengthBudget.spent = spentBeforeFormatting;
+    return multiLineFormat(array, array);
   }
 
   protected String formatPrimitiveArray(Object o) {
     if (!isArrayTypePrimitive(o)) throw notAnArrayOfPrimitives(o);
-    Object[] array = toObjectArray(o);
-    return format(array, DEFAULT_START, DEFAULT_END, ELEMENT_SEPARATOR, INDENTATION_FOR_SINGLE_LINE, array);
+    // only the printed elements are boxed
+    RepresentedElements representedElements = representElements(getLength(o), i -> get(o, i), DEFAULT_START, DEFAULT_END,
+                                                                 ELEMENT_SEPARATOR, INDENTATION_FOR_SINGLE_LINE, o);
+    return representGroup(representedElements, DEFAULT_START, DEFAULT_END, ELEMENT_SEPARATOR, INDENTATION_FOR_SINGLE_LINE);
   }
 
   protected String multiLineFormat(Object[] array, Object root) {
@@ -507,7 +553,8 @@ public class StandardRepresentation implements Representation {
   protected String format(Object[] array, String start, String end, String elementSeparator, String indentation, Object root) {
     if (array == null) return null;
     // root is used to avoid infinite recursion in case one element refers to it.
-    List<String> representedElements = representElements(Stream.of(array), start, end, elementSeparator, indentation, root);
+    RepresentedElements representedElements = representElements(array.length, i -> array[i], start, end, elementSeparator,
+                                                                 indentation, root);
     return representGroup(representedElements, start, end, elementSeparator, indentation);
   }
 
@@ -517,7 +564,7 @@ public class StandardRepresentation implements Representation {
     Iterator<?> iterator = iterable.iterator();
     if (!iterator.hasNext()) return start + end;
     // alreadyVisited is used to avoid infinite recursion when one element is a container already visited
-    List<String> representedElements = representElements(stream(iterable), start, end, elementSeparator, indentation, root);
+    RepresentedElements representedElements = representElements(iterable, start, end, elementSeparator, indentation, root);
     return representGroup(representedElements, start, end, elementSeparator, indentation);
   }
 
@@ -536,31 +583,84 @@ public class StandardRepresentation implements Representation {
 
   // private methods
 
-  private List<String> representElements(Stream<?> elements, String start, String end, String elementSeparator,
-                                         String indentation, Object root) {
-    return elements.map(element -> safeStringOf(element, start, end, elementSeparator, indentation, root))
-                   .collect(toList());
+  // only represents the elements that will be printed, that is the first and last maxElementsForPrinting/2 elements
+  // if maxElementsForPrinting is odd, display one more first elements than last, ex: 9 => display 5 first elements and 4 last
+  private RepresentedElements representElements(int size, IntFunction<Object> elementAtIndex, String start, String end,
+                                                String elementSeparator, String indentation, Object root) {
+    RepresentedElements representedElements = new RepresentedElements(currentLengthBudget());
+    boolean allElementsPrinted = size <= maxElementsForPrinting;
+    int firstElementsCount = allElementsPrinted ? size : (maxElementsForPrinting + 1) / 2;
+    int lastElementsCount = allElementsPrinted ? 0 : maxElementsForPrinting / 2;
+    for (int i = 0; i < firstElementsCount; i++) {
+      if (representedElements.isLengthBudgetSpent()) return representedElements.truncated();
+      representedElements.addFirstElement(safeStringOf(elementAtIndex.apply(i), start, end, elementSeparator, indentation,
+                                                       root));
+    }
+    // last elements are represented from the last one to keep the closest ones to the end when the length budget is spent
+    for (int i = size - 1; i >= size - lastElementsCount && !representedElements.isLengthBudgetSpent(); i--) {
+      representedElements.addLastElement(safeStringOf(elementAtIndex.apply(i), start, end, elementSeparator, indentation,
+                                                      root));
+    }
+    return allElementsPrinted ? representedElements : representedElements.truncated();
+  }
+
+  private RepresentedElements representElements(Iterable<?> iterable, String start, String end, String elementSeparator,
+                                                String indentation, Object root) {
+    if (iterable instanceof List && iterable instanceof RandomAccess) {
+      List<?> list = (List<?>) iterable;
+      return representElements(list.size(), list::get, start, end, elementSeparator, indentation, root);
+    }
+    RepresentedElements representedElements = new RepresentedElements(currentLengthBudget());
+    Iterator<?> iterator = iterable.iterator();
+    int maxFirstElementsToPrint = (maxElementsForPrinting + 1) / 2;
+    for (int i = 0; i < maxFirstElementsToPrint && iterator.hasNext(); i++) {
+      if (representedElements.isLengthBudgetSpent()) return representedElements.truncated();
+      representedElements.addFirstElement(safeStringOf(iterator.next(), start, end, elementSeparator, indentation, root));
+    }
+    // the remaining elements go through a ring buffer keeping the last maxElementsForPrinting/2 ones which are the only ones
+    // to represent, if the buffer never gets full then all elements are printed
+    Object[] lastElementsBuffer = new Object[maxElementsForPrinting / 2];
+    int remainingElementsCount = 0;
+    while (iterator.hasNext()) {
+      Object element = iterator.next();
+      if (lastElementsBuffer.length > 0) lastElementsBuffer[remainingElementsCount % lastElementsBuffer.length] = element;
+      remainingElementsCount++;
+    }
+    if (remainingElementsCount <= lastElementsBuffer.length) {
+      // the buffer holds the elements following the first ones in order
+      for (int i = 0; i < remainingElementsCount; i++) {
+        if (representedElements.isLengthBudgetSpent()) return representedElements.truncated();
+        representedElements.addFirstElement(safeStringOf(lastElementsBuffer[i], start, end, elementSeparator, indentation,
+                                                         root));
+      }
+      return representedElements;
+    }
+    // last elements are represented from the last one to keep the closest ones to the end when the length budget is spent
+    for (int i = 0; i < lastElementsBuffer.length && !representedElements.isLengthBudgetSpent(); i++) {
+      Object element = lastElementsBuffer[(remainingElementsCount - 1 - i) % lastElementsBuffer.length];
+      representedElements.addLastElement(safeStringOf(element, start, end, elementSeparator, indentation, root));
+    }
+    return representedElements.truncated();
   }
 
-  // this method only deals with max number of elements to display, the elements representation is already computed
-  private static String representGroup(List<String> representedElements, String start, String end, String elementSeparator,
-                                       String indentation) {
-    int size = representedElements.size();
+  // this method only deals with the layout of the elements to display, their representation is already computed
+  private static String representGroup(RepresentedElements representedElements, String start, String end,
+                                       String elementSeparator, String indentation) {
+    List<String> firstElements = representedElements.firstElements;
+    int size = firstElements.size();
     StringBuilder desc = new StringBuilder(start);
-    if (size <= maxElementsForPrinting) {
+    if (representedElements.allElementsPrinted) {
       // display all elements
       for (int i = 0; i < size; i++) {
         if (i != 0) desc.append(indentation);
-        desc.append(representedElements.get(i));
+        desc.append(firstElements.get(i));
         if (i != size - 1) desc.append(elementSeparator);
       }
       return desc.append(end).toString();
     }
-    // we can't display all elements, picks the first and last maxElementsForPrinting/2 elements
-    // if maxElementsForPrinting is odd, display one more first elements than last, ex: 9 => display 5 first elements and 4 last
-    int maxFirstElementsToPrint = (maxElementsForPrinting + 1) / 2;
-    for (int i = 0; i < maxFirstElementsToPrint; i++) {
-      desc.append(representedElements.get(i)).append(elementSeparator).append(indentation);
+    // we can't display all elements, display the first and last ones
+    for (String firstElement : firstElements) {
+      desc.append(firstElement).append(elementSeparator).append(indentation);
     }
     desc.append(DEFAULT_MAX_ELEMENTS_EXCEEDED);
     // we only append a new line if the separator had one ",\n"
@@ -577,10 +677,11 @@ public class StandardRepresentation implements Representation {
       desc.append(System.lineSeparator());
     }
     // display last elements
-    int maxLastElementsToPrint = maxElementsForPrinting / 2;
-    for (int i = size - maxLastElementsToPrint; i < size; i++) {
-      if (i != size - maxLastElementsToPrint) desc.append(elementSeparator);
-      desc.append(indentation).append(representedElements.get(i));
+    boolean firstLastElement = true;
+    for (String lastElement : representedElements.lastElements) {
+      if (!firstLastElement) desc.append(elementSeparator);
+      desc.append(indentation).append(lastElement);
+      firstLastElement = false;
     }
     return desc.append(end).toString();
   }
@@ -610,6 +711,25 @@ public class StandardRepresentation implements Representation {
     return format(lines, DEFAULT_START, DEFAULT_END, ELEMENT_SEPARATOR_WITH_NEWLINE, "   ", lines);
   }
 
+  // cuts strings longer than maxLengthForPrinting, they are only represented partially in error messages
+  private static String truncateIfTooLong(String s) {
+    if (s == null || s.length() <= maxLengthForPrinting) return s;
+    int truncatedLength = maxLengthForPrinting;
+    // don't split a surrogate pair
+    if (Character.isHighSurrogate(s.charAt(truncatedLength - 1))) truncatedLength--;
+    return s.substring(0, truncatedLength) + DEFAULT_MAX_LENGTH_EXCEEDED;
+  }
+
+  private static int lengthOf(String representation) {
+    return representation == null ? NULL.length() : representation.length();
+  }
+
+  private static LengthBudget currentLengthBudget() {
+    LengthBudget lengthBudget = LENGTH_BUDGET.get();
+    // a group formatted outside of toStringOf(Object) has its own budget
+    return lengthBudget != null ? lengthBudget : new LengthBudget();
+  }
+
   private static boolean doesDescriptionFitOnSingleLine(String singleLineDescription) {
     return singleLineDescription == null || singleLineDescription.length() <= maxLengthForSingleLineDescription;
   }
@@ -638,13 +758,69 @@ public class StandardRepresentation implements Representation {
     return o == map ? "(this Map)" : toStringOf(o);
   }
 
-  private static Object[] toObjectArray(Object o) {
-    int length = getLength(o);
-    Object[] array = new Object[length];
-    for (int i = 0; i < length; i++) {
-      array[i] = get(o, i);
+  /**
+   * The representation of the elements to print, when all the elements can't be printed only the first and last ones are
+   * represented.
+   * <p>
+   * It also spends the length budget of the represented value with the length of the represented elements, once it is
+   * spent no more elements should be represented.
+   */
+  private static final class RepresentedElements {
+    private final List<String> firstElements = new ArrayList<>();
+    // LinkedList since the last elements are added from the last one and their representation can be null
+    private final LinkedList<String> lastElements = new LinkedList<>();
+    private boolean allElementsPrinted = true;
+    private final LengthBudget lengthBudget;
+    private final long spentBeforeElements;
+    private long elementsLength;
+
+    private RepresentedElements(LengthBudget lengthBudget) {
+      this.lengthBudget = lengthBudget;
+      this.spentBeforeElements = lengthBudget.spent;
+    }
+
+    private boolean isLengthBudgetSpent() {
+      return lengthBudget.isSpent();
+    }
+
+    private void addFirstElement(String representation) {
+      firstElements.add(representation);
+      spend(representation);
+    }
+
+    private void addLastElement(String representation) {
+      lastElements.addFirst(representation);
+      spend(representation);
+    }
+
+    private void spend(String representation) {
+      elementsLength += lengthOf(representation);
+      lengthBudget.spendAtLeast(spentBeforeElements, elementsLength);
+    }
+
+    private RepresentedElements truncated() {
+      allElementsPrinted = false;
+      return this;
+    }
+  }
+
+  /**
+   * The number of characters that can still be represented for a value, shared by all its nested values so that the
+   * representation of the value stays bounded by {@code maxLengthForPrinting} whatever its depth.
+   */
+  private static final class LengthBudget {
+    private final long maxLength = maxLengthForPrinting;
+    private long spent;
+
+    private boolean isSpent() {
+      return spent >= maxLength;
+    }
+
+    // a group representation includes the ones of its nested groups which have already been spent, only the difference
+    // is spent
+    private void spendAtLeast(long spentBeforeGroup, long groupLength) {
+      spent = Math.max(spent, spentBeforeGroup + groupLength);
     }
-    return array;
   }
 
 }
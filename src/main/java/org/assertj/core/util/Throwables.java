@@ -16,11 +16,13 @@ import static java.lang.String.format;
 import static java.util.Arrays.stream;
 import static java.util.stream.Collectors.joining;
 import static org.assertj.core.groups.FieldsOrPropertiesExtractor.extract;
+import static org.assertj.core.util.Preconditions.checkArgument;
 import static org.assertj.core.util.Lists.newArrayList;
 
 import java.io.PrintWriter;
 import java.io.StringWriter;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.function.Function;
 
@@ -110,12 +112,30 @@ public final class Throwables {
    * @param throwable the {@code Throwable} to filter stack trace.
    */
   public static void removeAssertJRelatedElementsFromStackTrace(Throwable throwable) {
+    removeAssertJRelatedElementsFromStackTrace(throwable, Integer.MAX_VALUE);
+  }
+
+  /**
+   * Same as {@link #removeAssertJRelatedElementsFromStackTrace(Throwable)} but keeps at most the given number of
+   * stack trace elements, the ones closest to where the {@code Throwable} was created.
+   * <p>
+   * The stack trace is filtered in a single pass which stops as soon as enough elements have been kept.
+   *
+   * @param throwable the {@code Throwable} to filter stack trace.
+   * @param maxStackTraceElements the maximum number of stack trace elements to keep.
+   * @throws IllegalArgumentException if {@code maxStackTraceElements} is negative.
+   * @since 3.18.0
+   */
+  public static void removeAssertJRelatedElementsFromStackTrace(Throwable throwable, int maxStackTraceElements) {
+    checkArgument(maxStackTraceElements >= 0, "The maximum number of stack trace elements must be >= 0 but was %s",
+                  maxStackTraceElements);
     if (throwable == null) return;
-    List<StackTraceElement> filtered = newArrayList(throwable.getStackTrace());
-    StackTraceElement previous = null;
-    for (StackTraceElement element : throwable.getStackTrace()) {
+    StackTraceElement[] stackTrace = throwable.getStackTrace();
+    StackTraceElement[] filtered = new StackTraceElement[Math.min(stackTrace.length, maxStackTraceElements)];
+    int filteredLength = 0;
+    for (int i = 0; i < stackTrace.length; i++) {
+      StackTraceElement element = stackTrace[i];
       if (element.getClassName().contains(ORG_ASSERTJ)) {
-        filtered.remove(element);
         // Handle the case when AssertJ builds a ComparisonFailure/AssertionFailedError by reflection
         // (see ShouldBeEqual.newAssertionError method), the stack trace looks like:
         //
@@ -123,15 +143,37 @@ public final class Throwables {
         // org.assertj.core.error.ConstructorInvoker.newInstance(ConstructorInvoker.java:34),
         //
         // We want to remove java.lang.reflect.Constructor.newInstance element because it is related to AssertJ.
-        if (previous != null && JAVA_LANG_REFLECT_CONSTRUCTOR.equals(previous.getClassName())
+        // It is the last kept element as it is not an AssertJ one.
+        if (i > 0 && JAVA_LANG_REFLECT_CONSTRUCTOR.equals(stackTrace[i - 1].getClassName())
             && element.getClassName().contains(ORG_ASSERTJ_CORE_ERROR_CONSTRUCTOR_INVOKER)) {
-          filtered.remove(previous);
+          filteredLength--;
         }
+      } else if (filteredLength < filtered.length) {
+        filtered[filteredLength++] = element;
+      } else {
+        // enough elements kept, the remaining ones can't change them
+        break;
       }
-      previous = element;
     }
-    StackTraceElement[] newStackTrace = filtered.toArray(new StackTraceElement[0]);
-    throwable.setStackTrace(newStackTrace);
+    throwable.setStackTrace(Arrays.copyOf(filtered, filteredLength));
+  }
+
+  /**
+   * Keeps at most the given number of stack trace elements of the given <code>{@link Throwable}</code>, the ones
+   * closest to where it was created.
+   *
+   * @param throwable the {@code Throwable} to truncate stack trace.
+   * @param maxStackTraceElements the maximum number of stack trace elements to keep.
+   * @throws IllegalArgumentException if {@code maxStackTraceElements} is negative.
+   * @since 3.18.0
+   */
+  public static void truncateStackTrace(Throwable throwable, int maxStackTraceElements) {
+    checkArgument(maxStackTraceElements >= 0, "The maximum number of stack trace elements must be >= 0 but was %s",
+                  maxStackTraceElements);
+    if (throwable == null) return;
+    StackTraceElement[] stackTrace = throwable.getStackTrace();
+    if (stackTrace.length <= maxStackTraceElements) return;
+    throwable.setStackTrace(Arrays.copyOf(stackTrace, maxStackTraceElements));
   }
 
   /**
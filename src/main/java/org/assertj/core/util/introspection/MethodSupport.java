@@ -18,6 +18,7 @@ import static org.assertj.core.util.Preconditions.checkArgument;
 import static org.assertj.core.util.Preconditions.checkNotNullOrEmpty;
 
 import java.lang.reflect.Method;
+import java.util.function.Function;
 
 /**
  * Utility class for reflective method invocation.
@@ -53,6 +54,17 @@ public class MethodSupport {
     return invokeMethod(instance, method);
   }
 
+  /**
+   * Returns a function returning the result of the given method invocation on its input, it behaves like
+   * {@link #methodResultFor(Object, String)} but looks the method up once per input class instead of once per input.
+   *
+   * @param methodName name of method to be invoked
+   * @return a function returning the result of the method invocation on its input
+   */
+  public static Function<Object, Object> methodResultReader(String methodName) {
+    return new MethodResultReader(methodName);
+  }
+
   private static Object invokeMethod(Object item, Method method) {
     try {
       return method.invoke(item);
@@ -83,4 +95,39 @@ public class MethodSupport {
                   METHOD_HAS_NO_RETURN_VALUE, method.getName(), itemClass.getSimpleName());
   }
 
+  private static class MethodResultReader implements Function<Object, Object> {
+
+    private final String methodName;
+    // the method found in the last input class, replaced as a whole to be safely shared between threads
+    private volatile ResolvedMethod lastResolvedMethod;
+
+    private MethodResultReader(String methodName) {
+      this.methodName = methodName;
+    }
+
+    @Override
+    public Object apply(Object instance) {
+      requireNonNull(instance, "Object instance can not be null!");
+      checkNotNullOrEmpty(methodName, "Method name can not be empty!");
+      ResolvedMethod resolvedMethod = lastResolvedMethod;
+      Class<?> instanceClass = instance.getClass();
+      if (resolvedMethod == null || resolvedMethod.type != instanceClass) {
+        resolvedMethod = new ResolvedMethod(instanceClass, findMethod(methodName, instanceClass));
+        lastResolvedMethod = resolvedMethod;
+      }
+      return invokeMethod(instance, resolvedMethod.method);
+    }
+  }
+
+  private static class ResolvedMethod {
+
+    private final Class<?> type;
+    private final Method method;
+
+    private ResolvedMethod(Class<?> type, Method method) {
+      this.type = type;
+      this.method = method;
+    }
+  }
+
 }
@@ -0,0 +1,130 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2020 the original author or authors.
+ */
+package org.assertj.core.util.introspection;
+
+import static java.lang.invoke.MethodType.methodType;
+import static java.lang.reflect.Modifier.isPublic;
+import static java.lang.reflect.Modifier.isStatic;
+import static org.assertj.core.util.introspection.Introspection.findGetter;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.AccessibleObject;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Resolves once per class how to read a property or field by name: through its public getter if any, otherwise through
+ * the field itself, and for maps by looking up the name as a key.
+ * <p>
+ * Resolution follows the same rules as {@link PropertySupport} and {@link FieldSupport}, it is thus tied to the
+ * introspection settings used to resolve it (bare name property methods and private fields usage).
+ * <p>
+ * Reading a value through the plan does not throw any {@link IntrospectionError} to find out if a property exists, when no
+ * way to read the given name has been found or when it fails, callers must fall back to the regular introspection which
+ * reports the appropriate error.
+ */
+final class PropertyOrFieldAccessPlan {
+
+  private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+  // reads an Object value from an Object target
+  private static final MethodType VALUE_READER_TYPE = methodType(Object.class, Object.class);
+
+  private final Class<?> type;
+  private final boolean bareNamePropertyMethods;
+  private final boolean allowUsingPrivateFields;
+  // ConcurrentHashMap does not permit nulls - Optional allows caching names that can't be read through the plan
+  private final Map<String, Optional<MethodHandle>> valueReaders = new ConcurrentHashMap<>();
+
+  PropertyOrFieldAccessPlan(Class<?> type, boolean bareNamePropertyMethods, boolean allowUsingPrivateFields) {
+    this.type = type;
+    this.bareNamePropertyMethods = bareNamePropertyMethods;
+    this.allowUsingPrivateFields = allowUsingPrivateFields;
+  }
+
+  boolean isResolvedWith(boolean bareNamePropertyMethods, boolean allowUsingPrivateFields) {
+    return this.bareNamePropertyMethods == bareNamePropertyMethods && this.allowUsingPrivateFields == allowUsingPrivateFields;
+  }
+
+  /**
+   * Returns the {@link MethodHandle} reading the given name value from instances of the plan class, the handle type is
+   * {@code (Object)Object}.
+   *
+   * @param name the property or field name
+   * @return the handle reading the given name or empty if no property, field or map key can be read with this name.
+   */
+  Optional<MethodHandle> valueReaderOf(String name) {
+    return valueReaders.computeIfAbsent(name, this::resolveValueReader);
+  }
+
+  private Optional<MethodHandle> resolveValueReader(String name) {
+    MethodHandle valueReader = getterReader(name);
+    if (valueReader == null) valueReader = fieldReader(name);
+    if (valueReader == null) valueReader = mapKeyReader(name);
+    return Optional.ofNullable(valueReader);
+  }
+
+  private MethodHandle getterReader(String propertyName) {
+    Method getter = findGetter(propertyName, type);
+    if (getter == null || !isPublic(getter.getModifiers()) || !trySetAccessible(getter)) return null;
+    try {
+      return LOOKUP.unreflect(getter).asType(VALUE_READER_TYPE);
+    } catch (@SuppressWarnings("unused") IllegalAccessException e) {
+      return null;
+    }
+  }
+
+  private MethodHandle fieldReader(String fieldName) {
+    Field field;
+    try {
+      field = FieldUtils.getField(type, fieldName, allowUsingPrivateFields);
+    } catch (@SuppressWarnings("unused") Exception e) {
+      return null;
+    }
+    if (field == null || !trySetAccessible(field)) return null;
+    try {
+      MethodHandle fieldGetter = LOOKUP.unreflectGetter(field);
+      // static field getters don't take any parameter, ignore the target to get the same signature as instance ones
+      if (isStatic(field.getModifiers())) fieldGetter = MethodHandles.dropArguments(fieldGetter, 0, Object.class);
+      return fieldGetter.asType(VALUE_READER_TYPE);
+    } catch (@SuppressWarnings("unused") IllegalAccessException e) {
+      return null;
+    }
+  }
+
+  private MethodHandle mapKeyReader(String key) {
+    if (!Map.class.isAssignableFrom(type)) return null;
+    try {
+      MethodHandle mapGet = LOOKUP.findVirtual(Map.class, "get", methodType(Object.class, Object.class));
+      // map.get(key) with key bound as second argument
+      return MethodHandles.insertArguments(mapGet, 1, key).asType(VALUE_READER_TYPE);
+    } catch (@SuppressWarnings("unused") NoSuchMethodException | IllegalAccessException e) {
+      return null;
+    }
+  }
+
+  private static boolean trySetAccessible(AccessibleObject accessibleObject) {
+    try {
+      accessibleObject.setAccessible(true);
+      return true;
+    } catch (@SuppressWarnings("unused") RuntimeException e) {
+      // SecurityException or InaccessibleObjectException on java 9+ for non opened modules
+      return false;
+    }
+  }
+
+}
@@ -15,7 +15,13 @@ package org.assertj.core.util.introspection;
 import static java.lang.String.format;
 import static org.assertj.core.util.Preconditions.checkArgument;
 
+import java.lang.invoke.MethodHandle;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 
 import org.assertj.core.util.VisibleForTesting;
 
@@ -23,6 +29,7 @@ public class PropertyOrFieldSupport {
   private static final String SEPARATOR = ".";
   private PropertySupport propertySupport;
   private FieldSupport fieldSupport;
+  private final Map<Class<?>, PropertyOrFieldAccessPlan> accessPlans = new ConcurrentHashMap<>();
 
   public static final PropertyOrFieldSupport EXTRACTION = new PropertyOrFieldSupport();
   public static final PropertyOrFieldSupport COMPARISON = new PropertyOrFieldSupport(PropertySupport.instance(),
@@ -60,33 +67,81 @@ public class PropertyOrFieldSupport {
     return getSimpleValue(propertyOrFieldName, input);
   }
 
+  /**
+   * Returns a function reading the given property/field (nested or not) value like {@link #getValueOf(String, Object)}
+   * does, the name is parsed once and the way to read each of its parts is resolved once per input class instead of for
+   * each input.
+   * <p>
+   * The name is checked when the function is applied, like {@link #getValueOf(String, Object)} does.
+   *
+   * @param propertyOrFieldName the name of the property/field to read, nested ones are separated by '.'
+   * @return a function reading the given property/field value
+   */
+  public Function<Object, Object> valueReaderOf(String propertyOrFieldName) {
+    return new CompiledValueReader(propertyOrFieldName);
+  }
+
   public Object getSimpleValue(String name, Object input) {
+    // fast path: read the value with the cached access plan of input's class which avoids introspection exceptions
+    return readSimpleValue(name, input, accessPlanOf(input.getClass()).valueReaderOf(name));
+  }
+
+  private Object readSimpleValue(String name, Object input, Optional<MethodHandle> valueReader) {
+    if (!valueReader.isPresent()) return introspectSimpleValue(name, input);
+    try {
+      return valueReader.get().invokeExact(input);
+    } catch (Error error) {
+      throw error;
+    } catch (Throwable throwable) {
+      // reported like PropertySupport does for a failing getter, which is not invoked again
+      String message = format("Unable to obtain the value of the property <'%s'> from <%s>", name, input);
+      return introspectFieldOrMapValue(name, input, new IntrospectionError(message, throwable));
+    }
+  }
+
+  private PropertyOrFieldAccessPlan accessPlanOf(Class<?> type) {
+    boolean bareNamePropertyMethods = Introspection.canIntrospectExtractBareNamePropertyMethods();
+    boolean allowUsingPrivateFields = fieldSupport.isAllowedToUsePrivateFields();
+    PropertyOrFieldAccessPlan accessPlan = accessPlans.get(type);
+    if (accessPlan == null || !accessPlan.isResolvedWith(bareNamePropertyMethods, allowUsingPrivateFields)) {
+      // introspection settings have changed since the plan was resolved, resolve it again
+      accessPlan = new PropertyOrFieldAccessPlan(type, bareNamePropertyMethods, allowUsingPrivateFields);
+      accessPlans.put(type, accessPlan);
+    }
+    return accessPlan;
+  }
+
+  private Object introspectSimpleValue(String name, Object input) {
     // try to get name as a property, then try as a field, then try as a map key
     try {
       return propertySupport.propertyValueOf(name, Object.class, input);
     } catch (IntrospectionError propertyIntrospectionError) {
-      // no luck as a property, let's try as a field
-      try {
-        return fieldSupport.fieldValue(name, Object.class, input);
-      } catch (IntrospectionError fieldIntrospectionError) {
-        // neither field nor property found with given name
-
-        // if the input object is a map, try name as a map key
-        if (input instanceof Map) {
-          Map<?, ?> map = (Map<?, ?>) input;
-          return map.get(name);
-        }
-
-        // no value found with given name, it is considered as an error
-        String message = format("%nCan't find any field or property with name '%s'.%n" +
-                                "Error when introspecting properties was :%n" +
-                                "- %s %n" +
-                                "Error when introspecting fields was :%n" +
-                                "- %s",
-                                name, propertyIntrospectionError.getMessage(),
-                                fieldIntrospectionError.getMessage());
-        throw new IntrospectionError(message, fieldIntrospectionError);
+      return introspectFieldOrMapValue(name, input, propertyIntrospectionError);
+    }
+  }
+
+  private Object introspectFieldOrMapValue(String name, Object input, IntrospectionError propertyIntrospectionError) {
+    // no luck as a property, let's try as a field
+    try {
+      return fieldSupport.fieldValue(name, Object.class, input);
+    } catch (IntrospectionError fieldIntrospectionError) {
+      // neither field nor property found with given name
+
+      // if the input object is a map, try name as a map key
+      if (input instanceof Map) {
+        Map<?, ?> map = (Map<?, ?>) input;
+        return map.get(name);
       }
+
+      // no value found with given name, it is considered as an error
+      String message = format("%nCan't find any field or property with name '%s'.%n" +
+                              "Error when introspecting properties was :%n" +
+                              "- %s %n" +
+                              "Error when introspecting fields was :%n" +
+                              "- %s",
+                              name, propertyIntrospectionError.getMessage(),
+                              fieldIntrospectionError.getMessage());
+      throw new IntrospectionError(message, fieldIntrospectionError);
     }
   }
 
@@ -106,4 +161,82 @@ public class PropertyOrFieldSupport {
            && !propertyOrFieldName.endsWith(SEPARATOR);
   }
 
+  /**
+   * Reads a property/field value with the same rules as {@link #getValueOf(String, Object)} but with the name split once
+   * in its nested names, each of them remembering how to read its value from the last class it was read from.
+   * <p>
+   * Extracted elements usually all have the same class, reading their values then only costs a class check and a
+   * {@link MethodHandle} invocation per nested name.
+   */
+  private class CompiledValueReader implements Function<Object, Object> {
+
+    private final String propertyOrFieldName;
+    private final SimpleValueReader[] simpleValueReaders;
+
+    private CompiledValueReader(String propertyOrFieldName) {
+      this.propertyOrFieldName = propertyOrFieldName;
+      this.simpleValueReaders = propertyOrFieldName == null || propertyOrFieldName.isEmpty()
+          ? new SimpleValueReader[0]
+          : splitNames(propertyOrFieldName).stream().map(SimpleValueReader::new).toArray(SimpleValueReader[]::new);
+    }
+
+    private List<String> splitNames(String propertyOrFieldNameChain) {
+      // same splitting as getValueOf
+      List<String> names = new ArrayList<>();
+      String remainingNames = propertyOrFieldNameChain;
+      while (isNested(remainingNames)) {
+        names.add(popNameFrom(remainingNames));
+        remainingNames = nextNameFrom(remainingNames);
+      }
+      names.add(remainingNames);
+      return names;
+    }
+
+    @Override
+    public Object apply(Object input) {
+      checkArgument(propertyOrFieldName != null, "The name of the property/field to read should not be null");
+      checkArgument(!propertyOrFieldName.isEmpty(), "The name of the property/field to read should not be empty");
+      checkArgument(input != null, "The object to extract property/field from should not be null");
+      Object value = input;
+      for (SimpleValueReader simpleValueReader : simpleValueReaders) {
+        // when one of the intermediate nested property/field value is null, return null
+        if (value == null) return null;
+        value = simpleValueReader.read(value);
+      }
+      return value;
+    }
+  }
+
+  private class SimpleValueReader {
+
+    private final String name;
+    // the value reader of the last class read, replaced as a whole to be safely shared between threads
+    private volatile ResolvedValueReader lastResolvedValueReader;
+
+    private SimpleValueReader(String name) {
+      this.name = name;
+    }
+
+    private Object read(Object input) {
+      ResolvedValueReader resolvedValueReader = lastResolvedValueReader;
+      Class<?> inputClass = input.getClass();
+      if (resolvedValueReader == null || resolvedValueReader.type != inputClass) {
+        resolvedValueReader = new ResolvedValueReader(inputClass, accessPlanOf(inputClass).valueReaderOf(name));
+        lastResolvedValueReader = resolvedValueReader;
+      }
+      return readSimpleValue(name, input, resolvedValueReader.valueReader);
+    }
+  }
+
+  private static class ResolvedValueReader {
+
+    private final Class<?> type;
+    private final Optional<MethodHandle> valueReader;
+
+    private ResolvedValueReader(Class<?> type, Optional<MethodHandle> valueReader) {
+      this.type = type;
+      this.valueReader = valueReader;
+    }
+  }
+
 }
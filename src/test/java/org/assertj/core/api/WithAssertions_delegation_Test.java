@@ -795,6 +795,22 @@ class WithAssertions_delegation_Test implements WithAssertions {
     setRemoveAssertJRelatedElementsFromStackTrace(true);
   }
 
+  /**
+   * Test that the delegate method is called.
+   */
+  @Test
+  void withAssertions_setMaxStackTraceElementsKept_Test() {
+    setMaxStackTraceElementsKept(Integer.MAX_VALUE);
+  }
+
+  /**
+   * Test that the delegate method is called.
+   */
+  @Test
+  void withAssertions_setMaxLengthForPrinting_Test() {
+    setMaxLengthForPrinting(Integer.MAX_VALUE);
+  }
+
   /**
    * Test that the delegate method is called.
    */
@@ -15,7 +15,9 @@ package org.assertj.core.api.filter;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatNullPointerException;
 import static org.assertj.core.api.filter.Filters.filter;
+import static org.assertj.core.util.Lists.newArrayList;
 
+import java.util.Iterator;
 import java.util.List;
 
 import org.assertj.core.test.Player;
@@ -38,6 +40,30 @@ class Filter_create_Test extends WithPlayerData {
     assertThat(filter.get()).isEqualTo(players);
   }
 
+  @Test
+  void should_filter_the_elements_given_at_creation() {
+    // GIVEN
+    List<Player> playersToFilter = newArrayList(players);
+    Filters<Player> filter = filter(playersToFilter).with("team", "Chicago Bulls");
+    // WHEN
+    playersToFilter.clear();
+    // THEN
+    assertThat(filter.get()).containsOnly(jordan);
+  }
+
+  @Test
+  void should_filter_a_singly_traversable_iterable_after_having_got_filtered_elements() {
+    // GIVEN
+    Iterator<Player> iterator = players.iterator();
+    Iterable<Player> singlyTraversable = () -> iterator;
+    Filters<Player> filter = filter(singlyTraversable).with("team").notEqualsTo("Chicago Bulls");
+    filter.get();
+    // WHEN
+    List<Player> filteredPlayers = filter.and("name.last").equalsTo("Duncan").get();
+    // THEN
+    assertThat(filteredPlayers).containsOnly(duncan);
+  }
+
   @Test
   void should_fail_if_constructor_iterable_parameter_is_null() {
     assertThatNullPointerException().isThrownBy(() -> filter((List<Player>) null))
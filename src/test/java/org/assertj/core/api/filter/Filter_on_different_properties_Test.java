@@ -36,7 +36,8 @@ class Filter_on_different_properties_Test extends WithPlayerData {
     assertThatExceptionOfType(IntrospectionError.class).isThrownBy(() -> filter(players).with("reboundsPerGame")
                                                                                         .equalsTo(5)
                                                                                         .and("numberOfTitle")
-                                                                                        .notEqualsTo(0))
+                                                                                        .notEqualsTo(0)
+                                                                                        .get())
                                                        .withMessageContaining("Can't find any field or property with name 'numberOfTitle'");
   }
 
@@ -16,6 +16,10 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
 import static org.assertj.core.api.filter.Filters.filter;
+import static org.assertj.core.util.Lists.newArrayList;
+
+import java.util.List;
+import java.util.stream.Stream;
 
 import org.assertj.core.test.Player;
 import org.assertj.core.test.WithPlayerData;
@@ -38,6 +42,26 @@ class Filter_with_property_in_given_values_Test extends WithPlayerData {
     assertThat(players).hasSize(4);
   }
 
+  @Test
+  void should_filter_iterable_elements_with_property_in_many_given_values() {
+    Iterable<Player> filteredPlayers = filter(players).with("team").in("Boston Celtics", "Chicago Bulls", "Detroit Pistons",
+                                                                       "Houston Rockets", "Los Angeles Lakers", "Miami Heat",
+                                                                       "New York Knicks", "Utah Jazz", null)
+                                                      .get();
+    assertThat(filteredPlayers).containsOnly(jordan, magic, kobe);
+  }
+
+  @Test
+  void should_filter_iterable_elements_with_property_in_many_given_values_having_equals_not_consistent_with_hash_code() {
+    // GIVEN
+    List<Tagged> elements = newArrayList(new Tagged("a"), new Tagged("b"), new Tagged("z"));
+    Object[] tags = Stream.of("a", "b", "c", "d", "e", "f", "g", "h").map(EqualsWithoutHashCode::new).toArray();
+    // WHEN
+    List<Tagged> filteredElements = filter(elements).with("tag").in(tags).get();
+    // THEN
+    assertThat(filteredElements).containsExactly(elements.get(0), elements.get(1));
+  }
+
   @Test
   void should_fail_if_property_to_filter_on_is_null() {
     assertThatIllegalArgumentException().isThrownBy(() -> filter(players).with(null).in("foo", "bar"))
@@ -47,8 +71,38 @@ class Filter_with_property_in_given_values_Test extends WithPlayerData {
   @Test
   void should_fail_if_elements_to_filter_do_not_have_property_or_field_used_by_filter() {
     assertThatExceptionOfType(IntrospectionError.class).isThrownBy(() -> filter(players).with("country").in("France",
-                                                                                                            "Italy"))
+                                                                                                            "Italy")
+                                                                                        .get())
                                                        .withMessageContaining("Can't find any field or property with name 'country'");
   }
 
+  static class Tagged {
+
+    public final EqualsWithoutHashCode tag;
+
+    Tagged(String tag) {
+      this.tag = new EqualsWithoutHashCode(tag);
+    }
+  }
+
+  static class EqualsWithoutHashCode {
+
+    private final String value;
+
+    EqualsWithoutHashCode(String value) {
+      this.value = value;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      return obj instanceof EqualsWithoutHashCode && value.equals(((EqualsWithoutHashCode) obj).value);
+    }
+
+    @Override
+    public int hashCode() {
+      // not consistent with equals on purpose
+      return System.identityHashCode(this);
+    }
+  }
+
 }
@@ -47,7 +47,8 @@ class Filter_with_property_not_equals_to_given_value_Test extends WithPlayerData
   @Test
   void should_fail_if_elements_to_filter_do_not_have_property_used_by_filter() {
     assertThatExceptionOfType(IntrospectionError.class).isThrownBy(() -> filter(players).with("country")
-                                                                                        .notEqualsTo("France"))
+                                                                                        .notEqualsTo("France")
+                                                                                        .get())
                                                        .withMessageContaining("Can't find any field or property with name 'country'");
   }
 
@@ -38,6 +38,15 @@ class Filter_with_property_not_in_given_values_Test extends WithPlayerData {
     assertThat(players).hasSize(4);
   }
 
+  @Test
+  void should_filter_iterable_elements_with_property_not_in_many_given_values() {
+    Iterable<Player> filteredPlayers = filter(players).with("team").notIn("Boston Celtics", "Chicago Bulls", "Detroit Pistons",
+                                                                          "Houston Rockets", "Los Angeles Lakers", "Miami Heat",
+                                                                          "New York Knicks", "Utah Jazz", null)
+                                                      .get();
+    assertThat(filteredPlayers).containsOnly(duncan);
+  }
+
   @Test
   void should_fail_if_property_to_filter_on_is_null() {
     assertThatIllegalArgumentException().isThrownBy(() -> filter(players).with(null).notIn("foo", "bar"))
@@ -47,7 +56,8 @@ class Filter_with_property_not_in_given_values_Test extends WithPlayerData {
   @Test
   void should_fail_if_elements_to_filter_do_not_have_property_used_by_filter() {
     assertThatExceptionOfType(IntrospectionError.class).isThrownBy(() -> filter(players).with("country").in("France",
-                                                                                                            "Italy"))
+                                                                                                            "Italy")
+                                                                                        .get())
                                                        .withMessageContaining("Can't find any field or property with name 'country'");
   }
 
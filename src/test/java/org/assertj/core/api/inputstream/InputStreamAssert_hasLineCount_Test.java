@@ -0,0 +1,36 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2020 the original author or authors.
+ */
+package org.assertj.core.api.inputstream;
+
+import static org.mockito.Mockito.verify;
+
+import java.nio.charset.Charset;
+
+import org.assertj.core.api.InputStreamAssert;
+import org.assertj.core.api.InputStreamAssertBaseTest;
+
+/**
+ * Tests for <code>{@link InputStreamAssert#hasLineCount(int)}</code>.
+ */
+class InputStreamAssert_hasLineCount_Test extends InputStreamAssertBaseTest {
+
+  @Override
+  protected InputStreamAssert invoke_api_method() {
+    return assertions.hasLineCount(3);
+  }
+
+  @Override
+  protected void verify_internal_effects() {
+    verify(inputStreams).assertHasLineCount(getInfo(assertions), getActual(assertions), 3, Charset.defaultCharset());
+  }
+}
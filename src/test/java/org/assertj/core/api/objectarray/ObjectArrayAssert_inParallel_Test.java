@@ -0,0 +1,35 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2020 the original author or authors.
+ */
+package org.assertj.core.api.objectarray;
+
+import static org.mockito.Mockito.verify;
+
+import org.assertj.core.api.ObjectArrayAssert;
+import org.assertj.core.api.ObjectArrayAssertBaseTest;
+
+/**
+ * Tests for <code>{@link ObjectArrayAssert#inParallel()}</code>.
+ */
+class ObjectArrayAssert_inParallel_Test extends ObjectArrayAssertBaseTest {
+
+  @Override
+  protected ObjectArrayAssert<Object> invoke_api_method() {
+    return assertions.inParallel();
+  }
+
+  @Override
+  protected void verify_internal_effects() {
+    verify(arrays).inParallel();
+    verify(iterables).inParallel();
+  }
+}
@@ -34,4 +34,26 @@ class DualValue_constructor_Test {
     assertThat(expectedFieldConcatenatedPath).isEqualTo("foo.bar");
     assertThat(expectedFieldPath).isEqualTo(list("foo", "bar"));
   }
+
+  @Test
+  void should_build_field_path_from_parent_dual_value() {
+    // GIVEN
+    DualValue parentDualValue = new DualValue(list("foo", "bar"), "", "");
+    // WHEN
+    DualValue dualValue = new DualValue(parentDualValue, "baz", "", "");
+    // THEN
+    assertThat(dualValue.getConcatenatedPath()).isEqualTo("foo.bar.baz");
+    assertThat(dualValue.getPath()).isEqualTo(list("foo", "bar", "baz"));
+  }
+
+  @Test
+  void should_build_field_path_from_root_dual_value() {
+    // GIVEN
+    DualValue rootDualValue = new DualValue(list(), "", "");
+    // WHEN
+    DualValue dualValue = new DualValue(rootDualValue, "foo", "", "");
+    // THEN
+    assertThat(dualValue.getConcatenatedPath()).isEqualTo("foo");
+    assertThat(dualValue.getPath()).isEqualTo(list("foo"));
+  }
 }
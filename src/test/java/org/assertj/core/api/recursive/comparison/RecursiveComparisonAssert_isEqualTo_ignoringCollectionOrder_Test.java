@@ -353,4 +353,31 @@ class RecursiveComparisonAssert_isEqualTo_ignoringCollectionOrder_Test
 
   }
 
+  @Test
+  void should_pass_when_matching_elements_have_different_fingerprints() {
+    // GIVEN
+    // the null name is ignored in the comparison but not in the fingerprint
+    FriendlyPerson withoutName = friend(null);
+    List<FriendlyPerson> actual = list(withoutName);
+    List<FriendlyPerson> expected = list(friend("Dr. John Watson"));
+    // WHEN/THEN
+    assertThat(actual).usingRecursiveComparison()
+                      .ignoringCollectionOrder()
+                      .ignoringActualNullFields()
+                      .isEqualTo(expected);
+  }
+
+  @Test
+  void should_match_elements_by_fingerprint_after_an_element_has_been_matched_without_it() {
+    // GIVEN
+    FriendlyPerson withoutName = friend(null);
+    List<FriendlyPerson> actual = list(withoutName, friend("Molly Hooper"), friend("Mrs. Hudson"));
+    List<FriendlyPerson> expected = list(friend("Dr. John Watson"), friend("Mrs. Hudson"), friend("Molly Hooper"));
+    // WHEN/THEN
+    assertThat(actual).usingRecursiveComparison()
+                      .ignoringCollectionOrder()
+                      .ignoringActualNullFields()
+                      .isEqualTo(expected);
+  }
+
 }
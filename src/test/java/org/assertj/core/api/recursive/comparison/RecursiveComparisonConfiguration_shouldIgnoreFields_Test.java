@@ -361,6 +361,33 @@ class RecursiveComparisonConfiguration_shouldIgnoreFields_Test {
     assertThat(ignored).isTrue();
   }
 
+  @Test
+  void should_take_into_account_fields_ignored_after_a_previous_evaluation() {
+    // GIVEN
+    DualValue dualValue = dualValueWithPath("foo", "bar");
+    recursiveComparisonConfiguration.ignoreFields("foo.baz");
+    recursiveComparisonConfiguration.ignoreFieldsMatchingRegexes("baz.*");
+    boolean ignoredBefore = recursiveComparisonConfiguration.shouldIgnore(dualValue);
+    recursiveComparisonConfiguration.ignoreFieldsMatchingRegexes("foo\\..*");
+    // WHEN
+    boolean ignoredAfter = recursiveComparisonConfiguration.shouldIgnore(dualValue);
+    // THEN
+    assertThat(ignoredBefore).isFalse();
+    assertThat(ignoredAfter).isTrue();
+  }
+
+  @Test
+  void should_take_into_account_fields_ignored_after_the_field_path_decisions_compilation() {
+    // GIVEN
+    DualValue dualValue = dualValueWithPath("foo", "bar");
+    recursiveComparisonConfiguration.compileFieldPathDecisions();
+    recursiveComparisonConfiguration.ignoreFields("foo.bar");
+    // WHEN
+    boolean ignored = recursiveComparisonConfiguration.shouldIgnore(dualValue);
+    // THEN
+    assertThat(ignored).isTrue();
+  }
+
   static DualValue dualValue(Object value1, Object value2) {
     return new DualValue(randomPath(), value1, value2);
   }
@@ -0,0 +1,108 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2020 the original author or authors.
+ */
+package org.assertj.core.api.recursive.comparison;
+
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.test.AlwaysEqualComparator.ALWAY_EQUALS_STRING;
+import static org.assertj.core.util.Lists.list;
+
+import java.util.List;
+
+import org.assertj.core.internal.objects.data.FriendlyPerson;
+import org.assertj.core.internal.objects.data.Person;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("StructuralFingerprint")
+class StructuralFingerprint_Test {
+
+  private static final List<String> ROOT_PATH = list();
+
+  private RecursiveComparisonConfiguration recursiveComparisonConfiguration;
+
+  @BeforeEach
+  void setup() {
+    recursiveComparisonConfiguration = new RecursiveComparisonConfiguration();
+  }
+
+  @Test
+  void should_be_the_same_for_objects_with_the_same_fields_values() {
+    // GIVEN
+    Person person1 = new Person("John");
+    Person person2 = new Person("John");
+    StructuralFingerprint fingerprint = new StructuralFingerprint(recursiveComparisonConfiguration);
+    // WHEN/THEN
+    then(fingerprint.of(person1, ROOT_PATH)).isEqualTo(fingerprint.of(person2, ROOT_PATH));
+  }
+
+  @Test
+  void should_differ_for_objects_with_different_fields_values() {
+    // GIVEN
+    Person person1 = new Person("John");
+    Person person2 = new Person("Jack");
+    StructuralFingerprint fingerprint = new StructuralFingerprint(recursiveComparisonConfiguration);
+    // WHEN/THEN
+    then(fingerprint.of(person1, ROOT_PATH)).isNotEqualTo(fingerprint.of(person2, ROOT_PATH));
+  }
+
+  @Test
+  void should_not_take_ignored_fields_into_account() {
+    // GIVEN
+    Person person1 = new Person("John");
+    Person person2 = new Person("Jack");
+    recursiveComparisonConfiguration.ignoreFields("name");
+    StructuralFingerprint fingerprint = new StructuralFingerprint(recursiveComparisonConfiguration);
+    // WHEN/THEN
+    then(fingerprint.of(person1, ROOT_PATH)).isEqualTo(fingerprint.of(person2, ROOT_PATH));
+  }
+
+  @Test
+  void should_not_take_values_compared_with_a_registered_comparator_into_account() {
+    // GIVEN
+    Person person1 = new Person("John");
+    Person person2 = new Person("Jack");
+    recursiveComparisonConfiguration.registerComparatorForType(ALWAY_EQUALS_STRING, String.class);
+    StructuralFingerprint fingerprint = new StructuralFingerprint(recursiveComparisonConfiguration);
+    // WHEN/THEN
+    then(fingerprint.of(person1, ROOT_PATH)).isEqualTo(fingerprint.of(person2, ROOT_PATH));
+  }
+
+  @Test
+  void should_not_depend_on_collection_elements_order() {
+    // GIVEN
+    FriendlyPerson person1 = new FriendlyPerson("John");
+    person1.friends.add(new FriendlyPerson("Jack"));
+    person1.friends.add(new FriendlyPerson("Jim"));
+    FriendlyPerson person2 = new FriendlyPerson("John");
+    person2.friends.add(new FriendlyPerson("Jim"));
+    person2.friends.add(new FriendlyPerson("Jack"));
+    StructuralFingerprint fingerprint = new StructuralFingerprint(recursiveComparisonConfiguration);
+    // WHEN/THEN
+    then(fingerprint.of(person1, ROOT_PATH)).isEqualTo(fingerprint.of(person2, ROOT_PATH));
+  }
+
+  @Test
+  void should_support_cycles() {
+    // GIVEN
+    FriendlyPerson person1 = new FriendlyPerson("John");
+    FriendlyPerson person2 = new FriendlyPerson("Jack");
+    person1.friends.add(person2);
+    person2.friends.add(person1);
+    StructuralFingerprint fingerprint = new StructuralFingerprint(recursiveComparisonConfiguration);
+    // WHEN
+    int person1Fingerprint = fingerprint.of(person1, ROOT_PATH);
+    // THEN
+    then(person1Fingerprint).isEqualTo(fingerprint.of(person1, ROOT_PATH));
+  }
+}
@@ -17,6 +17,7 @@ import static org.assertj.core.api.BDDAssertions.then;
 import java.text.SimpleDateFormat;
 import java.util.Date;
 
+import org.assertj.core.internal.CompiledPatternCache;
 import org.assertj.core.internal.Failures;
 import org.assertj.core.presentation.StandardRepresentation;
 import org.assertj.core.util.introspection.FieldSupport;
@@ -41,6 +42,8 @@ class Configuration_apply_Test {
     // maxLengthForSingleLineDescription will be effective.
     then(StandardRepresentation.getMaxElementsForPrinting()).isEqualTo(configuration.maxElementsForPrinting());
     then(StandardRepresentation.getMaxLengthForSingleLineDescription()).isEqualTo(configuration.maxLengthForSingleLineDescription());
+    then(StandardRepresentation.getMaxLengthForPrinting()).isEqualTo(configuration.maxLengthForPrinting());
+    then(CompiledPatternCache.instance().getMaxSize()).isEqualTo(configuration.patternCacheSize());
     boolean removeAssertJRelatedElementsFromStackTrace = Failures.instance().isRemoveAssertJRelatedElementsFromStackTrace();
     then(removeAssertJRelatedElementsFromStackTrace).isEqualTo(configuration.removeAssertJRelatedElementsFromStackTraceEnabled());
     // check lenient is honored by parsing a string that would fail if the DateFormat was not lenient.
@@ -51,6 +51,16 @@ class NonDefaultConfiguration extends Configuration {
     return super.maxElementsForPrinting() + 1;
   }
 
+  @Override
+  public int maxLengthForPrinting() {
+    return 10_000;
+  }
+
+  @Override
+  public int patternCacheSize() {
+    return 512;
+  }
+
   @Override
   public int maxLengthForSingleLineDescription() {
     return super.maxLengthForSingleLineDescription() + 1;
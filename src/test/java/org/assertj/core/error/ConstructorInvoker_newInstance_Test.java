@@ -12,9 +12,12 @@
  */
 package org.assertj.core.error;
 
+import static org.assertj.core.api.Assertions.catchThrowable;
 import static org.assertj.core.api.BDDAssertions.then;
 import static org.assertj.core.api.InstanceOfAssertFactories.THROWABLE;
 
+import java.lang.reflect.InvocationTargetException;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -40,4 +43,85 @@ class ConstructorInvoker_newInstance_Test {
     then(o).asInstanceOf(THROWABLE)
            .hasMessage("Hi");
   }
+
+  @Test
+  void should_create_Object_using_a_constructor_with_several_parameters() throws Exception {
+    // WHEN
+    Object o = invoker.newInstance("java.lang.IllegalStateException", new Class<?>[] { String.class, Throwable.class },
+                                   "Hi", new RuntimeException("cause"));
+    // THEN
+    then(o).asInstanceOf(THROWABLE)
+           .hasMessage("Hi")
+           .hasRootCauseMessage("cause");
+  }
+
+  @Test
+  void should_create_a_new_Object_on_each_call() throws Exception {
+    // GIVEN
+    Class<?>[] parameterTypes = { String.class };
+    Object first = invoker.newInstance("java.lang.Exception", parameterTypes, "first");
+    // WHEN
+    Object second = invoker.newInstance("java.lang.Exception", parameterTypes, "second");
+    // THEN
+    then(first).isNotSameAs(second);
+    then(second).asInstanceOf(THROWABLE)
+                .hasMessage("second");
+  }
+
+  @Test
+  void should_fail_on_each_call_if_class_is_not_found() {
+    // GIVEN
+    Class<?>[] parameterTypes = { String.class };
+    // WHEN
+    Throwable first = catchThrowable(() -> invoker.newInstance("org.unknown.Error", parameterTypes, "Hi"));
+    Throwable second = catchThrowable(() -> invoker.newInstance("org.unknown.Error", parameterTypes, "Hi"));
+    // THEN
+    then(first).isInstanceOf(ClassNotFoundException.class);
+    then(second).isInstanceOf(ClassNotFoundException.class);
+  }
+
+  @Test
+  void should_fail_if_constructor_is_not_found() {
+    // WHEN
+    Throwable thrown = catchThrowable(() -> invoker.newInstance("java.lang.Exception", new Class<?>[] { Integer.class }, 1));
+    // THEN
+    then(thrown).isInstanceOf(NoSuchMethodException.class);
+  }
+
+  @Test
+  void should_fail_with_a_new_exception_on_each_call_if_class_is_not_found() {
+    // GIVEN
+    Class<?>[] parameterTypes = { String.class };
+    // WHEN
+    Throwable first = catchThrowable(() -> invoker.newInstance("org.unknown.Error", parameterTypes, "Hi"));
+    Throwable second = catchThrowable(() -> invoker.newInstance("org.unknown.Error", parameterTypes, "Hi"));
+    // THEN
+    then(second).isNotSameAs(first)
+                .hasMessage(first.getMessage());
+  }
+
+  @Test
+  void should_wrap_exception_thrown_by_constructor() {
+    // WHEN
+    Throwable thrown = catchThrowable(() -> invoker.newInstance("java.lang.Integer", new Class<?>[] { String.class }, "one"));
+    // THEN
+    then(thrown).isInstanceOf(InvocationTargetException.class)
+                .hasCauseInstanceOf(NumberFormatException.class);
+  }
+
+  @Test
+  void should_wrap_error_thrown_by_constructor() {
+    // WHEN
+    Throwable thrown = catchThrowable(() -> invoker.newInstance(ErrorThrowingConstructor.class.getName(),
+                                                                new Class<?>[] { String.class }, "Hi"));
+    // THEN
+    then(thrown).isInstanceOf(InvocationTargetException.class)
+                .hasCauseInstanceOf(AssertionError.class);
+  }
+
+  public static class ErrorThrowingConstructor {
+    public ErrorThrowingConstructor(String message) {
+      throw new AssertionError(message);
+    }
+  }
 }
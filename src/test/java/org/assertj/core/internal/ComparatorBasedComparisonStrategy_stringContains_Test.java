@@ -35,4 +35,10 @@ class ComparatorBasedComparisonStrategy_stringContains_Test extends AbstractTest
     assertThat(caseInsensitiveComparisonStrategy.stringContains("Frodo", "a")).isFalse();
   }
 
+  @Test
+  void should_find_empty_sequence_in_empty_string_like_String_contains() {
+    assertThat(caseInsensitiveComparisonStrategy.stringContains("", "")).isTrue();
+    assertThat(caseInsensitiveComparisonStrategy.stringContains("", "a")).isFalse();
+  }
+
 }
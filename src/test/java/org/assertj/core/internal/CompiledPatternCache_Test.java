@@ -0,0 +1,115 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2020 the original author or authors.
+ */
+package org.assertj.core.internal;
+
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.api.BDDAssertions.thenIllegalArgumentException;
+
+import java.nio.file.FileSystem;
+import java.nio.file.FileSystems;
+import java.nio.file.PathMatcher;
+import java.util.regex.Pattern;
+
+import org.junit.jupiter.api.Test;
+
+class CompiledPatternCache_Test {
+
+  private final CompiledPatternCache cache = new CompiledPatternCache(2);
+
+  @Test
+  void should_return_the_same_pattern_for_the_same_regex_and_flags() {
+    // WHEN
+    Pattern pattern = cache.pattern("a+b");
+    Pattern samePattern = cache.pattern("a+b");
+    Pattern patternWithFlags = cache.pattern("a+b", Pattern.DOTALL);
+    // THEN
+    then(samePattern).isSameAs(pattern);
+    then(patternWithFlags).isNotSameAs(pattern);
+    then(patternWithFlags.flags()).isEqualTo(Pattern.DOTALL);
+    then(cache.hitCount()).isEqualTo(1);
+    then(cache.missCount()).isEqualTo(2);
+  }
+
+  @Test
+  void should_return_the_same_path_matcher_for_the_same_file_system_and_pattern() {
+    // GIVEN
+    FileSystem fileSystem = FileSystems.getDefault();
+    // WHEN
+    PathMatcher pathMatcher = cache.pathMatcher(fileSystem, "glob:**.java");
+    PathMatcher samePathMatcher = cache.pathMatcher(fileSystem, "glob:**.java");
+    // THEN
+    then(samePathMatcher).isSameAs(pathMatcher);
+    then(pathMatcher.matches(fileSystem.getPath("src", "Foo.java"))).isTrue();
+  }
+
+  @Test
+  void should_evict_the_least_recently_used_pattern() {
+    // GIVEN
+    Pattern a = cache.pattern("a");
+    cache.pattern("b");
+    cache.pattern("a");
+    // WHEN
+    cache.pattern("c");
+    // THEN
+    then(cache.size()).isEqualTo(2);
+    then(cache.pattern("a")).isSameAs(a);
+    then(cache.missCount()).isEqualTo(3);
+    cache.pattern("b");
+    then(cache.missCount()).isEqualTo(4);
+  }
+
+  @Test
+  void should_evict_patterns_exceeding_a_reduced_size() {
+    // GIVEN
+    cache.pattern("a");
+    cache.pattern("b");
+    // WHEN
+    cache.setMaxSize(1);
+    // THEN
+    then(cache.size()).isEqualTo(1);
+    cache.pattern("b");
+    then(cache.hitCount()).isEqualTo(1);
+  }
+
+  @Test
+  void should_not_cache_patterns_when_size_is_zero() {
+    // GIVEN
+    cache.setMaxSize(0);
+    // WHEN
+    Pattern pattern = cache.pattern("a");
+    // THEN
+    then(cache.pattern("a")).isNotSameAs(pattern);
+    then(cache.size()).isZero();
+    then(cache.missCount()).isEqualTo(2);
+  }
+
+  @Test
+  void should_reset_patterns_and_counts_when_cleared() {
+    // GIVEN
+    cache.pattern("a");
+    cache.pattern("a");
+    // WHEN
+    cache.clear();
+    // THEN
+    then(cache.size()).isZero();
+    then(cache.hitCount()).isZero();
+    then(cache.missCount()).isZero();
+  }
+
+  @Test
+  void should_fail_if_size_is_negative() {
+    thenIllegalArgumentException().isThrownBy(() -> cache.setMaxSize(-1))
+                                  .withMessage("The pattern cache size must be >= 0 but was -1");
+  }
+
+}
@@ -0,0 +1,104 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2020 the original author or authors.
+ */
+package org.assertj.core.internal;
+
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.util.Lists.list;
+
+import java.util.Comparator;
+
+import org.junit.jupiter.api.Test;
+
+class IndexedElements_Test {
+
+  private static final Comparator<String> CASE_INSENSITIVE_EQUALITY = (s1, s2) -> s1.equalsIgnoreCase(s2) ? 0 : 1;
+
+  @Test
+  void should_find_elements_equal_to_given_values_with_standard_comparison_strategy() {
+    // GIVEN
+    IndexedElements indexedElements = new IndexedElements(list("a", null, new int[] { 1 }, "b"),
+                                                          StandardComparisonStrategy.instance());
+    // WHEN/THEN
+    then(indexedElements.contains("a")).isTrue();
+    then(indexedElements.contains(null)).isTrue();
+    then(indexedElements.contains(new int[] { 1 })).isTrue();
+    then(indexedElements.contains("c")).isFalse();
+    then(indexedElements.contains(new int[] { 2 })).isFalse();
+  }
+
+  @Test
+  void should_find_elements_equal_to_given_values_with_comparator_not_defining_an_order() {
+    // GIVEN
+    IndexedElements indexedElements = new IndexedElements(list("a", "B", "c"),
+                                                          new ComparatorBasedComparisonStrategy(CASE_INSENSITIVE_EQUALITY));
+    // WHEN/THEN
+    then(indexedElements.contains("A")).isTrue();
+    then(indexedElements.contains("b")).isTrue();
+    then(indexedElements.contains("C")).isTrue();
+    then(indexedElements.contains("d")).isFalse();
+  }
+
+  @Test
+  void should_remove_only_the_first_element_equal_to_given_value() {
+    // GIVEN
+    IndexedElements indexedElements = new IndexedElements(list("a", "b", "a"), StandardComparisonStrategy.instance());
+    // WHEN
+    boolean firstRemoval = indexedElements.removeFirst("a");
+    boolean secondRemoval = indexedElements.removeFirst("a");
+    boolean thirdRemoval = indexedElements.removeFirst("a");
+    // THEN
+    then(firstRemoval).isTrue();
+    then(secondRemoval).isTrue();
+    then(thirdRemoval).isFalse();
+    then(indexedElements.contains("a")).isFalse();
+    then(indexedElements.contains("b")).isTrue();
+  }
+
+  @Test
+  void should_tell_whether_several_elements_are_equal_to_given_value() {
+    // GIVEN
+    IndexedElements indexedElements = new IndexedElements(list("a", "b", "A"),
+                                                          new ComparatorBasedComparisonStrategy(String.CASE_INSENSITIVE_ORDER));
+    // WHEN/THEN
+    then(indexedElements.containsSeveralTimes("a")).isTrue();
+    then(indexedElements.containsSeveralTimes("b")).isFalse();
+    then(indexedElements.containsSeveralTimes("c")).isFalse();
+  }
+
+  @Test
+  void should_not_count_removed_elements_as_equal_to_given_value() {
+    // GIVEN
+    IndexedElements indexedElements = new IndexedElements(list("a", "b", "a"), StandardComparisonStrategy.instance());
+    // WHEN
+    indexedElements.removeFirst("a");
+    // THEN
+    then(indexedElements.containsSeveralTimes("a")).isFalse();
+    then(indexedElements.contains("a")).isTrue();
+  }
+
+  @Test
+  void should_find_elements_whose_hash_code_fails() {
+    // GIVEN
+    Object failingHashCode = new Object() {
+      @Override
+      public int hashCode() {
+        throw new UnsupportedOperationException();
+      }
+    };
+    IndexedElements indexedElements = new IndexedElements(list("a", failingHashCode), StandardComparisonStrategy.instance());
+    // WHEN/THEN
+    then(indexedElements.contains(failingHashCode)).isTrue();
+    then(indexedElements.contains("a")).isTrue();
+    then(indexedElements.contains("b")).isFalse();
+  }
+}
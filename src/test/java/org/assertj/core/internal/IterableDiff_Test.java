@@ -16,6 +16,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.internal.IterableDiff.diff;
 import static org.assertj.core.util.Lists.newArrayList;
 
+import java.util.Comparator;
 import java.util.List;
 
 import org.assertj.core.util.CaseInsensitiveStringComparator;
@@ -138,6 +139,168 @@ class IterableDiff_Test {
     assertThat(diff.unexpected).containsExactly(foo1);
   }
 
+  @Test
+  void should_not_report_any_differences_between_two_iterables_with_equal_arrays() {
+    // GIVEN
+    List<Object> actual = newArrayList(new int[] { 1, 2 }, new String[] { "a", "b" }, new Object[] { new long[] { 3L } });
+    List<Object> expected = newArrayList(new Object[] { new long[] { 3L } }, new String[] { "a", "b" }, new int[] { 1, 2 });
+    // WHEN
+    IterableDiff diff = diff(actual, expected, comparisonStrategy);
+    // THEN
+    assertThatNoDiff(diff);
+  }
+
+  @Test
+  void should_not_report_any_differences_between_two_iterables_with_equal_elements_having_different_hash_codes() {
+    // GIVEN
+    List<EqualsWithoutHashCode> actual = newArrayList(new EqualsWithoutHashCode("a"), new EqualsWithoutHashCode("b"));
+    List<EqualsWithoutHashCode> expected = newArrayList(new EqualsWithoutHashCode("b"), new EqualsWithoutHashCode("a"));
+    // WHEN
+    IterableDiff diff = diff(actual, expected, comparisonStrategy);
+    // THEN
+    assertThatNoDiff(diff);
+  }
+
+  @Test
+  void should_report_difference_between_two_iterables_with_equal_elements_having_different_hash_codes() {
+    // GIVEN
+    EqualsWithoutHashCode a = new EqualsWithoutHashCode("a");
+    EqualsWithoutHashCode b = new EqualsWithoutHashCode("b");
+    EqualsWithoutHashCode c = new EqualsWithoutHashCode("c");
+    List<EqualsWithoutHashCode> actual = newArrayList(a, b, b);
+    List<EqualsWithoutHashCode> expected = newArrayList(new EqualsWithoutHashCode("b"), c, new EqualsWithoutHashCode("a"));
+    // WHEN
+    IterableDiff diff = diff(actual, expected, comparisonStrategy);
+    // THEN
+    assertThat(diff.differencesFound()).isTrue();
+    assertThat(diff.missing).containsExactly(c);
+    assertThat(diff.unexpected).containsExactly(b);
+  }
+
+  @Test
+  void should_compare_elements_to_values_with_elements_as_equals_receivers() {
+    // GIVEN
+    Parent parent = new Parent("a");
+    List<Parent> actual = newArrayList(parent);
+    List<Parent> expected = newArrayList(new Child("a"));
+    // WHEN
+    IterableDiff diff = diff(actual, expected, comparisonStrategy);
+    // THEN
+    // the child in expected is not equal to the parent, the parent in actual is equal to the child
+    assertThat(diff.unexpected).containsExactly(parent);
+    assertThat(diff.missing).isEmpty();
+  }
+
+  @Test
+  void should_compare_elements_to_values_with_elements_as_first_comparator_arguments() {
+    // GIVEN
+    actual = newArrayList("ab");
+    expected = newArrayList("abc");
+    Comparator<String> isPrefix = (s1, s2) -> s2.startsWith(s1) ? 0 : 1;
+    comparisonStrategy = new ComparatorBasedComparisonStrategy(isPrefix);
+    // WHEN
+    IterableDiff diff = diff(actual, expected, comparisonStrategy);
+    // THEN
+    // "abc" in expected is not a prefix of "ab", "ab" in actual is a prefix of "abc"
+    assertThat(diff.unexpected).containsExactly("ab");
+    assertThat(diff.missing).isEmpty();
+  }
+
+  @Test
+  void should_not_report_any_differences_using_a_comparator_not_defining_an_order() {
+    // GIVEN
+    actual = newArrayList("a", "B", "c", "A");
+    expected = newArrayList("C", "a", "b", "a");
+    Comparator<String> caseInsensitiveEquality = (s1, s2) -> s1.equalsIgnoreCase(s2) ? 0 : 1;
+    comparisonStrategy = new ComparatorBasedComparisonStrategy(caseInsensitiveEquality);
+    // WHEN
+    IterableDiff diff = diff(actual, expected, comparisonStrategy);
+    // THEN
+    assertThatNoDiff(diff);
+  }
+
+  @Test
+  void should_report_difference_using_a_comparator_not_defining_an_order() {
+    // GIVEN
+    actual = newArrayList("a", "B", "c", "d");
+    expected = newArrayList("C", "a", "b", "a");
+    Comparator<String> caseInsensitiveEquality = (s1, s2) -> s1.equalsIgnoreCase(s2) ? 0 : 1;
+    comparisonStrategy = new ComparatorBasedComparisonStrategy(caseInsensitiveEquality);
+    // WHEN
+    IterableDiff diff = diff(actual, expected, comparisonStrategy);
+    // THEN
+    assertThat(diff.differencesFound()).isTrue();
+    assertThat(diff.missing).containsExactly("a");
+    assertThat(diff.unexpected).containsExactly("d");
+  }
+
+  private static class EqualsWithoutHashCode {
+
+    private final String value;
+
+    EqualsWithoutHashCode(String value) {
+      this.value = value;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      return obj instanceof EqualsWithoutHashCode && value.equals(((EqualsWithoutHashCode) obj).value);
+    }
+
+    @Override
+    public int hashCode() {
+      // not consistent with equals on purpose
+      return System.identityHashCode(this);
+    }
+
+    @Override
+    public String toString() {
+      return value;
+    }
+  }
+
+  private static class Parent {
+
+    private final String name;
+
+    Parent(String name) {
+      this.name = name;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      return obj instanceof Parent && name.equals(((Parent) obj).name);
+    }
+
+    @Override
+    public int hashCode() {
+      return name.hashCode();
+    }
+
+    @Override
+    public String toString() {
+      return getClass().getSimpleName() + " " + name;
+    }
+  }
+
+  private static class Child extends Parent {
+
+    Child(String name) {
+      super(name);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      // not symmetric on purpose
+      return obj instanceof Child && super.equals(obj);
+    }
+
+    @Override
+    public int hashCode() {
+      return super.hashCode();
+    }
+  }
+
   private class Foo {
   }
 
@@ -0,0 +1,121 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2020 the original author or authors.
+ */
+package org.assertj.core.internal;
+
+import static java.nio.charset.StandardCharsets.UTF_16;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.assertj.core.api.BDDAssertions.then;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.LineNumberReader;
+import java.io.StringReader;
+import java.nio.charset.MalformedInputException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+class LineCounter_Test {
+
+  @TempDir
+  Path tempDir;
+
+  static Stream<String> texts() {
+    return Stream.of("", "a", "\n", "\r", "\r\n", "\n\r", "\r\r\n", "\n\n", "a\nb", "a\nb\n", "a\r\nb\r\n", "a\rb\rc",
+                     "\r\n\r\n\r", "first line\n\nlast line\r\n  ", "ğüş\niçöç");
+  }
+
+  @ParameterizedTest
+  @MethodSource("texts")
+  void should_count_lines_of_char_sequence_like_a_LineNumberReader(String text) throws IOException {
+    then(LineCounter.countLines(text)).isEqualTo(lineNumberReaderCount(text));
+    then(LineCounter.countLines(new StringBuilder(text))).isEqualTo(lineNumberReaderCount(text));
+  }
+
+  @ParameterizedTest
+  @MethodSource("texts")
+  void should_count_lines_of_path_like_a_LineNumberReader(String text) throws IOException {
+    // GIVEN
+    Path utf8File = Files.write(tempDir.resolve("utf8.txt"), text.getBytes(UTF_8));
+    Path utf16File = Files.write(tempDir.resolve("utf16.txt"), text.getBytes(UTF_16));
+    // WHEN/THEN
+    then(LineCounter.countLines(utf8File, UTF_8)).isEqualTo(lineNumberReaderCount(text));
+    then(LineCounter.countLines(utf16File, UTF_16)).isEqualTo(lineNumberReaderCount(text));
+  }
+
+  @ParameterizedTest
+  @MethodSource("texts")
+  void should_count_lines_of_input_stream_like_a_LineNumberReader(String text) throws IOException {
+    then(LineCounter.countLines(new ByteArrayInputStream(text.getBytes(UTF_8)), UTF_8)).isEqualTo(lineNumberReaderCount(text));
+    then(LineCounter.countLines(new ByteArrayInputStream(text.getBytes(UTF_16)), UTF_16)).isEqualTo(lineNumberReaderCount(text));
+  }
+
+  @Test
+  void should_count_lines_of_contents_larger_than_the_decoding_buffer() throws IOException {
+    // GIVEN a CR LF split across two decoded chunks and multi byte characters split across chunk boundaries
+    StringBuilder builder = new StringBuilder();
+    for (int i = 0; i < 10_000; i++) {
+      builder.append(i % 3 == 0 ? "çöğ" : "line").append(i % 2 == 0 ? "\r\n" : "\r");
+    }
+    builder.append("unterminated last line");
+    String text = builder.toString();
+    Path file = Files.write(tempDir.resolve("large.txt"), text.getBytes(UTF_8));
+    // WHEN/THEN
+    then(LineCounter.countLines(file, UTF_8)).isEqualTo(10_001);
+    then(LineCounter.countLines(new ByteArrayInputStream(text.getBytes(UTF_8)), UTF_8)).isEqualTo(10_001);
+    then(LineCounter.countLines(text)).isEqualTo(10_001);
+  }
+
+  @Test
+  void should_report_malformed_path_content() throws IOException {
+    // GIVEN
+    Path file = Files.write(tempDir.resolve("malformed.txt"), new byte[] { 'a', '\n', (byte) 0xC3 });
+    // WHEN
+    Throwable thrown = catchThrowable(() -> LineCounter.countLines(file, UTF_8));
+    // THEN
+    then(thrown).isInstanceOf(MalformedInputException.class);
+  }
+
+  @Test
+  void should_report_malformed_input_stream_content() {
+    // GIVEN
+    ByteArrayInputStream stream = new ByteArrayInputStream(new byte[] { 'a', '\n', (byte) 0xC3 });
+    // WHEN
+    Throwable thrown = catchThrowable(() -> LineCounter.countLines(stream, UTF_8));
+    // THEN
+    then(thrown).isInstanceOf(MalformedInputException.class);
+  }
+
+  @Test
+  void should_not_keep_path_open_after_counting_its_lines() throws IOException {
+    // GIVEN
+    Path file = Files.write(tempDir.resolve("lines.txt"), "a\nb".getBytes(UTF_8));
+    LineCounter.countLines(file, UTF_8);
+    // WHEN
+    Files.delete(file);
+    // THEN
+    then(file).doesNotExist();
+  }
+
+  private static int lineNumberReaderCount(String text) throws IOException {
+    LineNumberReader reader = new LineNumberReader(new StringReader(text));
+    while (reader.readLine() != null);
+    return reader.getLineNumber();
+  }
+}
@@ -0,0 +1,87 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2020 the original author or authors.
+ */
+package org.assertj.core.internal;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+class MultiSequenceMatcher_Test {
+
+  @Test
+  void should_find_sequences_in_text() {
+    // GIVEN
+    MultiSequenceMatcher matcher = MultiSequenceMatcher.of(array("he", "she", "his", "hers", "zorro"));
+    // WHEN
+    Set<String> found = matcher.sequencesFoundIn("ushers");
+    // THEN
+    then(found).containsOnly("he", "she", "hers");
+  }
+
+  @Test
+  void should_find_sequences_that_are_suffixes_of_a_partial_match() {
+    // GIVEN
+    MultiSequenceMatcher matcher = MultiSequenceMatcher.of(array("abcd", "bc", "c"));
+    // WHEN
+    Set<String> found = matcher.sequencesFoundIn("abce");
+    // THEN
+    then(found).containsOnly("bc", "c");
+  }
+
+  @Test
+  void should_resume_from_the_longest_suffix_when_match_fails() {
+    // GIVEN
+    MultiSequenceMatcher matcher = MultiSequenceMatcher.of(array("aab", "aaac"));
+    // WHEN
+    Set<String> found = matcher.sequencesFoundIn("aaab");
+    // THEN
+    then(found).containsOnly("aab");
+  }
+
+  @Test
+  void should_find_empty_sequence_in_any_text() {
+    // GIVEN
+    MultiSequenceMatcher matcher = MultiSequenceMatcher.of(array("", "a"));
+    // WHEN
+    Set<String> found = matcher.sequencesFoundIn("");
+    // THEN
+    then(found).containsOnly("");
+  }
+
+  @Test
+  void should_find_duplicated_sequences() {
+    // GIVEN
+    MultiSequenceMatcher matcher = MultiSequenceMatcher.of(array("ab", "ab", "b"));
+    // WHEN
+    Set<String> found = matcher.sequencesFoundIn("xab");
+    // THEN
+    then(found).containsOnly("ab", "b");
+  }
+
+  @Test
+  void should_find_sequences_ignoring_case() {
+    // GIVEN
+    MultiSequenceMatcher matcher = MultiSequenceMatcher.ofIgnoringCase(array("YO", "Da", "luke"));
+    // WHEN
+    Set<String> found = matcher.sequencesFoundIn("Yoda");
+    // THEN
+    then(found).containsOnly("yo", "da");
+  }
+
+  private static CharSequence[] array(CharSequence... values) {
+    return values;
+  }
+
+}
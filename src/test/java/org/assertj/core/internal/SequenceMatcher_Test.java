@@ -0,0 +1,126 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2020 the original author or authors.
+ */
+package org.assertj.core.internal;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import org.assertj.core.util.CaseInsensitiveStringComparator;
+import org.junit.jupiter.api.Test;
+
+class SequenceMatcher_Test {
+
+  @Test
+  void should_find_sequence_end_indexes() {
+    // GIVEN
+    SequenceMatcher sequenceMatcher = new SequenceMatcher(array("a", "b"), StandardComparisonStrategy.instance());
+    // WHEN
+    List<Integer> sequenceEndIndexes = sequenceEndIndexes(sequenceMatcher, "a", "b", "c", "a", "a", "b");
+    // THEN
+    then(sequenceEndIndexes).containsExactly(1, 5);
+  }
+
+  @Test
+  void should_find_sequence_starting_within_a_partial_match() {
+    // GIVEN
+    SequenceMatcher sequenceMatcher = new SequenceMatcher(array("a", "a", "b", "a", "a", "c"),
+                                                          StandardComparisonStrategy.instance());
+    // WHEN
+    List<Integer> sequenceEndIndexes = sequenceEndIndexes(sequenceMatcher, "a", "a", "b", "a", "a", "b", "a", "a", "c");
+    // THEN
+    then(sequenceEndIndexes).containsExactly(8);
+  }
+
+  @Test
+  void should_find_overlapping_sequences() {
+    // GIVEN
+    SequenceMatcher sequenceMatcher = new SequenceMatcher(array("a", "b", "a"), StandardComparisonStrategy.instance());
+    // WHEN
+    List<Integer> sequenceEndIndexes = sequenceEndIndexes(sequenceMatcher, "a", "b", "a", "b", "a");
+    // THEN
+    then(sequenceEndIndexes).containsExactly(2, 4);
+  }
+
+  @Test
+  void should_find_sequence_of_null_elements() {
+    // GIVEN
+    SequenceMatcher sequenceMatcher = new SequenceMatcher(array(null, "a"), StandardComparisonStrategy.instance());
+    // WHEN
+    List<Integer> sequenceEndIndexes = sequenceEndIndexes(sequenceMatcher, null, null, "a", "a");
+    // THEN
+    then(sequenceEndIndexes).containsExactly(2);
+  }
+
+  @Test
+  void should_not_find_sequence_longer_than_given_elements() {
+    // GIVEN
+    SequenceMatcher sequenceMatcher = new SequenceMatcher(array("a", "b", "c"), StandardComparisonStrategy.instance());
+    // WHEN
+    List<Integer> sequenceEndIndexes = sequenceEndIndexes(sequenceMatcher, "a", "b");
+    // THEN
+    then(sequenceEndIndexes).isEmpty();
+  }
+
+  @Test
+  void should_find_sequence_according_to_comparison_strategy() {
+    // GIVEN
+    ComparisonStrategy caseInsensitive = new ComparatorBasedComparisonStrategy(CaseInsensitiveStringComparator.instance);
+    SequenceMatcher sequenceMatcher = new SequenceMatcher(array("a", "A", "b"), caseInsensitive);
+    // WHEN
+    List<Integer> sequenceEndIndexes = sequenceEndIndexes(sequenceMatcher, "a", "a", "A", "B");
+    // THEN
+    then(sequenceEndIndexes).containsExactly(3);
+  }
+
+  @Test
+  void should_compare_all_last_elements_with_sequence_when_equality_is_not_transitive() {
+    // GIVEN
+    Comparator<Double> closeTo = (d1, d2) -> Math.abs(d1 - d2) <= 0.5 ? 0 : Double.compare(d1, d2);
+    SequenceMatcher sequenceMatcher = new SequenceMatcher(array(0.0, 0.4, 5.0), new ComparatorBasedComparisonStrategy(closeTo));
+    // WHEN
+    List<Integer> sequenceEndIndexes = sequenceEndIndexes(sequenceMatcher, 0.0, 0.8, 0.4, 5.0, 0.1, 0.3, 5.2);
+    // THEN
+    then(sequenceEndIndexes).containsExactly(6);
+  }
+
+  @Test
+  void should_compare_given_elements_with_sequence_ones_in_requested_order() {
+    // GIVEN
+    List<Object[]> comparedElements = new ArrayList<>();
+    Comparator<String> recordingComparator = (s1, s2) -> {
+      comparedElements.add(array(s1, s2));
+      return s1.compareTo(s2);
+    };
+    ComparisonStrategy comparisonStrategy = new ComparatorBasedComparisonStrategy(recordingComparator);
+    // WHEN
+    new SequenceMatcher(array("seq"), comparisonStrategy).completesSequence("actual");
+    SequenceMatcher.comparingSequenceElementsFirst(array("seq"), comparisonStrategy).completesSequence("actual");
+    // THEN
+    then(comparedElements).containsExactly(array("actual", "seq"), array("seq", "actual"));
+  }
+
+  private static Object[] array(Object... elements) {
+    return elements;
+  }
+
+  private static List<Integer> sequenceEndIndexes(SequenceMatcher sequenceMatcher, Object... elements) {
+    List<Integer> sequenceEndIndexes = new ArrayList<>();
+    for (int i = 0; i < elements.length; i++) {
+      if (sequenceMatcher.completesSequence(elements[i])) sequenceEndIndexes.add(i);
+    }
+    return sequenceEndIndexes;
+  }
+}
@@ -0,0 +1,83 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2020 the original author or authors.
+ */
+package org.assertj.core.internal;
+
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.internal.SortedPrimitiveElements.areComparablePrimitiveArrays;
+import static org.assertj.core.internal.SortedPrimitiveElements.keysOf;
+import static org.assertj.core.internal.SortedPrimitiveElements.sortedElementsOf;
+
+import org.junit.jupiter.api.Test;
+
+class SortedPrimitiveElements_Test {
+
+  @Test
+  void should_only_compare_primitive_arrays_of_the_same_type() {
+    then(areComparablePrimitiveArrays(new int[0], new int[] { 1 })).isTrue();
+    then(areComparablePrimitiveArrays(new int[0], new long[0])).isFalse();
+    then(areComparablePrimitiveArrays(new Integer[0], new Integer[0])).isFalse();
+    then(areComparablePrimitiveArrays(new int[0], null)).isFalse();
+  }
+
+  @Test
+  void should_key_elements_like_their_boxed_values_are_equal() {
+    then(keysOf(new float[] { Float.NaN, 0.0f, -0.0f })).containsExactly(Float.floatToIntBits(Float.NaN),
+                                                                           Float.floatToIntBits(0.0f),
+                                                                           Float.floatToIntBits(-0.0f));
+    then(keysOf(new double[] { 0.0, -0.0 })).doesNotHaveDuplicates();
+    then(keysOf(new char[] { 'a', 'b' })).containsExactly('a', 'b');
+    then(keysOf(new byte[] { -1, 1 })).containsExactly(-1, 1);
+    then(keysOf(new boolean[] { true, false })).containsExactly(1, 0);
+    then(keysOf(new long[] { Long.MIN_VALUE, Long.MAX_VALUE })).containsExactly(Long.MIN_VALUE, Long.MAX_VALUE);
+  }
+
+  @Test
+  void should_find_contained_keys() {
+    // GIVEN
+    SortedPrimitiveElements elements = sortedElementsOf(new int[] { 5, -3, 8, 5 });
+    // THEN
+    then(elements.containsAll(keysOf(new int[] { 8, 5, -3 }))).isTrue();
+    then(elements.containsAll(keysOf(new int[] { 8, 6 }))).isFalse();
+    then(elements.containsNoneOf(keysOf(new int[] { 1, 2 }))).isTrue();
+    then(elements.containsNoneOf(keysOf(new int[] { 1, -3 }))).isFalse();
+  }
+
+  @Test
+  void should_check_elements_contained_only_once() {
+    // GIVEN
+    SortedPrimitiveElements elements = sortedElementsOf(new int[] { 5, -3, 8, 5 });
+    // THEN
+    then(elements.containsEachOnlyOnce(keysOf(new int[] { 8, -3, 8 }))).isTrue();
+    then(elements.containsEachOnlyOnce(keysOf(new int[] { 8, 5 }))).isFalse();
+    then(elements.containsEachOnlyOnce(keysOf(new int[] { 1 }))).isFalse();
+  }
+
+  @Test
+  void should_detect_duplicates() {
+    then(sortedElementsOf(new double[] { 1.0, Double.NaN, 2.0, Double.NaN }).hasDuplicates()).isTrue();
+    then(sortedElementsOf(new double[] { 0.0, -0.0, 2.0 }).hasDuplicates()).isFalse();
+    then(sortedElementsOf(new double[0]).hasDuplicates()).isFalse();
+  }
+
+  @Test
+  void should_compare_elements_with_or_without_duplicates() {
+    // GIVEN
+    SortedPrimitiveElements elements = sortedElementsOf(new short[] { 3, 1, 2, 1 });
+    // THEN
+    then(elements.hasSameElementsAs(sortedElementsOf(new short[] { 1, 1, 2, 3 }))).isTrue();
+    then(elements.hasSameElementsAs(sortedElementsOf(new short[] { 1, 2, 3 }))).isFalse();
+    then(elements.hasSameDistinctElementsAs(sortedElementsOf(new short[] { 2, 3, 1, 3 }))).isTrue();
+    then(elements.hasSameDistinctElementsAs(sortedElementsOf(new short[] { 1, 2 }))).isFalse();
+    then(elements.hasSameDistinctElementsAs(sortedElementsOf(new short[] { 1, 2, 3, 4 }))).isFalse();
+  }
+}
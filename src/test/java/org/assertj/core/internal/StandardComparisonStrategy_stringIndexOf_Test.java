@@ -0,0 +1,39 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2020 the original author or authors.
+ */
+package org.assertj.core.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link StandardComparisonStrategy#stringIndexOf(String, String, int)}.
+ */
+class StandardComparisonStrategy_stringIndexOf_Test extends AbstractTest_StandardComparisonStrategy {
+
+  @Test
+  void should_return_index_of_first_occurrence_from_given_index() {
+    assertThat(standardComparisonStrategy.stringIndexOf("Frodo", "o", 0)).isEqualTo(2);
+    assertThat(standardComparisonStrategy.stringIndexOf("Frodo", "o", 3)).isEqualTo(4);
+    assertThat(standardComparisonStrategy.stringIndexOf("Frodo", "do", 0)).isEqualTo(3);
+    assertThat(standardComparisonStrategy.stringIndexOf("Frodo", "", 5)).isEqualTo(5);
+  }
+
+  @Test
+  void should_return_minus_one_if_sequence_is_not_found_from_given_index() {
+    assertThat(standardComparisonStrategy.stringIndexOf("Frodo", "Fr", 1)).isEqualTo(-1);
+    assertThat(standardComparisonStrategy.stringIndexOf("Frodo", "Frodoo", 0)).isEqualTo(-1);
+    assertThat(standardComparisonStrategy.stringIndexOf("Frodo", "", 6)).isEqualTo(-1);
+  }
+
+}
@@ -95,6 +95,42 @@ class TypeComparators_Test {
     assertThat(i5).isNull();
   }
 
+  @Test
+  void should_return_comparator_registered_after_a_first_lookup() {
+    Comparator<?> noComparator = typeComparators.get(Foo.class);
+    Comparator<Bar> barComparator = newComparator();
+    typeComparators.put(Bar.class, barComparator);
+
+    Comparator<?> foo = typeComparators.get(Foo.class);
+    assertThat(noComparator).isNull();
+    assertThat(foo).isEqualTo(barComparator);
+  }
+
+  @Test
+  void should_return_more_relevant_comparator_registered_after_a_first_lookup() {
+    Comparator<Bar> barComparator = newComparator();
+    typeComparators.put(Bar.class, barComparator);
+    Comparator<?> fooBeforePut = typeComparators.get(Foo.class);
+    Comparator<Foo> fooComparator = newComparator();
+    typeComparators.put(Foo.class, fooComparator);
+
+    Comparator<?> foo = typeComparators.get(Foo.class);
+    assertThat(fooBeforePut).isEqualTo(barComparator);
+    assertThat(foo).isEqualTo(fooComparator);
+  }
+
+  @Test
+  void should_find_no_comparator_after_clear() {
+    Comparator<Foo> fooComparator = newComparator();
+    typeComparators.put(Foo.class, fooComparator);
+    Comparator<?> fooBeforeClear = typeComparators.get(Foo.class);
+    typeComparators.clear();
+
+    Comparator<?> foo = typeComparators.get(Foo.class);
+    assertThat(fooBeforeClear).isEqualTo(fooComparator);
+    assertThat(foo).isNull();
+  }
+
   @Test
   void should_be_empty() {
     typeComparators.clear();
@@ -50,6 +50,18 @@ class DoubleArrays_assertDoesNotHaveDuplicates_Test extends DoubleArraysBaseTest
                                                    .withMessage(actualIsNull());
   }
 
+  @Test
+  void should_pass_if_actual_only_contains_zeros_of_different_signs() {
+    arrays.assertDoesNotHaveDuplicates(someInfo(), arrayOf(0.0, -0.0));
+  }
+
+  @Test
+  void should_fail_if_actual_contains_NaN_twice() {
+    actual = arrayOf(Double.NaN, 6d, Double.NaN);
+    assertThatExceptionOfType(AssertionError.class).isThrownBy(() -> arrays.assertDoesNotHaveDuplicates(someInfo(), actual))
+                                                   .withMessage(shouldNotHaveDuplicates(actual, newLinkedHashSet(Double.NaN)).create());
+  }
+
   @Test
   void should_fail_if_actual_contains_duplicates() {
     actual = arrayOf(6d, 8d, 6d, 8d);
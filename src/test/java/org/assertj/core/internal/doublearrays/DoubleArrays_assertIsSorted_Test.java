@@ -97,4 +97,22 @@ class DoubleArrays_assertIsSorted_Test extends DoubleArraysBaseTest {
                                                                                                          comparatorForCustomComparisonStrategy()).create());
   }
 
+  @Test
+  void should_pass_if_actual_is_sorted_in_the_natural_order_of_double_values() {
+    // Double.compareTo orders -0.0 before 0.0 and NaN after positive infinity
+    arrays.assertIsSorted(someInfo(), arrayOf(Double.NEGATIVE_INFINITY, -0.0, 0.0, Double.POSITIVE_INFINITY, Double.NaN,
+                                              Double.NaN));
+  }
+
+  @Test
+  void should_fail_if_actual_is_not_sorted_in_the_natural_order_of_double_values() {
+    AssertionInfo info = someInfo();
+    actual = arrayOf(1.0, Double.NaN, 2.0);
+    assertThatExceptionOfType(AssertionError.class).isThrownBy(() -> arrays.assertIsSorted(info, actual))
+                                                   .withMessage(shouldBeSorted(1, actual).create());
+    double[] zeros = arrayOf(0.0, -0.0);
+    assertThatExceptionOfType(AssertionError.class).isThrownBy(() -> arrays.assertIsSorted(info, zeros))
+                                                   .withMessage(shouldBeSorted(0, zeros).create());
+  }
+
 }
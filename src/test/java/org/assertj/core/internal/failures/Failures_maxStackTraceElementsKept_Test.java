@@ -0,0 +1,85 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2020 the original author or authors.
+ */
+package org.assertj.core.internal.failures;
+
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.util.StackTraceUtils.hasStackTraceElementRelatedToAssertJ;
+
+import org.assertj.core.internal.Failures;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for <code>{@link Failures#setMaxStackTraceElementsKept(int)}</code>.
+ */
+class Failures_maxStackTraceElementsKept_Test {
+
+  private Failures failures;
+  private boolean removeAssertJRelatedElementsFromStackTrace;
+
+  @BeforeEach
+  void setUp() {
+    failures = Failures.instance();
+    removeAssertJRelatedElementsFromStackTrace = failures.isRemoveAssertJRelatedElementsFromStackTrace();
+  }
+
+  @AfterEach
+  void tearDown() {
+    failures.setMaxStackTraceElementsKept(Integer.MAX_VALUE);
+    failures.setRemoveAssertJRelatedElementsFromStackTrace(removeAssertJRelatedElementsFromStackTrace);
+  }
+
+  @Test
+  void should_keep_all_stack_trace_elements_by_default() {
+    // GIVEN
+    failures.setRemoveAssertJRelatedElementsFromStackTrace(false);
+    // WHEN
+    AssertionError failure = failures.failure("boom");
+    // THEN
+    // the failure stack trace has the extra Failures.failure element
+    then(failure.getStackTrace()).hasSize(new Throwable().getStackTrace().length + 1);
+  }
+
+  @Test
+  void should_keep_at_most_max_stack_trace_elements_after_removing_assertj_elements() {
+    // GIVEN
+    failures.setRemoveAssertJRelatedElementsFromStackTrace(true);
+    failures.setMaxStackTraceElementsKept(2);
+    // WHEN
+    AssertionError failure = failures.failure("boom");
+    // THEN
+    then(failure.getStackTrace()).hasSize(2);
+    then(hasStackTraceElementRelatedToAssertJ(failure)).isFalse();
+  }
+
+  @Test
+  void should_keep_at_most_max_stack_trace_elements_when_not_removing_assertj_elements() {
+    // GIVEN
+    failures.setRemoveAssertJRelatedElementsFromStackTrace(false);
+    failures.setMaxStackTraceElementsKept(1);
+    // WHEN
+    AssertionError failure = failures.failure("boom");
+    // THEN
+    then(failure.getStackTrace()).hasSize(1);
+    then(failure.getStackTrace()[0].getClassName()).isEqualTo(Failures.class.getName());
+  }
+
+  @Test
+  void should_fail_if_max_stack_trace_elements_kept_is_not_positive() {
+    assertThatIllegalArgumentException().isThrownBy(() -> failures.setMaxStackTraceElementsKept(0))
+                                        .withMessage("maxStackTraceElementsKept must be > 0 but was 0");
+  }
+
+}
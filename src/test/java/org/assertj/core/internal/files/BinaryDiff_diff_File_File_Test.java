@@ -0,0 +1,151 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2020 the original author or authors.
+ */
+package org.assertj.core.internal.files;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+import java.io.File;
+import java.io.IOException;
+
+import org.assertj.core.internal.BinaryDiff;
+import org.assertj.core.internal.BinaryDiffResult;
+import org.assertj.core.util.Files;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for <code>{@link BinaryDiff#diff(java.io.File, java.io.File)}</code>.
+ */
+class BinaryDiff_diff_File_File_Test {
+
+  private final BinaryDiff binaryDiff = new BinaryDiff();
+
+  private File actual;
+  private File expected;
+
+  @BeforeEach
+  void setUp() {
+    actual = Files.newTemporaryFile();
+    actual.deleteOnExit();
+    expected = Files.newTemporaryFile();
+    expected.deleteOnExit();
+  }
+
+  @Test
+  void should_return_no_diff_if_files_have_equal_content() throws IOException {
+    // GIVEN
+    write(actual, 0xCA, 0xFE, 0xBA, 0xBE, 0xCA, 0xFE, 0xBA, 0xBE, 0xCA, 0xFE);
+    write(expected, 0xCA, 0xFE, 0xBA, 0xBE, 0xCA, 0xFE, 0xBA, 0xBE, 0xCA, 0xFE);
+    // WHEN
+    BinaryDiffResult result = binaryDiff.diff(actual, expected);
+    // THEN
+    then(result.hasNoDiff()).isTrue();
+  }
+
+  @Test
+  void should_return_no_diff_if_files_are_empty() throws IOException {
+    // WHEN
+    BinaryDiffResult result = binaryDiff.diff(actual, expected);
+    // THEN
+    then(result.hasNoDiff()).isTrue();
+  }
+
+  @Test
+  void should_return_diff_if_files_differ_on_one_byte() throws IOException {
+    // GIVEN
+    write(actual, 0xCA, 0xFE, 0xBA, 0xBE, 0xCA, 0xFE, 0xBA, 0xBE, 0xCA, 0xFE);
+    write(expected, 0xCA, 0xFE, 0xBA, 0xBE, 0xCA, 0xFE, 0xBE, 0xBE, 0xCA, 0xFE);
+    // WHEN
+    BinaryDiffResult result = binaryDiff.diff(actual, expected);
+    // THEN
+    then(result.hasDiff()).isTrue();
+    then(result.getOffset()).isEqualTo(6);
+    then(result.actual).isEqualTo("0xBA");
+    then(result.expected).isEqualTo("0xBE");
+  }
+
+  @Test
+  void should_return_diff_if_files_differ_on_a_trailing_byte() throws IOException {
+    // GIVEN
+    write(actual, 0xCA, 0xFE, 0xBA, 0xBE, 0xCA, 0xFE, 0xBA, 0xBE, 0xCA, 0xFE);
+    write(expected, 0xCA, 0xFE, 0xBA, 0xBE, 0xCA, 0xFE, 0xBA, 0xBE, 0xCA, 0xFF);
+    // WHEN
+    BinaryDiffResult result = binaryDiff.diff(actual, expected);
+    // THEN
+    then(result.hasDiff()).isTrue();
+    then(result.getOffset()).isEqualTo(9);
+    then(result.actual).isEqualTo("0xFE");
+    then(result.expected).isEqualTo("0xFF");
+  }
+
+  @Test
+  void should_return_diff_if_actual_is_shorter() throws IOException {
+    // GIVEN
+    write(actual, 0xCA, 0xFE, 0xBA);
+    write(expected, 0xCA, 0xFE, 0xBA, 0xBE);
+    // WHEN
+    BinaryDiffResult result = binaryDiff.diff(actual, expected);
+    // THEN
+    then(result.hasDiff()).isTrue();
+    then(result.getOffset()).isEqualTo(3);
+    then(result.actual).isEqualTo("EOF");
+    then(result.expected).isEqualTo("0xBE");
+  }
+
+  @Test
+  void should_return_diff_if_expected_is_shorter() throws IOException {
+    // GIVEN
+    write(actual, 0xCA, 0xFE, 0xBA, 0xBE);
+    write(expected, 0xCA, 0xFE, 0xBA);
+    // WHEN
+    BinaryDiffResult result = binaryDiff.diff(actual, expected);
+    // THEN
+    then(result.hasDiff()).isTrue();
+    then(result.getOffset()).isEqualTo(3);
+    then(result.actual).isEqualTo("0xBE");
+    then(result.expected).isEqualTo("EOF");
+  }
+
+  @Test
+  void should_return_diff_if_expected_is_empty() throws IOException {
+    // GIVEN
+    write(actual, 0xCA);
+    // WHEN
+    BinaryDiffResult result = binaryDiff.diff(actual, expected);
+    // THEN
+    then(result.hasDiff()).isTrue();
+    then(result.getOffset()).isEqualTo(0);
+    then(result.actual).isEqualTo("0xCA");
+    then(result.expected).isEqualTo("EOF");
+  }
+
+  @Test
+  void should_not_keep_files_open_after_comparing_them() throws IOException {
+    // GIVEN
+    write(actual, 0xCA, 0xFE, 0xBA, 0xBE);
+    write(expected, 0xCA, 0xFE, 0xBA, 0xBE);
+    binaryDiff.diff(actual, expected);
+    // WHEN
+    boolean deleted = actual.delete() && expected.delete();
+    // THEN
+    then(deleted).isTrue();
+  }
+
+  private static void write(File file, int... contents) throws IOException {
+    byte[] byteContents = new byte[contents.length];
+    for (int i = 0; i < contents.length; i++) {
+      byteContents[i] = (byte) contents[i];
+    }
+    java.nio.file.Files.write(file.toPath(), byteContents);
+  }
+}
@@ -14,6 +14,8 @@ package org.assertj.core.internal.files;
 
 import static java.lang.String.format;
 import static java.nio.charset.Charset.defaultCharset;
+import static java.nio.charset.StandardCharsets.UTF_16;
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.util.Arrays.array;
 
@@ -139,4 +141,44 @@ class Diff_diff_File_Test {
     assertThat(diffs.get(0)).hasToString(format("Extra content at line 2:%n"
                                                 + "  [\"line_1\"]%n"));
   }
+
+  @Test
+  void should_return_empty_diff_list_if_files_have_equal_content_in_different_charsets() throws IOException {
+    writer.write(actual, UTF_8, "Gerçek", "Başka");
+    writer.write(expected, UTF_16, "Gerçek", "Başka");
+    List<Delta<String>> diffs = diff.diff(actual, UTF_8, expected, UTF_16);
+    assertThat(diffs).isEmpty();
+  }
+
+  @Test
+  void should_return_diffs_with_line_numbers_of_files_differing_after_many_common_lines() throws IOException {
+    String[] expectedLines = new String[5000];
+    for (int i = 0; i < expectedLines.length; i++) {
+      expectedLines[i] = "line " + i;
+    }
+    String[] actualLines = expectedLines.clone();
+    actualLines[4321] = "line_4321";
+    writer.write(actual, actualLines);
+    writer.write(expected, expectedLines);
+    List<Delta<String>> diffs = diff.diff(actual, defaultCharset(), expected, defaultCharset());
+    assertThat(diffs).hasSize(1);
+    assertThat(diffs.get(0)).hasToString(format("Changed content at line 4322:%n"
+                                                + "expecting:%n"
+                                                + "  [\"line 4321\"]%n"
+                                                + "but was:%n"
+                                                + "  [\"line_4321\"]%n"));
+  }
+
+  @Test
+  void should_not_keep_files_open_after_finding_them_equal() throws IOException {
+    // GIVEN
+    String[] content = array("line0", "line1");
+    writer.write(actual, content);
+    writer.write(expected, content);
+    diff.diff(actual, defaultCharset(), expected, defaultCharset());
+    // WHEN
+    boolean deleted = actual.delete() && expected.delete();
+    // THEN
+    assertThat(deleted).isTrue();
+  }
 }
@@ -12,7 +12,6 @@
  */
 package org.assertj.core.internal.files;
 
-import static java.nio.file.Files.readAllBytes;
 import static org.assertj.core.api.Assertions.catchThrowableOfType;
 import static org.assertj.core.api.BDDAssertions.then;
 import static org.assertj.core.error.ShouldBeFile.shouldBeFile;
@@ -38,20 +37,18 @@ class Files_assertHasSameBinaryContentAs_Test extends FilesBaseTest {
 
   private static File actual;
   private static File expected;
-  private static byte[] expectedBytes;
 
   @BeforeAll
-  static void setUpOnce() throws IOException {
+  static void setUpOnce() {
     // Does not matter if the values differ, the actual comparison is mocked in this test
     actual = new File("src/test/resources/actual_file.txt");
     expected = new File("src/test/resources/expected_file.txt");
-    expectedBytes = readAllBytes(expected.toPath());
   }
 
   @Test
   void should_pass_if_file_has_expected_binary_content() throws IOException {
     // GIVEN
-    given(binaryDiff.diff(actual, expectedBytes)).willReturn(noDiff());
+    given(binaryDiff.diff(actual, expected)).willReturn(noDiff());
     // WHEN/THEN
     files.assertSameBinaryContentAs(someInfo(), actual, expected);
   }
@@ -102,7 +99,7 @@ class Files_assertHasSameBinaryContentAs_Test extends FilesBaseTest {
   void should_throw_error_wrapping_caught_IOException() throws IOException {
     // GIVEN
     IOException cause = new IOException();
-    given(binaryDiff.diff(actual, expectedBytes)).willThrow(cause);
+    given(binaryDiff.diff(actual, expected)).willThrow(cause);
     // WHEN
     UncheckedIOException uioe = catchThrowableOfType(() -> files.assertSameBinaryContentAs(someInfo(), actual, expected),
                                                      UncheckedIOException.class);
@@ -114,7 +111,7 @@ class Files_assertHasSameBinaryContentAs_Test extends FilesBaseTest {
   void should_fail_if_file_does_not_have_expected_binary_content() throws IOException {
     // GIVEN
     BinaryDiffResult diff = new BinaryDiffResult(15, (byte) 0xCA, (byte) 0xFE);
-    when(binaryDiff.diff(actual, expectedBytes)).thenReturn(diff);
+    when(binaryDiff.diff(actual, expected)).thenReturn(diff);
     // WHEN
     expectAssertionError(() -> files.assertSameBinaryContentAs(someInfo(), actual, expected));
     // THEN
@@ -53,6 +53,24 @@ class FloatArrays_assertContainsExactlyInAnyOrder_Test extends FloatArraysBaseTe
     arrays.assertContainsExactlyInAnyOrder(info, actual, arrayOf(6f, 10f, 8f));
   }
 
+  @Test
+  void should_pass_if_actual_and_given_values_contain_NaN() {
+    arrays.assertContainsExactlyInAnyOrder(someInfo(), arrayOf(Float.NaN, 6f), arrayOf(6f, Float.NaN));
+  }
+
+  @Test
+  void should_fail_if_actual_and_given_values_only_differ_by_the_sign_of_zero() {
+    AssertionInfo info = someInfo();
+    float[] actual = arrayOf(0.0f, 6f);
+    float[] expected = arrayOf(6f, -0.0f);
+
+    Throwable error = catchThrowable(() -> arrays.assertContainsExactlyInAnyOrder(info, actual, expected));
+
+    assertThat(error).isInstanceOf(AssertionError.class);
+    verify(failures).failure(info, shouldContainExactlyInAnyOrder(actual, expected, newArrayList(-0.0f), newArrayList(0.0f),
+        StandardComparisonStrategy.instance()));
+  }
+
   @Test
   void should_fail_if_arrays_have_different_sizes() {
     assertThatExceptionOfType(AssertionError.class).isThrownBy(() -> arrays.assertContainsExactlyInAnyOrder(someInfo(), actual, arrayOf(6f, 8f)));
@@ -82,6 +82,55 @@ class BinaryDiff_diff_InputStream_Test {
     assertThat(result.expected).isEqualTo("EOF");
   }
 
+  @Test
+  void should_return_diff_if_inputstreams_differ_after_the_first_block() throws IOException {
+    byte[] actualContent = new byte[3 * 8192];
+    byte[] expectedContent = actualContent.clone();
+    expectedContent[8192 + 10] = (byte) 0xFE;
+    actual = new ByteArrayInputStream(actualContent);
+    expected = new ByteArrayInputStream(expectedContent);
+    BinaryDiffResult result = binaryDiff.diff(actual, expected);
+    assertThat(result.hasDiff()).isTrue();
+    assertThat(result.getOffset()).isEqualTo(8192 + 10);
+    assertThat(result.actual).isEqualTo("0x0");
+    assertThat(result.expected).isEqualTo("0xFE");
+  }
+
+  @Test
+  void should_return_diff_if_actual_ends_at_a_block_boundary() throws IOException {
+    actual = new ByteArrayInputStream(new byte[8192]);
+    expected = new ByteArrayInputStream(new byte[8192 + 1]);
+    BinaryDiffResult result = binaryDiff.diff(actual, expected);
+    assertThat(result.hasDiff()).isTrue();
+    assertThat(result.getOffset()).isEqualTo(8192);
+    assertThat(result.actual).isEqualTo("EOF");
+    assertThat(result.expected).isEqualTo("0x0");
+  }
+
+  @Test
+  void should_return_no_diff_if_inputstreams_with_partial_reads_have_equal_content() throws IOException {
+    byte[] content = new byte[2 * 8192 + 5];
+    content[8192 + 3] = (byte) 0xCA;
+    actual = new ThreeBytesPerReadInputStream(content);
+    expected = new ByteArrayInputStream(content);
+    BinaryDiffResult result = binaryDiff.diff(actual, expected);
+    assertThat(result.hasNoDiff()).isTrue();
+  }
+
+  @Test
+  void should_return_diff_if_inputstreams_with_partial_reads_differ_on_one_byte() throws IOException {
+    byte[] actualContent = new byte[2 * 8192 + 5];
+    byte[] expectedContent = actualContent.clone();
+    actualContent[2 * 8192 + 1] = (byte) 0xBA;
+    actual = new ThreeBytesPerReadInputStream(actualContent);
+    expected = new ByteArrayInputStream(expectedContent);
+    BinaryDiffResult result = binaryDiff.diff(actual, expected);
+    assertThat(result.hasDiff()).isTrue();
+    assertThat(result.getOffset()).isEqualTo(2 * 8192 + 1);
+    assertThat(result.actual).isEqualTo("0xBA");
+    assertThat(result.expected).isEqualTo("0x0");
+  }
+
   private InputStream stream(int... contents) {
     byte[] byteContents = new byte[contents.length];
     for (int i = 0; i < contents.length; i++) {
@@ -89,4 +138,17 @@ class BinaryDiff_diff_InputStream_Test {
     }
     return new ByteArrayInputStream(byteContents);
   }
+
+  // simulates streams like network ones which don't fill the given buffer
+  private static class ThreeBytesPerReadInputStream extends ByteArrayInputStream {
+
+    ThreeBytesPerReadInputStream(byte[] content) {
+      super(content);
+    }
+
+    @Override
+    public synchronized int read(byte[] b, int off, int len) {
+      return super.read(b, off, Math.min(len, 3));
+    }
+  }
 }
@@ -121,4 +121,55 @@ class Diff_diff_InputStream_Test {
     assertThat(diffs.get(0)).hasToString(format("Extra content at line 1:%n"
                                                 + "  [\"\"]%n"));
   }
+
+  @Test
+  void should_return_empty_diff_list_if_inputstreams_only_differ_by_line_terminators() throws IOException {
+    // GIVEN
+    actual = new ByteArrayInputStream("line0\r\nline1\rline2\n".getBytes(StandardCharsets.US_ASCII));
+    expected = new ByteArrayInputStream("line0\nline1\nline2".getBytes(StandardCharsets.US_ASCII));
+    // WHEN
+    List<Delta<String>> diffs = diff.diff(actual, expected);
+    // THEN
+    assertThat(diffs).isEmpty();
+  }
+
+  @Test
+  void should_return_empty_diff_list_if_inputstreams_have_equal_content_spanning_many_blocks() throws IOException {
+    // GIVEN
+    String content = manyLines(10_000);
+    // WHEN
+    List<Delta<String>> diffs = diff.diff(asciiStream(content), asciiStream(content));
+    // THEN
+    assertThat(diffs).isEmpty();
+  }
+
+  @Test
+  void should_report_line_numbers_of_differences_found_after_many_common_blocks() throws IOException {
+    // GIVEN
+    String expectedContent = manyLines(10_000);
+    String actualContent = expectedContent.replace("line 8765\r", "line_8765\r").replace("line 9876\n", "");
+    // WHEN
+    List<Delta<String>> diffs = diff.diff(asciiStream(actualContent), asciiStream(expectedContent));
+    // THEN
+    assertThat(diffs).hasSize(2);
+    assertThat(diffs.get(0)).hasToString(format("Changed content at line 8766:%n"
+                                                + "expecting:%n"
+                                                + "  [\"line 8765\"]%n"
+                                                + "but was:%n"
+                                                + "  [\"line_8765\"]%n"));
+    assertThat(diffs.get(1)).hasToString(format("Missing content at line 9877:%n"
+                                                + "  [\"line 9876\"]%n"));
+  }
+
+  private static String manyLines(int lineCount) {
+    StringBuilder lines = new StringBuilder();
+    for (int i = 0; i < lineCount; i++) {
+      lines.append("line ").append(i).append(i % 3 == 0 ? "\n" : i % 3 == 1 ? "\r\n" : "\r");
+    }
+    return lines.toString();
+  }
+
+  private static InputStream asciiStream(String content) {
+    return new ByteArrayInputStream(content.getBytes(StandardCharsets.US_ASCII));
+  }
 }
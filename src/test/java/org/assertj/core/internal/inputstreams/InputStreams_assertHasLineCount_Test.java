@@ -0,0 +1,83 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2020 the original author or authors.
+ */
+package org.assertj.core.internal.inputstreams;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.error.ShouldHaveLineCount.shouldHaveLinesCount;
+import static org.assertj.core.test.TestData.someInfo;
+import static org.assertj.core.util.AssertionsUtil.expectAssertionError;
+import static org.assertj.core.util.FailureMessages.actualIsNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.Charset;
+
+import org.assertj.core.api.AssertionInfo;
+import org.assertj.core.internal.InputStreams;
+import org.assertj.core.internal.InputStreamsBaseTest;
+import org.assertj.core.internal.InputStreamsException;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for <code>{@link InputStreams#assertHasLineCount(AssertionInfo, InputStream, int, Charset)}</code>.
+ */
+class InputStreams_assertHasLineCount_Test extends InputStreamsBaseTest {
+
+  @Test
+  void should_fail_if_actual_is_null() {
+    // GIVEN
+    InputStream actual = null;
+    // WHEN
+    AssertionError error = expectAssertionError(() -> inputStreams.assertHasLineCount(someInfo(), actual, 1, UTF_8));
+    // THEN
+    then(error).hasMessage(actualIsNull());
+  }
+
+  @Test
+  void should_throw_error_wrapping_caught_IOException() throws IOException {
+    // GIVEN
+    InputStream actual = mock(InputStream.class);
+    IOException cause = new IOException();
+    when(actual.read(any(byte[].class), anyInt(), anyInt())).thenThrow(cause);
+    // WHEN
+    Throwable error = catchThrowable(() -> inputStreams.assertHasLineCount(someInfo(), actual, 1, UTF_8));
+    // THEN
+    then(error).isInstanceOf(InputStreamsException.class)
+               .hasCause(cause);
+  }
+
+  @Test
+  void should_pass_if_actual_has_expected_line_count() {
+    // GIVEN
+    InputStream actual = new ByteArrayInputStream("Bart\r\nLisa\rMaggie\n\nHomer".getBytes(UTF_8));
+    // WHEN/THEN
+    inputStreams.assertHasLineCount(someInfo(), actual, 5, UTF_8);
+  }
+
+  @Test
+  void should_fail_if_actual_does_not_have_expected_line_count() {
+    // GIVEN
+    InputStream actual = new ByteArrayInputStream("Bart\nLisa\n".getBytes(UTF_8));
+    // WHEN
+    AssertionError error = expectAssertionError(() -> inputStreams.assertHasLineCount(someInfo(), actual, 3, UTF_8));
+    // THEN
+    then(error).hasMessage(shouldHaveLinesCount(actual, 2, 3).create());
+  }
+}
@@ -178,4 +178,37 @@ class Iterables_assertContainsOnly_Test extends IterablesBaseTest {
   void should_pass_if_nonrestartable_actual_contains_only_given_values() {
     iterables.assertContainsOnly(someInfo(), createSinglyIterable(actual), array("Luke", "Yoda", "Leia"));
   }
+
+  @Test
+  void should_pass_if_actual_contains_given_values_only_with_equals_not_consistent_with_hash_code() {
+    // GIVEN
+    Collection<EqualsWithoutHashCode> actual = newArrayList(new EqualsWithoutHashCode("Luke"), new EqualsWithoutHashCode("Yoda"));
+    // WHEN/THEN
+    iterables.assertContainsOnly(someInfo(), actual, array(new EqualsWithoutHashCode("Yoda"), new EqualsWithoutHashCode("Luke")));
+  }
+
+  private static class EqualsWithoutHashCode {
+
+    private final String value;
+
+    EqualsWithoutHashCode(String value) {
+      this.value = value;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      return obj instanceof EqualsWithoutHashCode && value.equals(((EqualsWithoutHashCode) obj).value);
+    }
+
+    @Override
+    public int hashCode() {
+      // not consistent with equals on purpose
+      return System.identityHashCode(this);
+    }
+
+    @Override
+    public String toString() {
+      return value;
+    }
+  }
 }
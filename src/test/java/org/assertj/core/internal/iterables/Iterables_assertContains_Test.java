@@ -27,6 +27,7 @@ import static org.assertj.core.util.Lists.newArrayList;
 import static org.assertj.core.util.Sets.newLinkedHashSet;
 import static org.mockito.Mockito.verify;
 
+import java.util.ArrayList;
 import java.util.Collection;
 
 import org.assertj.core.api.AssertionInfo;
@@ -148,4 +149,41 @@ class Iterables_assertContains_Test extends IterablesBaseTest {
     verify(failures).failure(info, shouldContain(actual, expected, newLinkedHashSet("Han"), comparisonStrategy));
   }
 
+  @Test
+  void should_pass_if_actual_contains_many_given_values_with_equals_not_consistent_with_hash_code() {
+    // GIVEN
+    Collection<EqualsWithoutHashCode> actual = new ArrayList<>();
+    EqualsWithoutHashCode[] values = new EqualsWithoutHashCode[20];
+    for (int i = 0; i < values.length; i++) {
+      actual.add(new EqualsWithoutHashCode("value" + i));
+      values[i] = new EqualsWithoutHashCode("value" + i);
+    }
+    // WHEN/THEN
+    iterables.assertContains(someInfo(), actual, values);
+  }
+
+  private static class EqualsWithoutHashCode {
+
+    private final String value;
+
+    EqualsWithoutHashCode(String value) {
+      this.value = value;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      return obj instanceof EqualsWithoutHashCode && value.equals(((EqualsWithoutHashCode) obj).value);
+    }
+
+    @Override
+    public int hashCode() {
+      // not consistent with equals on purpose
+      return System.identityHashCode(this);
+    }
+
+    @Override
+    public String toString() {
+      return value;
+    }
+  }
 }
@@ -0,0 +1,148 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2020 the original author or authors.
+ */
+package org.assertj.core.internal.iterables;
+
+import static java.util.stream.Collectors.toCollection;
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.test.TestData.someInfo;
+import static org.assertj.core.util.AssertionsUtil.expectAssertionError;
+
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+import java.util.stream.IntStream;
+
+import org.assertj.core.api.Condition;
+import org.assertj.core.internal.ComparatorBasedComparisonStrategy;
+import org.assertj.core.internal.ComparisonStrategy;
+import org.assertj.core.internal.Iterables;
+import org.assertj.core.presentation.PredicateDescription;
+import org.assertj.core.util.CaseInsensitiveStringComparator;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for <code>{@link Iterables#inParallel()}</code>.
+ */
+class Iterables_inParallel_Test {
+
+  private static final List<Integer> NUMBERS = IntStream.range(0, 10_000).boxed().collect(toList());
+  private static final Predicate<Integer> IS_MULTIPLE_OF_1000 = i -> i % 1000 == 0;
+
+  private final Iterables sequential = Iterables.instance();
+  private final Iterables parallel = Iterables.instance().inParallel();
+
+  @Test
+  void should_keep_comparison_strategy() {
+    // GIVEN
+    ComparisonStrategy comparisonStrategy = new ComparatorBasedComparisonStrategy(CaseInsensitiveStringComparator.instance);
+    // WHEN
+    Iterables iterables = new Iterables(comparisonStrategy).inParallel();
+    // THEN
+    then(iterables.isParallel()).isTrue();
+    then(iterables.getComparisonStrategy()).isSameAs(comparisonStrategy);
+    then(iterables.inParallel()).isSameAs(iterables);
+    then(sequential.isParallel()).isFalse();
+  }
+
+  @Test
+  void should_report_elements_not_satisfying_requirements_in_order() {
+    // WHEN
+    AssertionError sequentialError = expectAssertionError(() -> sequential.assertAllSatisfy(someInfo(), NUMBERS,
+                                                                                            i -> assertThat(i % 1000).isNotZero()));
+    AssertionError parallelError = expectAssertionError(() -> parallel.assertAllSatisfy(someInfo(), NUMBERS,
+                                                                                        i -> assertThat(i % 1000).isNotZero()));
+    // THEN
+    then(parallelError).hasMessage(sequentialError.getMessage());
+  }
+
+  @Test
+  void should_report_elements_not_matching_predicate_in_order() {
+    // WHEN
+    AssertionError sequentialError = expectAssertionError(() -> sequential.assertAllMatch(someInfo(), NUMBERS,
+                                                                                          IS_MULTIPLE_OF_1000.negate(),
+                                                                                          PredicateDescription.GIVEN));
+    AssertionError parallelError = expectAssertionError(() -> parallel.assertAllMatch(someInfo(), NUMBERS,
+                                                                                      IS_MULTIPLE_OF_1000.negate(),
+                                                                                      PredicateDescription.GIVEN));
+    // THEN
+    then(parallelError).hasMessage(sequentialError.getMessage());
+  }
+
+  @Test
+  void should_report_first_element_matching_predicate() {
+    // WHEN
+    AssertionError sequentialError = expectAssertionError(() -> sequential.assertNoneMatch(someInfo(), NUMBERS,
+                                                                                           i -> i > 5000,
+                                                                                           PredicateDescription.GIVEN));
+    AssertionError parallelError = expectAssertionError(() -> parallel.assertNoneMatch(someInfo(), NUMBERS,
+                                                                                       i -> i > 5000,
+                                                                                       PredicateDescription.GIVEN));
+    // THEN
+    then(parallelError).hasMessage(sequentialError.getMessage());
+  }
+
+  @Test
+  void should_pass_if_any_element_matches_predicate() {
+    parallel.assertAnyMatch(someInfo(), NUMBERS, i -> i == 9_999, PredicateDescription.GIVEN);
+  }
+
+  @Test
+  void should_report_elements_not_satisfying_condition_in_order() {
+    // GIVEN
+    Condition<Integer> notMultipleOf1000 = new Condition<>(IS_MULTIPLE_OF_1000.negate(), "not a multiple of 1000");
+    // WHEN
+    AssertionError sequentialError = expectAssertionError(() -> sequential.assertAre(someInfo(), NUMBERS, notMultipleOf1000));
+    AssertionError parallelError = expectAssertionError(() -> parallel.assertAre(someInfo(), NUMBERS, notMultipleOf1000));
+    // THEN
+    then(parallelError).hasMessage(sequentialError.getMessage());
+  }
+
+  @Test
+  void should_count_elements_satisfying_condition() {
+    // GIVEN
+    Condition<Integer> multipleOf1000 = new Condition<>(IS_MULTIPLE_OF_1000, "a multiple of 1000");
+    // WHEN/THEN
+    parallel.assertAreAtLeast(someInfo(), NUMBERS, 10, multipleOf1000);
+    parallel.assertAreAtMost(someInfo(), NUMBERS, 10, multipleOf1000);
+    parallel.assertAreExactly(someInfo(), NUMBERS, 10, multipleOf1000);
+    expectAssertionError(() -> parallel.assertAreExactly(someInfo(), NUMBERS, 9, multipleOf1000));
+    expectAssertionError(() -> parallel.assertAreAtMost(someInfo(), NUMBERS, 9, multipleOf1000));
+  }
+
+  @Test
+  void should_stop_counting_once_the_outcome_is_known() {
+    // GIVEN
+    AtomicInteger evaluations = new AtomicInteger();
+    Condition<Integer> counting = new Condition<>(i -> evaluations.incrementAndGet() > 0, "counted");
+    // WHEN
+    sequential.assertAreAtLeast(someInfo(), NUMBERS, 3, counting);
+    // THEN
+    then(evaluations).hasValue(3);
+  }
+
+  @Test
+  void should_evaluate_non_random_access_iterables_sequentially() {
+    // GIVEN
+    List<Integer> numbers = NUMBERS.stream().collect(toCollection(LinkedList::new));
+    Condition<Integer> notMultipleOf1000 = new Condition<>(IS_MULTIPLE_OF_1000.negate(), "not a multiple of 1000");
+    // WHEN
+    AssertionError sequentialError = expectAssertionError(() -> sequential.assertHave(someInfo(), numbers, notMultipleOf1000));
+    AssertionError parallelError = expectAssertionError(() -> parallel.assertHave(someInfo(), numbers, notMultipleOf1000));
+    // THEN
+    then(parallelError).hasMessage(sequentialError.getMessage());
+  }
+
+}
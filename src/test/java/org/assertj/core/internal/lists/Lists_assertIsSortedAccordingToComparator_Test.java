@@ -25,6 +25,7 @@ import static org.assertj.core.util.Lists.newArrayList;
 import static org.mockito.Mockito.verify;
 
 import java.util.Comparator;
+import java.util.LinkedList;
 import java.util.List;
 
 import org.assertj.core.api.AssertionInfo;
@@ -115,4 +116,16 @@ class Lists_assertIsSortedAccordingToComparator_Test extends ListsBaseTest {
         shouldHaveComparableElementsAccordingToGivenComparator(actual, stringDescendingOrderComparator));
   }
 
+  @Test
+  void should_fail_if_actual_is_not_a_random_access_list_and_is_not_sorted_according_to_given_comparator() {
+    AssertionInfo info = someInfo();
+    List<String> actual = new LinkedList<>(newArrayList("Yoda", "Vador", "Leia", "Leia", "Luke"));
+
+    Throwable error = catchThrowable(() -> lists.assertIsSortedAccordingToComparator(info, actual,
+                                                                                    stringDescendingOrderComparator));
+
+    assertThat(error).isInstanceOf(AssertionError.class);
+    verify(failures).failure(info, shouldBeSortedAccordingToGivenComparator(3, actual, stringDescendingOrderComparator));
+  }
+
 }
@@ -23,6 +23,7 @@ import static org.assertj.core.util.Lists.newArrayList;
 
 import static org.mockito.Mockito.verify;
 
+import java.util.LinkedList;
 import java.util.List;
 
 import org.assertj.core.api.AssertionInfo;
@@ -125,4 +126,31 @@ class Lists_assertIsSorted_Test extends ListsBaseTest {
     verify(failures).failure(info, shouldHaveMutuallyComparableElements(actual));
   }
 
+  @Test
+  void should_fail_if_actual_is_not_a_random_access_list_and_is_not_sorted_in_ascending_order() {
+    AssertionInfo info = someInfo();
+    List<String> actual = new LinkedList<>(newArrayList("Leia", "Luke", "Yoda", "Vador"));
+
+    Throwable error = catchThrowable(() -> lists.assertIsSorted(info, actual));
+
+    assertThat(error).isInstanceOf(AssertionError.class);
+    verify(failures).failure(info, shouldBeSorted(2, actual));
+  }
+
+  @Test
+  void should_pass_if_actual_is_not_a_random_access_list_and_is_sorted_in_ascending_order() {
+    lists.assertIsSorted(someInfo(), new LinkedList<>(actual));
+  }
+
+  @Test
+  void should_fail_if_actual_has_non_comparable_elements_after_unsorted_ones() {
+    AssertionInfo info = someInfo();
+    List<Object> actual = newArrayList("foo", "bar", new Object());
+
+    Throwable error = catchThrowable(() -> lists.assertIsSorted(info, actual));
+
+    assertThat(error).isInstanceOf(AssertionError.class);
+    verify(failures).failure(info, shouldHaveMutuallyComparableElements(actual));
+  }
+
 }
@@ -0,0 +1,68 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2020 the original author or authors.
+ */
+package org.assertj.core.internal.objectarrays;
+
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.test.TestData.someInfo;
+import static org.assertj.core.util.AssertionsUtil.expectAssertionError;
+
+import java.util.stream.IntStream;
+
+import org.assertj.core.api.Condition;
+import org.assertj.core.internal.ComparatorBasedComparisonStrategy;
+import org.assertj.core.internal.ComparisonStrategy;
+import org.assertj.core.internal.ObjectArrays;
+import org.assertj.core.util.CaseInsensitiveStringComparator;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for <code>{@link ObjectArrays#inParallel()}</code>.
+ */
+class ObjectArrays_inParallel_Test {
+
+  private static final Integer[] NUMBERS = IntStream.range(0, 10_000).boxed().toArray(Integer[]::new);
+  private static final Condition<Integer> MULTIPLE_OF_1000 = new Condition<>(i -> i % 1000 == 0, "a multiple of 1000");
+
+  private final ObjectArrays sequential = ObjectArrays.instance();
+  private final ObjectArrays parallel = ObjectArrays.instance().inParallel();
+
+  @Test
+  void should_keep_comparison_strategy() {
+    // GIVEN
+    ComparisonStrategy comparisonStrategy = new ComparatorBasedComparisonStrategy(CaseInsensitiveStringComparator.instance);
+    // WHEN
+    ObjectArrays objectArrays = new ObjectArrays(comparisonStrategy).inParallel();
+    // THEN
+    then(objectArrays.isParallel()).isTrue();
+    then(objectArrays.getComparisonStrategy()).isSameAs(comparisonStrategy);
+    then(objectArrays.inParallel()).isSameAs(objectArrays);
+    then(sequential.isParallel()).isFalse();
+  }
+
+  @Test
+  void should_report_elements_not_satisfying_condition_in_order() {
+    // WHEN
+    AssertionError sequentialError = expectAssertionError(() -> sequential.assertAreNot(someInfo(), NUMBERS, MULTIPLE_OF_1000));
+    AssertionError parallelError = expectAssertionError(() -> parallel.assertAreNot(someInfo(), NUMBERS, MULTIPLE_OF_1000));
+    // THEN
+    then(parallelError).hasMessage(sequentialError.getMessage());
+  }
+
+  @Test
+  void should_count_elements_satisfying_condition() {
+    parallel.assertAreExactly(someInfo(), NUMBERS, 10, MULTIPLE_OF_1000);
+    parallel.assertHaveAtLeast(someInfo(), NUMBERS, 10, MULTIPLE_OF_1000);
+    expectAssertionError(() -> parallel.assertAreAtMost(someInfo(), NUMBERS, 9, MULTIPLE_OF_1000));
+  }
+
+}
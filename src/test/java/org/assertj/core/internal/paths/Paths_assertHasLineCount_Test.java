@@ -0,0 +1,95 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2020 the original author or authors.
+ */
+package org.assertj.core.internal.paths;
+
+import static java.nio.charset.StandardCharsets.UTF_16;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.error.ShouldExist.shouldExist;
+import static org.assertj.core.error.ShouldHaveLineCount.shouldHaveLinesCount;
+import static org.assertj.core.util.AssertionsUtil.expectAssertionError;
+import static org.assertj.core.util.FailureMessages.actualIsNull;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.Charset;
+import java.nio.charset.MalformedInputException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.assertj.core.api.AssertionInfo;
+import org.assertj.core.internal.Paths;
+import org.assertj.core.internal.PathsSimpleBaseTest;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for <code>{@link Paths#assertHasLineCount(AssertionInfo, Path, int, Charset)}</code>.
+ */
+class Paths_assertHasLineCount_Test extends PathsSimpleBaseTest {
+
+  @Test
+  void should_fail_if_actual_is_null() {
+    // WHEN
+    AssertionError error = expectAssertionError(() -> paths.assertHasLineCount(INFO, null, 1, UTF_8));
+    // THEN
+    then(error).hasMessage(actualIsNull());
+  }
+
+  @Test
+  void should_fail_if_actual_does_not_exist() {
+    // GIVEN
+    Path actual = tempDir.resolve("non-existent");
+    // WHEN
+    AssertionError error = expectAssertionError(() -> paths.assertHasLineCount(INFO, actual, 1, UTF_8));
+    // THEN
+    then(error).hasMessage(shouldExist(actual).create());
+  }
+
+  @Test
+  void should_pass_if_actual_has_expected_line_count() throws IOException {
+    // GIVEN
+    Path actual = Files.write(tempDir.resolve("actual"), "Bart\r\nLisa\rMaggie\n\nHomer".getBytes(UTF_16));
+    // WHEN/THEN
+    paths.assertHasLineCount(INFO, actual, 5, UTF_16);
+  }
+
+  @Test
+  void should_pass_if_actual_is_empty_and_expected_line_count_is_zero() throws IOException {
+    // GIVEN
+    Path actual = Files.createFile(tempDir.resolve("actual"));
+    // WHEN/THEN
+    paths.assertHasLineCount(INFO, actual, 0, UTF_8);
+  }
+
+  @Test
+  void should_fail_if_actual_does_not_have_expected_line_count() throws IOException {
+    // GIVEN
+    Path actual = Files.write(tempDir.resolve("actual"), "Bart\nLisa\n".getBytes(UTF_8));
+    // WHEN
+    AssertionError error = expectAssertionError(() -> paths.assertHasLineCount(INFO, actual, 3, UTF_8));
+    // THEN
+    then(error).hasMessage(shouldHaveLinesCount(actual, 2, 3).create());
+  }
+
+  @Test
+  void should_throw_error_wrapping_caught_IOException() throws IOException {
+    // GIVEN
+    Path actual = Files.write(tempDir.resolve("actual"), new byte[] { 'a', '\n', (byte) 0xC3 });
+    // WHEN
+    Throwable thrown = catchThrowable(() -> paths.assertHasLineCount(INFO, actual, 2, UTF_8));
+    // THEN
+    then(thrown).isInstanceOf(UncheckedIOException.class)
+                .hasCauseInstanceOf(MalformedInputException.class);
+  }
+}
@@ -98,4 +98,17 @@ class Strings_assertContains_Test extends StringsBaseTest {
                                                    .withMessage(shouldContain("Yoda", array("Yo", "da", "Han"), newLinkedHashSet("Han"), comparisonStrategy).create());
   }
 
+  @Test
+  void should_fail_if_actual_does_not_contain_all_of_many_given_strings() {
+    String[] values = { "Yo", "da", "Han", "od", "Y", "a", "Luke", "Yoda", "oda", "Leia" };
+    assertThatExceptionOfType(AssertionError.class).isThrownBy(() -> strings.assertContains(someInfo(), "Yoda", values))
+                                                   .withMessage(shouldContain("Yoda", values,
+                                                                              newLinkedHashSet("Han", "Luke", "Leia")).create());
+  }
+
+  @Test
+  void should_pass_if_actual_contains_all_of_many_given_strings_according_to_custom_comparison_strategy() {
+    stringsWithCaseInsensitiveComparisonStrategy.assertContains(someInfo(), "Yoda", "YO", "dA", "O", "d", "a", "y", "od", "ODA",
+                                                                "yoda");
+  }
 }
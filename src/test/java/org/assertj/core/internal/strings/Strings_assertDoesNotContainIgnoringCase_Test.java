@@ -130,4 +130,16 @@ class Strings_assertDoesNotContainIgnoringCase_Test extends StringsBaseTest {
   private void assertDoesNotContainIgnoringCase(CharSequence actual, CharSequence... values) {
     strings.assertDoesNotContainIgnoringCase(someInfo(), actual, values);
   }
+
+  @Test
+  void should_fail_if_actual_contains_some_of_many_values_with_different_case() {
+    // GIVEN
+    String actual = "Yoda";
+    CharSequence[] values = { "OD", "yo", "Luke", "Leia", "Han", "Obiwan", "Chewie", "DA", "R2" };
+    // WHEN
+    AssertionError assertionError = expectAssertionError(() -> assertDoesNotContainIgnoringCase(actual, values));
+    // THEN
+    String message = shouldNotContainIgnoringCase(actual, values, newSet("OD", "yo", "DA")).create();
+    then(assertionError).hasMessage(message);
+  }
 }
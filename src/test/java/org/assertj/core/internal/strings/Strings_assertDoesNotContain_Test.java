@@ -118,4 +118,15 @@ class Strings_assertDoesNotContain_Test extends StringsBaseTest {
                                                                                         values, newSet("practice"),
                                                                                         comparisonStrategy).create()));
   }
+
+  @Test
+  void should_fail_if_actual_contains_any_of_many_given_values() {
+    String[] values = { "practice", "make", "good", "bad", "perfect", "x", "y", "z", "s p" };
+    assertThatExceptionOfType(AssertionError.class).isThrownBy(() -> strings.assertDoesNotContain(someInfo(),
+                                                                                                  "Practice makes perfect",
+                                                                                                  values))
+                                                   .withMessage(format(shouldNotContain("Practice makes perfect",
+                                                                                        values, newSet("make", "perfect", "s p"),
+                                                                                        StandardComparisonStrategy.instance()).create()));
+  }
 }
@@ -82,7 +82,11 @@ class Strings_assertEqualsNormalizingPunctuationAndWhitespace_Test extends Strin
                      // without punctuation and no spaces
                      Arguments.of("Game of Thrones", "Game of Thrones"),
                      // comparing strings with punctuation and additional spaces
-                     Arguments.of("Game {} of () Thrones {})()!'", "Game  of  Thrones "));
+                     Arguments.of("Game {} of () Thrones {})()!'", "Game  of  Thrones "),
+                     // punctuation between whitespaces
+                     Arguments.of("Game , of ,Thrones", "Game of Thrones"),
+                     // leading and trailing control characters are trimmed
+                     Arguments.of("\u0001Game of Thrones.\u0000", "Game of Thrones"));
   }
 
   private void verifyFailureWhenStringsAreNotEqualNormalizingPunctuationAndWhitespace(AssertionInfo info, String actual,
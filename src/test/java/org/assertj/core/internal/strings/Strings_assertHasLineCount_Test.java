@@ -0,0 +1,55 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2020 the original author or authors.
+ */
+package org.assertj.core.internal.strings;
+
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.error.ShouldHaveLineCount.shouldHaveLinesCount;
+import static org.assertj.core.test.TestData.someInfo;
+import static org.assertj.core.util.AssertionsUtil.expectAssertionError;
+import static org.assertj.core.util.FailureMessages.actualIsNull;
+
+import org.assertj.core.api.AssertionInfo;
+import org.assertj.core.internal.Strings;
+import org.assertj.core.internal.StringsBaseTest;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for <code>{@link Strings#assertHasLineCount(AssertionInfo, CharSequence, int)}</code>.
+ */
+class Strings_assertHasLineCount_Test extends StringsBaseTest {
+
+  @Test
+  void should_fail_if_actual_is_null() {
+    // GIVEN
+    String actual = null;
+    // WHEN
+    AssertionError error = expectAssertionError(() -> strings.assertHasLineCount(someInfo(), actual, 1));
+    // THEN
+    then(error).hasMessage(actualIsNull());
+  }
+
+  @Test
+  void should_fail_if_line_count_of_actual_is_not_equal_to_expected_line_count() {
+    // GIVEN
+    String actual = "Bart\r\nLisa\rMaggie\n";
+    // WHEN
+    AssertionError error = expectAssertionError(() -> strings.assertHasLineCount(someInfo(), actual, 2));
+    // THEN
+    then(error).hasMessage(shouldHaveLinesCount(actual, 3, 2).create());
+  }
+
+  @Test
+  void should_pass_if_line_count_of_actual_is_equal_to_expected_line_count() {
+    strings.assertHasLineCount(someInfo(), "Bart\r\nLisa\rMaggie\n\nHomer", 5);
+  }
+}
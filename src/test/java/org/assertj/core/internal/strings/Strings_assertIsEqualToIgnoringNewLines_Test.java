@@ -55,4 +55,15 @@ class Strings_assertIsEqualToIgnoringNewLines_Test extends StringsBaseTest {
     verify(failures).failure(someInfo(), shouldBeEqualIgnoringNewLines(actual, expected), actual, expected);
   }
 
+  @ParameterizedTest
+  @ValueSource(strings = { "Some text\rWith new lines", "Some text\r\r\nWith new lines" })
+  void should_not_ignore_carriage_returns_not_followed_by_new_line(String actual) {
+    // GIVEN
+    String expected = ACTUAL_WITHOUT_NEW_LINES;
+    // WHEN
+    expectAssertionError(() -> strings.assertIsEqualToIgnoringNewLines(someInfo(), actual, expected));
+    // THEN
+    verify(failures).failure(someInfo(), shouldBeEqualIgnoringNewLines(actual, expected), actual, expected);
+  }
+
 }
@@ -45,6 +45,17 @@ class Strings_assertIsEqualToNormalizingNewlines_Test extends StringsBaseTest {
     strings.assertIsEqualToNormalizingNewlines(someInfo(), "\n", "\n");
   }
 
+  @Test
+  void should_only_normalize_carriage_return_followed_by_newline() {
+    String actual = "Lord\rof the Rings";
+    String expected = "Lord\nof the Rings";
+
+    Throwable error = catchThrowable(() -> strings.assertIsEqualToNormalizingNewlines(someInfo(), actual, expected));
+
+    assertThat(error).isInstanceOf(AssertionError.class);
+    verify(failures).failure(someInfo(), shouldBeEqualIgnoringNewLineDifferences(actual, expected), actual, expected);
+  }
+
   @Test
   void should_fail_if_newlines_are_different_in_both_strings() {
     String actual = "Lord of the Rings\r\n\r\nis cool";
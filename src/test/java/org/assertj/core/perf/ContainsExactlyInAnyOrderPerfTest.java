@@ -0,0 +1,76 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2020 the original author or authors.
+ */
+package org.assertj.core.perf;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+/**
+ * This test ensures containsExactlyInAnyOrder and containsExactly are not O(N^2) operations, with 100 thousand
+ * elements, O(N^2) takes dozens of seconds while O(N) or O(N log(N)) takes less than a second.
+ */
+class ContainsExactlyInAnyOrderPerfTest {
+
+  private List<Integer> actual;
+  private Integer[] shuffled;
+
+  @BeforeEach
+  void setUp() {
+    actual = new ArrayList<>();
+    IntStream.range(0, 100_000).forEach(actual::add);
+    List<Integer> shuffledList = new ArrayList<>(actual);
+    Collections.shuffle(shuffledList);
+    shuffled = shuffledList.toArray(new Integer[0]);
+  }
+
+  @Test
+  @Timeout(value = 5)
+  void test_containsExactlyInAnyOrder_100kElements() {
+    assertThat(actual).containsExactlyInAnyOrder(shuffled);
+  }
+
+  @Test
+  @Timeout(value = 5)
+  void test_containsExactlyInAnyOrder_100kElements_usingCustomComparator() {
+    assertThat(actual).usingElementComparator(Integer::compare)
+                      .containsExactlyInAnyOrder(shuffled);
+  }
+
+  @Test
+  @Timeout(value = 5)
+  void test_containsExactly_100kElements() {
+    assertThat(actual).containsExactly(actual.toArray(new Integer[0]));
+  }
+
+  @Test
+  @Timeout(value = 5)
+  void test_array_containsExactlyInAnyOrder_100kElements() {
+    assertThat(actual.toArray(new Integer[0])).containsExactlyInAnyOrder(shuffled);
+  }
+
+  @Test
+  @Timeout(value = 5)
+  void test_int_array_containsExactlyInAnyOrder_100kElements() {
+    int[] actualInts = actual.stream().mapToInt(Integer::intValue).toArray();
+    int[] shuffledInts = java.util.Arrays.stream(shuffled).mapToInt(Integer::intValue).toArray();
+    assertThat(actualInts).containsExactlyInAnyOrder(shuffledInts);
+  }
+}
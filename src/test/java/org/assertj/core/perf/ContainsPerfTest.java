@@ -0,0 +1,77 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2020 the original author or authors.
+ */
+package org.assertj.core.perf;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+/**
+ * This test ensures that looking for 100 thousand values in 1 million elements is not an O(N*M) operation which would
+ * take hours, with elements indexed this takes less than a second.
+ */
+class ContainsPerfTest {
+
+  private List<Integer> actual;
+  private Integer[] values;
+
+  @BeforeEach
+  void setUp() {
+    actual = new ArrayList<>();
+    IntStream.range(0, 1_000_000).forEach(actual::add);
+    values = IntStream.range(0, 100_000).map(i -> i * 10).boxed().toArray(Integer[]::new);
+  }
+
+  @Test
+  @Timeout(value = 5)
+  void test_contains_100kValues_in_1mElements() {
+    assertThat(actual).contains(values);
+  }
+
+  @Test
+  @Timeout(value = 5)
+  void test_contains_100kValues_in_1mElements_usingCustomComparator() {
+    assertThat(actual).usingElementComparator(Integer::compare)
+                      .contains(values);
+  }
+
+  @Test
+  @Timeout(value = 5)
+  void test_containsAll_100kValues_in_1mElements() {
+    assertThat(actual).containsAll(java.util.Arrays.asList(values));
+  }
+
+  @Test
+  @Timeout(value = 5)
+  void test_containsOnlyOnce_100kValues_in_1mElements() {
+    assertThat(actual).containsOnlyOnce(values);
+  }
+
+  @Test
+  @Timeout(value = 5)
+  void test_containsOnly_1mValues_in_1mElements() {
+    assertThat(actual).containsOnly(actual.toArray(new Integer[0]));
+  }
+
+  @Test
+  @Timeout(value = 5)
+  void test_isSubsetOf_1mValues() {
+    assertThat(actual).isSubsetOf(actual);
+  }
+}
@@ -0,0 +1,83 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2020 the original author or authors.
+ */
+package org.assertj.core.perf;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+/**
+ * This test ensures that looking for a sequence of k elements in n elements is not an O(N*K) operation. The sequence
+ * used (many zeros followed by a one) is the worst case of a naive search which matches almost all the sequence at each
+ * index.
+ */
+class ContainsSequencePerfTest {
+
+  private List<Integer> actual;
+  private Integer[] sequence;
+  private int[] primitiveActual;
+  private int[] primitiveSequence;
+
+  @BeforeEach
+  void setUp() {
+    actual = new ArrayList<>();
+    for (int i = 0; i < 1_000_000; i++) {
+      actual.add(0);
+    }
+    actual.add(1);
+    sequence = new Integer[500];
+    for (int i = 0; i < sequence.length; i++) {
+      sequence[i] = 0;
+    }
+    sequence[sequence.length - 1] = 1;
+    primitiveActual = actual.stream().mapToInt(Integer::intValue).toArray();
+    primitiveSequence = java.util.Arrays.stream(sequence).mapToInt(Integer::intValue).toArray();
+  }
+
+  @Test
+  @Timeout(value = 5)
+  void test_containsSequence_in_1mElements() {
+    assertThat(actual).containsSequence(sequence);
+  }
+
+  @Test
+  @Timeout(value = 5)
+  void test_containsSequence_in_1mElements_usingCustomComparator() {
+    assertThat(actual).usingElementComparator(Integer::compare)
+                      .containsSequence(sequence);
+  }
+
+  @Test
+  @Timeout(value = 5)
+  void test_doesNotContainSequence_in_1mElements() {
+    sequence[0] = 1;
+    assertThat(actual).doesNotContainSequence(sequence);
+  }
+
+  @Test
+  @Timeout(value = 5)
+  void test_array_containsSequence_in_1mElements() {
+    assertThat(actual.toArray(new Integer[0])).containsSequence(sequence);
+  }
+
+  @Test
+  @Timeout(value = 5)
+  void test_int_array_containsSequence_in_1mElements() {
+    assertThat(primitiveActual).containsSequence(primitiveSequence);
+  }
+}
@@ -0,0 +1,104 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2020 the original author or authors.
+ */
+package org.assertj.core.perf;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Test;
+
+class ExtractingPerfTest {
+
+  // compares the execution time of extracting 5 fields/properties of 1_000_000 beans by name and with handwritten
+  // getters, extracting by name resolves how to read each name once per bean class and should stay within a small
+  // factor of the handwritten getters (measures are noisy, only significant differences matter)
+
+  private static final int TOTAL = 1_000_000;
+  private static final List<Bean> BEANS = IntStream.range(0, TOTAL).mapToObj(Bean::new).collect(Collectors.toList());
+
+  // comment @Disabled to run the test
+  @Disabled
+  @Test
+  void extract_5_values_by_name_from_1_000_000_beans() {
+    long start = System.currentTimeMillis();
+    assertThat(BEANS).extracting("id", "name", "field", "nested.value", "nested.id").hasSize(TOTAL);
+    print("extracting by name", start);
+  }
+
+  // comment @Disabled to run the test
+  @Disabled
+  @Test
+  void extract_5_values_with_getters_from_1_000_000_beans() {
+    long start = System.currentTimeMillis();
+    assertThat(BEANS).extracting(Bean::getId, Bean::getName, bean -> bean.field, bean -> bean.getNested().getValue(),
+                                 bean -> bean.getNested().getId())
+                     .hasSize(TOTAL);
+    print("handwritten getters", start);
+  }
+
+  private static void print(String description, long start) {
+    long end = System.currentTimeMillis();
+    long duration = ChronoUnit.MILLIS.between(Instant.ofEpochMilli(start), Instant.ofEpochMilli(end));
+    System.out.println(description + " execution time for " + TOTAL + " -> " + duration + "ms");
+  }
+
+  static class Bean {
+    private final int id;
+    private final String name;
+    public final String field;
+    private final Nested nested;
+
+    Bean(int id) {
+      this.id = id;
+      this.name = "name" + id;
+      this.field = "field" + id;
+      this.nested = new Nested(id);
+    }
+
+    public int getId() {
+      return id;
+    }
+
+    public String getName() {
+      return name;
+    }
+
+    public Nested getNested() {
+      return nested;
+    }
+  }
+
+  static class Nested {
+    private final int id;
+    private final String value;
+
+    Nested(int id) {
+      this.id = id;
+      this.value = "value" + id;
+    }
+
+    public int getId() {
+      return id;
+    }
+
+    public String getValue() {
+      return value;
+    }
+  }
+}
@@ -0,0 +1,101 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2020 the original author or authors.
+ */
+package org.assertj.core.perf;
+
+import static java.lang.String.format;
+import static org.assertj.core.error.ShouldBeEqual.shouldBeEqual;
+import static org.assertj.core.error.ShouldContain.shouldContain;
+import static org.assertj.core.presentation.StandardRepresentation.STANDARD_REPRESENTATION;
+import static org.assertj.core.test.TestData.someInfo;
+
+import java.util.function.Supplier;
+
+import org.assertj.core.api.AssertionInfo;
+import org.assertj.core.error.ConstructorInvoker;
+import org.assertj.core.internal.Failures;
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Measures how many failures per second the {@link Failures} variants create, the creation of the error is what is
+ * measured, the error messages are small.
+ * <p>
+ * results for 100_000 failures each (measures are noisy, only significant differences matter):
+ * <ul>
+ * <li>failure(String) : ~600-900ms</li>
+ * <li>failure(AssertionInfo, ErrorMessageFactory) : ~3200-3900ms</li>
+ * <li>failure(AssertionInfo, ErrorMessageFactory, Object, Object) : ~3500-4200ms</li>
+ * <li>failure(AssertionInfo, AssertionErrorFactory) : ~1300-1700ms</li>
+ * <li>AssertionError creation without opentest4j : ~3800ms in 3.17.2, ~700ms once the constructor resolution failure is
+ * remembered</li>
+ * </ul>
+ */
+@Disabled
+class FailuresPerfTest {
+
+  private static final int FAILURES_COUNT = 100_000;
+
+  private final Failures failures = Failures.instance();
+  private final AssertionInfo info = someInfo();
+
+  @Test
+  void failure_with_message() {
+    measure("failure(String)", () -> failures.failure("expected failure"));
+  }
+
+  @Test
+  void failure_with_error_message_factory() {
+    measure("failure(AssertionInfo, ErrorMessageFactory)", () -> failures.failure(info, shouldContain("Yoda", "Luke", "Luke")));
+  }
+
+  @Test
+  void failure_with_error_message_factory_actual_and_expected() {
+    measure("failure(AssertionInfo, ErrorMessageFactory, Object, Object)",
+            () -> failures.failure(info, shouldContain("Yoda", "Luke", "Luke"), "Yoda", "Luke"));
+  }
+
+  @Test
+  void failure_with_assertion_error_factory() {
+    measure("failure(AssertionInfo, AssertionErrorFactory)",
+            () -> failures.failure(info, shouldBeEqual("Yoda", "Luke", STANDARD_REPRESENTATION)));
+  }
+
+  @Test
+  void assertion_error_creation_when_opentest4j_is_not_available() {
+    // same path as AssertionErrorCreator falling back to AssertionError when opentest4j is absent
+    ConstructorInvoker constructorInvoker = new ConstructorInvoker();
+    Class<?>[] parameterTypes = { String.class, Object.class, Object.class };
+    measure("AssertionError creation without opentest4j", () -> {
+      try {
+        return (AssertionError) constructorInvoker.newInstance("org.opentest4j.absent.AssertionFailedError", parameterTypes,
+                                                               "expected failure", "Luke", "Yoda");
+      } catch (@SuppressWarnings("unused") Exception e) {
+        return new AssertionError("expected failure");
+      }
+    });
+  }
+
+  private static void measure(String variant, Supplier<AssertionError> failureCreation) {
+    // warm up
+    for (int i = 0; i < FAILURES_COUNT / 10; i++) {
+      failureCreation.get();
+    }
+    long start = System.currentTimeMillis();
+    for (int i = 0; i < FAILURES_COUNT; i++) {
+      failureCreation.get();
+    }
+    long duration = System.currentTimeMillis() - start;
+    System.out.println(format("%s: %d failures in %dms", variant, FAILURES_COUNT, duration));
+  }
+
+}
@@ -0,0 +1,76 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2020 the original author or authors.
+ */
+package org.assertj.core.perf;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+/**
+ * This test ensures that sorted checks read elements in place without copying or boxing them.
+ * <p>
+ * results (measures are noisy, only significant differences matter):
+ * <ul>
+ * <li>isSorted on 20_000_000 ints : ~2000ms in 3.17.2, ~20ms now</li>
+ * <li>isSortedAccordingTo on 20_000_000 Integers : ~850ms in 3.17.2, ~160ms now</li>
+ * <li>isSortedAccordingTo on a LinkedList of 100_000 Integers : ~8600ms in 3.17.2, ~15ms now</li>
+ * </ul>
+ */
+class IsSortedPerfTest {
+
+  private static final int ARRAY_SIZE = 20_000_000;
+
+  private int[] ints;
+  private Integer[] integers;
+  private List<Integer> linkedList;
+
+  @BeforeEach
+  void setUp() {
+    ints = new int[ARRAY_SIZE];
+    integers = new Integer[ARRAY_SIZE];
+    for (int i = 0; i < ARRAY_SIZE; i++) {
+      ints[i] = i;
+      integers[i] = i;
+    }
+    List<Integer> elements = new ArrayList<>();
+    for (int i = 0; i < 100_000; i++) {
+      elements.add(i);
+    }
+    linkedList = new LinkedList<>(elements);
+  }
+
+  @Test
+  @Timeout(value = 5)
+  void test_isSorted_on_int_array() {
+    assertThat(ints).isSorted();
+  }
+
+  @Test
+  @Timeout(value = 5)
+  void test_isSortedAccordingTo_on_object_array() {
+    assertThat(integers).isSortedAccordingTo(Integer::compare);
+  }
+
+  @Test
+  @Timeout(value = 5)
+  void test_isSortedAccordingTo_on_linked_list() {
+    assertThat(linkedList).isSortedAccordingTo(Integer::compare);
+  }
+
+}
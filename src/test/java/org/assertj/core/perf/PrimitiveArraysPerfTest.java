@@ -0,0 +1,77 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2020 the original author or authors.
+ */
+package org.assertj.core.perf;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+/**
+ * This test ensures that primitive arrays are checked without boxing their elements.
+ * <p>
+ * With 2_000_000 elements, doesNotHaveDuplicates took ~4 seconds and containsExactlyInAnyOrder ~5 seconds in 3.17.2
+ * while contains and containsOnly were quadratic and did not complete in minutes, each assertion now takes 0.3 to 1.2
+ * seconds.
+ */
+class PrimitiveArraysPerfTest {
+
+  private static final int SIZE = 2_000_000;
+
+  private int[] actual;
+  private int[] shuffled;
+
+  @BeforeEach
+  void setUp() {
+    actual = new int[SIZE];
+    for (int i = 0; i < SIZE; i++) {
+      actual[i] = i * 3;
+    }
+    shuffled = actual.clone();
+    Random random = new Random(42);
+    for (int i = SIZE - 1; i > 0; i--) {
+      int j = random.nextInt(i + 1);
+      int swapped = shuffled[i];
+      shuffled[i] = shuffled[j];
+      shuffled[j] = swapped;
+    }
+  }
+
+  @Test
+  @Timeout(value = 5)
+  void test_contains() {
+    assertThat(actual).contains(shuffled);
+  }
+
+  @Test
+  @Timeout(value = 5)
+  void test_containsOnly() {
+    assertThat(actual).containsOnly(shuffled);
+  }
+
+  @Test
+  @Timeout(value = 5)
+  void test_containsExactlyInAnyOrder() {
+    assertThat(actual).containsExactlyInAnyOrder(shuffled);
+  }
+
+  @Test
+  @Timeout(value = 5)
+  void test_doesNotHaveDuplicates() {
+    assertThat(shuffled).doesNotHaveDuplicates();
+  }
+
+}
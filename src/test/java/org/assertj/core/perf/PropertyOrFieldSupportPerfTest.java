@@ -0,0 +1,71 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2020 the original author or authors.
+ */
+package org.assertj.core.perf;
+
+import static org.assertj.core.util.introspection.PropertyOrFieldSupport.COMPARISON;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Test;
+
+class PropertyOrFieldSupportPerfTest {
+
+  // execution time for 1_000_000 reads of each field:
+  // before per class access plans:
+  // - field read: ~9800ms
+  // - property read: ~720ms
+  // with per class access plans:
+  // - field read: ~190ms
+  // - property read: ~75ms
+
+  private static final int TOTAL = 1_000_000;
+
+  // comment @Disabled to run the test
+  @Disabled
+  @Test
+  void read_1_000_000_fields() {
+    run("field read", "field");
+  }
+
+  // comment @Disabled to run the test
+  @Disabled
+  @Test
+  void read_1_000_000_properties() {
+    run("property read", "property");
+  }
+
+  private static void run(String description, String name) {
+    // GIVEN
+    Bean bean = new Bean();
+    long start = System.currentTimeMillis();
+    // WHEN
+    for (int i = 0; i < TOTAL; i++) {
+      COMPARISON.getSimpleValue(name, bean);
+    }
+    // THEN
+    long end = System.currentTimeMillis();
+    long duration = ChronoUnit.MILLIS.between(Instant.ofEpochMilli(start), Instant.ofEpochMilli(end));
+    System.out.println(description + " execution time for " + TOTAL + " -> " + duration + "ms");
+  }
+
+  static class Bean {
+    private final String field = "field";
+    private final String property = "property";
+
+    public String getProperty() {
+      return property;
+    }
+  }
+}
@@ -0,0 +1,112 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2020 the original author or authors.
+ */
+package org.assertj.core.perf;
+
+import static java.util.Collections.shuffle;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+/**
+ * This test ensures the recursive comparison cycle detection does not make comparing large graphs a O(N^2) operation.
+ * <p>
+ * Visited values used to be tracked in a list, each node registration was a linear lookup in it which made comparing a
+ * 100k nodes graph take several minutes. Tracking visited values by reference in a hash structure makes it a O(N)
+ * operation, 30 seconds is a safe threshold to detect a regression.
+ * <p>
+ * The same goes for comparing collections ignoring their order, actual elements used to be compared to all the remaining
+ * expected elements, they are now first compared to the expected elements having the same structural fingerprint.
+ * <p>
+ * Fields matching the ignored fields regexes are evaluated once per field path instead of once per compared value.
+ */
+class RecursiveComparisonPerfTest {
+
+  private static final int NODES_COUNT = 100_000;
+
+  @Test
+  @Timeout(value = 30)
+  void test_recursive_comparison_of_100k_nodes_graph() {
+    // GIVEN
+    Node actual = graphOf(NODES_COUNT);
+    Node expected = graphOf(NODES_COUNT);
+    // WHEN/THEN
+    assertThat(actual).usingRecursiveComparison()
+                      .isEqualTo(expected);
+  }
+
+  @Test
+  @Timeout(value = 30)
+  void test_recursive_comparison_of_100k_nodes_graph_ignoring_fields_matching_50_regexes() {
+    // GIVEN
+    Node actual = graphOf(NODES_COUNT);
+    Node expected = graphOf(NODES_COUNT);
+    String[] regexes = new String[50];
+    for (int i = 0; i < regexes.length; i++) {
+      regexes[i] = ".*unknown" + i + "\\..*";
+    }
+    // WHEN/THEN
+    assertThat(actual).usingRecursiveComparison()
+                      .ignoringFieldsMatchingRegexes(regexes)
+                      .ignoringCollectionOrderInFieldsMatchingRegexes(regexes)
+                      .isEqualTo(expected);
+  }
+
+  @Test
+  @Timeout(value = 30)
+  void test_recursive_comparison_ignoring_collection_order_of_20k_elements() {
+    // GIVEN
+    List<Node> actual = new ArrayList<>();
+    List<Node> expected = new ArrayList<>();
+    for (int i = 0; i < 20_000; i++) {
+      actual.add(new Node(i, null));
+      expected.add(new Node(i, null));
+    }
+    shuffle(expected, new Random(0));
+    // WHEN/THEN
+    assertThat(actual).usingRecursiveComparison()
+                      .ignoringCollectionOrder()
+                      .isEqualTo(expected);
+  }
+
+  // build a tree where each node has 3 children and a reference back to its parent to introduce cycles
+  private static Node graphOf(int nodesCount) {
+    List<Node> nodes = new ArrayList<>(nodesCount);
+    Node root = new Node(0, null);
+    nodes.add(root);
+    for (int i = 1; i < nodesCount; i++) {
+      Node parent = nodes.get((i - 1) / 3);
+      Node node = new Node(i, parent);
+      parent.children.add(node);
+      nodes.add(node);
+    }
+    return root;
+  }
+
+  static class Node {
+    final int id;
+    final String name;
+    final Node parent;
+    final List<Node> children = new ArrayList<>();
+
+    Node(int id, Node parent) {
+      this.id = id;
+      this.name = "node-" + id;
+      this.parent = parent;
+    }
+  }
+}
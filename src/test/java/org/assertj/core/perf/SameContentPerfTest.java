@@ -0,0 +1,73 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2020 the original author or authors.
+ */
+package org.assertj.core.perf;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Measures the comparison of identical contents of 2_000_000 lines (~40MB), they are compared byte by byte and no longer
+ * read line by line before being diffed.
+ * <p>
+ * results (measures are noisy, only significant differences matter):
+ * <ul>
+ * <li>InputStream hasSameContentAs : ~1100ms in 3.17.2, ~200-350ms now</li>
+ * <li>Path hasSameTextualContentAs : ~750-950ms in 3.17.2, ~250-400ms now (the content is still decoded once to report
+ * malformed input)</li>
+ * </ul>
+ */
+@Disabled
+class SameContentPerfTest {
+
+  private static final int LINE_COUNT = 2_000_000;
+
+  @TempDir
+  Path tempDir;
+
+  private byte[] content;
+
+  @BeforeEach
+  void setUp() {
+    StringBuilder builder = new StringBuilder();
+    for (int i = 0; i < LINE_COUNT; i++) {
+      builder.append("golden line ").append(i).append('\n');
+    }
+    content = builder.toString().getBytes(UTF_8);
+  }
+
+  @Test
+  void inputStream_hasSameContentAs() {
+    long start = System.currentTimeMillis();
+    assertThat(new ByteArrayInputStream(content)).hasSameContentAs(new ByteArrayInputStream(content));
+    System.out.println("InputStream hasSameContentAs : " + (System.currentTimeMillis() - start) + "ms");
+  }
+
+  @Test
+  void path_hasSameTextualContentAs() throws IOException {
+    Path actual = Files.write(tempDir.resolve("actual"), content);
+    Path expected = Files.write(tempDir.resolve("expected"), content);
+    long start = System.currentTimeMillis();
+    assertThat(actual).hasSameTextualContentAs(expected);
+    System.out.println("Path hasSameTextualContentAs : " + (System.currentTimeMillis() - start) + "ms");
+  }
+}
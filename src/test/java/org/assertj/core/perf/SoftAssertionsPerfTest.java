@@ -59,6 +59,10 @@ import org.junit.jupiter.api.Test;
  * results in 3.10.0 with Raphael changes < 1.8.10: ~5500ms
  * results in 3.10.0 with 1.8.10: ~5100ms
  * results in 3.10.0 with 1.8.11: ~5000ms
+ * <p>
+ * mostly_failing_assertions alone:
+ * results in 3.17.2 : ~16300ms
+ * results in 3.17.3 without stack walk to detect nested assertion calls: ~12600ms
  */
 @Disabled
 class SoftAssertionsPerfTest extends BaseAssertionsTest {
@@ -143,6 +147,25 @@ class SoftAssertionsPerfTest extends BaseAssertionsTest {
     softly.assertAll();
   }
 
+  @Test
+  void mostly_failing_assertions() {
+    // soft assertions usually run below many test framework frames
+    runWithStackDepth(200, () -> {
+      for (int i = 0; i < 10_000; i++) {
+        softly.assertThat(i).isEqualTo(i);
+        softly.assertThat(true).isFalse(); // isFalse() calls isEqualTo(false)
+        softly.assertThat("" + i).startsWith("a");
+        softly.assertThat(Lists.newArrayList(i, i + 1)).containsExactly(i + 1, i);
+      }
+    });
+    assertThat(softly.errorsCollected()).hasSize(30_000);
+  }
+
+  private static void runWithStackDepth(int depth, Runnable runnable) {
+    if (depth == 0) runnable.run();
+    else runWithStackDepth(depth - 1, runnable);
+  }
+
   @Test
   void should_return_success_of_last_assertion() {
     softly.assertThat(true).isFalse();
@@ -0,0 +1,66 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2020 the original author or authors.
+ */
+package org.assertj.core.perf;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.assertj.core.util.CaseInsensitiveStringComparator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+/**
+ * This test ensures that searching a String multi megabytes long does not copy the remaining part of it at each index.
+ * <p>
+ * These tests took more than 15 minutes in 3.17.2 and take less than a second now.
+ */
+class StringContainsPerfTest {
+
+  private String actual;
+
+  @BeforeEach
+  void setUp() {
+    StringBuilder builder = new StringBuilder();
+    for (int i = 0; i < 200_000; i++) {
+      builder.append("line ").append(i).append(System.lineSeparator());
+    }
+    actual = builder.toString();
+  }
+
+  @Test
+  @Timeout(value = 5)
+  void test_containsSubsequence_in_multi_megabytes_string() {
+    assertThat(actual).containsSubsequence("line 0", "line 100000", "line 199999");
+  }
+
+  @Test
+  @Timeout(value = 5)
+  void test_containsSubsequence_in_multi_megabytes_string_usingCustomComparator() {
+    assertThat(actual).usingComparator(CaseInsensitiveStringComparator.instance)
+                      .containsSubsequence("LINE 0", "LINE 100000", "LINE 199999");
+  }
+
+  @Test
+  @Timeout(value = 5)
+  void test_containsOnlyOnce_in_multi_megabytes_string() {
+    assertThat(actual).containsOnlyOnce("line 123456" + System.lineSeparator());
+  }
+
+  @Test
+  @Timeout(value = 5)
+  void test_containsOnlyOnce_in_multi_megabytes_string_usingCustomComparator() {
+    assertThat(actual).usingComparator(CaseInsensitiveStringComparator.instance)
+                      .containsOnlyOnce("LINE 123456" + System.lineSeparator());
+  }
+
+}
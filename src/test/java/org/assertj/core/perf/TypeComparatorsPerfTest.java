@@ -16,7 +16,9 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
+import java.util.Comparator;
 
+import org.assertj.core.internal.TypeComparators;
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
 
@@ -45,4 +47,70 @@ class TypeComparatorsPerfTest {
     System.out.println("execution time for " + total + " -> " + duration + "ms");
   }
 
+  // execution time for 1000000 lookups of each deep hierarchy class:
+  // before caching resolved comparators : ~2100ms
+  // with resolved comparators cache : ~230ms
+
+  // comment @Disabled to run the test
+  @Disabled
+  @Test
+  void run_1_000_000_deep_hierarchy_comparator_lookups() {
+    // GIVEN
+    TypeComparators typeComparators = TypeComparators.defaultTypeComparators();
+    Comparator<Root> rootComparator = (root1, root2) -> 0;
+    typeComparators.put(Root.class, rootComparator);
+    Class<?>[] lookedUpClasses = { Level5.class, Level5Sibling.class };
+    int total = 1_000_000;
+    long start = System.currentTimeMillis();
+    // WHEN
+    for (int i = 0; i < total; i++) {
+      for (Class<?> lookedUpClass : lookedUpClasses) {
+        typeComparators.get(lookedUpClass);
+      }
+    }
+    // THEN
+    long end = System.currentTimeMillis();
+    long duration = ChronoUnit.MILLIS.between(Instant.ofEpochMilli(start), Instant.ofEpochMilli(end));
+    System.out.println("execution time for " + total + " deep hierarchy lookups -> " + duration + "ms");
+    assertThat(typeComparators.get(Level5.class)).isSameAs(rootComparator);
+    assertThat(typeComparators.get(Level5Sibling.class)).isNull();
+  }
+
+  private interface Root {
+  }
+
+  private interface Level1Interface extends Root {
+  }
+
+  private interface Level2Interface extends Level1Interface {
+  }
+
+  private interface Unrelated {
+  }
+
+  private static class Level1 implements Unrelated {
+  }
+
+  private static class Level2 extends Level1 implements Comparable<Level2> {
+    @Override
+    public int compareTo(Level2 other) {
+      return 0;
+    }
+  }
+
+  private static class Level3 extends Level2 implements Runnable {
+    @Override
+    public void run() {}
+  }
+
+  private static class Level4 extends Level3 implements Cloneable {
+  }
+
+  private static class Level5 extends Level4 implements Level2Interface {
+  }
+
+  private static class Level5Sibling extends Level4 implements java.io.Serializable {
+    private static final long serialVersionUID = 1L;
+  }
+
 }
@@ -19,7 +19,13 @@ import static org.assertj.core.api.BDDAssertions.then;
 import static org.assertj.core.presentation.StandardRepresentation.STANDARD_REPRESENTATION;
 import static org.assertj.core.util.Lists.list;
 
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Stream;
 
 import org.junit.jupiter.api.Test;
@@ -171,6 +177,50 @@ class StandardRepresentation_iterable_format_Test extends AbstractBaseRepresenta
     then(formatted).isEqualTo(format("[\"First\", 3, 4, ... 5, \"another\", 6]"));
   }
 
+  @ParameterizedTest(name = "with printing {0} max, {1} should be formatted as {2}")
+  @MethodSource("should_format_non_random_access_iterable_source")
+  void should_format_non_random_access_iterable(int maxElementsForPrinting, Iterable<?> iterable, String expectedDescription) {
+    // GIVEN
+    StandardRepresentation.setMaxElementsForPrinting(maxElementsForPrinting);
+    // WHEN
+    String formatted = STANDARD_REPRESENTATION.toStringOf(iterable);
+    // THEN
+    then(formatted).isEqualTo(expectedDescription);
+  }
+
+  private static Stream<Arguments> should_format_non_random_access_iterable_source() {
+    return Stream.of(Arguments.of(1, new LinkedList<>(list(1, 2, 3)), "[1, ...]"),
+                     Arguments.of(2, new LinkedList<>(list(1, 2, 3)), "[1, ... 3]"),
+                     Arguments.of(3, new LinkedList<>(list(1, 2, 3)), "[1, 2, 3]"),
+                     Arguments.of(4, new LinkedList<>(list(1, 2, 3)), "[1, 2, 3]"),
+                     Arguments.of(4, new ArrayDeque<>(list(1, 2, 3, 4, 5)), "[1, 2, ... 4, 5]"),
+                     Arguments.of(5, new ArrayDeque<>(list(1, 2, 3, 4, 5, 6, 7, 8)), "[1, 2, 3, ... 7, 8]"),
+                     Arguments.of(5, new LinkedList<>(list(1, null, 3, null, 5, 6, null)), "[1, null, 3, ... 6, null]"));
+  }
+
+  @Test
+  void should_only_represent_the_printed_elements() {
+    // GIVEN
+    StandardRepresentation.setMaxElementsForPrinting(4);
+    StandardRepresentation.setMaxLengthForSingleLineDescription(10);
+    AtomicInteger toStringCalls = new AtomicInteger();
+    List<Object> list = new ArrayList<>();
+    Set<Object> set = new LinkedHashSet<>();
+    for (int i = 0; i < 1000; i++) {
+      Object element = new CountingToString(i, toStringCalls);
+      list.add(element);
+      set.add(element);
+    }
+    // WHEN
+    String formattedList = STANDARD_REPRESENTATION.toStringOf(list);
+    String formattedSet = STANDARD_REPRESENTATION.toStringOf(set);
+    // THEN
+    then(formattedList).isEqualTo(format("[0,%n    1,%n    ...%n    998,%n    999]"));
+    then(formattedSet).isEqualTo(formattedList);
+    // the 4 printed elements of each group are represented for the single line layout, then for the multi line one
+    then(toStringCalls).hasValue(16);
+  }
+
   @Test
   void should_format_iterable_with_an_element_per_line_according_the_given_representation() {
     // GIVEN
@@ -235,8 +285,57 @@ class StandardRepresentation_iterable_format_Test extends AbstractBaseRepresenta
     then(formatted).isEqualTo("[{\"a\":1}]");
   }
 
+  @Test
+  void should_format_iterable_and_array_with_overridden_single_and_multi_line_formats() {
+    // GIVEN
+    // "single line" fits on a single line, "array single line" does not
+    StandardRepresentation.setMaxLengthForSingleLineDescription(15);
+    StandardRepresentation representation = new StandardRepresentation() {
+      @Override
+      protected String singleLineFormat(Iterable<?> iterable, String start, String end) {
+        return "single line";
+      }
+
+      @Override
+      protected String multiLineFormat(Iterable<?> iterable) {
+        return "multi line";
+      }
+
+      @Override
+      protected String singleLineFormat(Object[] array, Object root) {
+        return "array single line";
+      }
+
+      @Override
+      protected String multiLineFormat(Object[] array, Object root) {
+        return "array multi line";
+      }
+    };
+    // WHEN
+    String formattedIterable = representation.smartFormat(list(1, 2));
+    String formattedArray = representation.smartFormat(new Object[] { 1, 2 });
+    // THEN
+    then(formattedIterable).isEqualTo("single line");
+    then(formattedArray).isEqualTo("array multi line");
+  }
+
   private static String stringOfLength(int length) {
     return Stream.generate(() -> "a").limit(length).collect(joining());
   }
 
+  private static class CountingToString {
+    private final int value;
+    private final AtomicInteger toStringCalls;
+
+    private CountingToString(int value, AtomicInteger toStringCalls) {
+      this.value = value;
+      this.toStringCalls = toStringCalls;
+    }
+
+    @Override
+    public String toString() {
+      toStringCalls.incrementAndGet();
+      return String.valueOf(value);
+    }
+  }
 }
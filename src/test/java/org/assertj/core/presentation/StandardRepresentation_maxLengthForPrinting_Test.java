@@ -0,0 +1,175 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2020 the original author or authors.
+ */
+package org.assertj.core.presentation;
+
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.presentation.StandardRepresentation.STANDARD_REPRESENTATION;
+import static org.assertj.core.util.Lists.list;
+
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class StandardRepresentation_maxLengthForPrinting_Test extends AbstractBaseRepresentationTest {
+
+  @BeforeEach
+  void setMaxLengthForPrinting() {
+    StandardRepresentation.setMaxLengthForPrinting(10);
+  }
+
+  @Test
+  void should_not_truncate_string_not_longer_than_maxLengthForPrinting() {
+    // WHEN
+    String formatted = STANDARD_REPRESENTATION.toStringOf("0123456789");
+    // THEN
+    then(formatted).isEqualTo("\"0123456789\"");
+  }
+
+  @Test
+  void should_truncate_string_longer_than_maxLengthForPrinting() {
+    // WHEN
+    String formatted = STANDARD_REPRESENTATION.toStringOf("The Lord of the Rings");
+    // THEN
+    then(formatted).isEqualTo("\"The Lord o...\"");
+  }
+
+  @Test
+  void should_not_split_surrogate_pairs_when_truncating() {
+    // GIVEN
+    String text = "012345678😀";
+    // WHEN
+    String formatted = STANDARD_REPRESENTATION.toStringOf(text);
+    // THEN
+    then(formatted).isEqualTo("\"012345678...\"");
+  }
+
+  @Test
+  void should_truncate_toString_longer_than_maxLengthForPrinting() {
+    // GIVEN
+    Object value = new Object() {
+      @Override
+      public String toString() {
+        return "a long toString representation";
+      }
+    };
+    // WHEN
+    String formatted = STANDARD_REPRESENTATION.toStringOf(value);
+    // THEN
+    then(formatted).isEqualTo("a long toS...");
+  }
+
+  @Test
+  void should_stop_representing_list_elements_once_maxLengthForPrinting_is_exceeded() {
+    // GIVEN
+    List<String> list = list("abcd", "efgh", "ijkl", "mnop", "qrst");
+    // WHEN
+    String formatted = STANDARD_REPRESENTATION.toStringOf(list);
+    // THEN
+    then(formatted).isEqualTo("[\"abcd\", \"efgh\", ...]");
+  }
+
+  @Test
+  void should_stop_representing_non_random_access_iterable_elements_once_maxLengthForPrinting_is_exceeded() {
+    // GIVEN
+    List<String> list = new LinkedList<>(list("abcd", "efgh", "ijkl", "mnop", "qrst"));
+    // WHEN
+    String formatted = STANDARD_REPRESENTATION.toStringOf(list);
+    // THEN
+    then(formatted).isEqualTo("[\"abcd\", \"efgh\", ...]");
+  }
+
+  @Test
+  void should_stop_representing_array_elements_once_maxLengthForPrinting_is_exceeded() {
+    // GIVEN
+    int[] array = { 1234, 5678, 9012, 3456 };
+    // WHEN
+    String formatted = STANDARD_REPRESENTATION.toStringOf(array);
+    // THEN
+    then(formatted).isEqualTo("[1234, 5678, 9012, ...]");
+  }
+
+  @Test
+  void should_keep_the_last_elements_when_maxLengthForPrinting_is_exceeded_after_the_first_elements() {
+    // GIVEN
+    StandardRepresentation.setMaxElementsForPrinting(4);
+    StandardRepresentation.setMaxLengthForPrinting(12);
+    List<Integer> list = list(1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 111111, 222222, 333333);
+    // WHEN
+    String formatted = STANDARD_REPRESENTATION.toStringOf(list);
+    // THEN
+    then(formatted).isEqualTo("[1, 2, ... 222222, 333333]");
+  }
+
+  @Test
+  void should_stop_representing_map_entries_once_maxLengthForPrinting_is_exceeded() {
+    // GIVEN
+    Map<String, Integer> map = new LinkedHashMap<>();
+    map.put("abcd", 1);
+    map.put("efgh", 2);
+    map.put("ijkl", 3);
+    // WHEN
+    String formatted = STANDARD_REPRESENTATION.toStringOf(map);
+    // THEN
+    then(formatted).isEqualTo("{\"abcd\"=1, ...}");
+  }
+
+  @Test
+  void should_share_maxLengthForPrinting_with_nested_iterables() {
+    // GIVEN
+    List<List<String>> lists = list(list("abcd", "efgh", "ijkl"), list("mnop", "qrst"));
+    // WHEN
+    String formatted = STANDARD_REPRESENTATION.toStringOf(lists);
+    // THEN
+    then(formatted).isEqualTo("[[\"abcd\", \"efgh\", ...], ...]");
+  }
+
+  @Test
+  void should_share_maxLengthForPrinting_with_nested_maps() {
+    // GIVEN
+    Map<String, Integer> map = new LinkedHashMap<>();
+    map.put("abcd", 1);
+    map.put("efgh", 2);
+    List<Object> list = list("ab", map, "cd");
+    // WHEN
+    String formatted = STANDARD_REPRESENTATION.toStringOf(list);
+    // THEN
+    then(formatted).isEqualTo("[\"ab\", {\"abcd\"=1, ...}, ...]");
+  }
+
+  @Test
+  void should_only_represent_elements_up_to_maxLengthForPrinting() {
+    // GIVEN
+    AtomicInteger toStringCalls = new AtomicInteger();
+    List<Object> list = new LinkedList<>();
+    for (int i = 0; i < 1000; i++) {
+      list.add(new Object() {
+        @Override
+        public String toString() {
+          toStringCalls.incrementAndGet();
+          return "element";
+        }
+      });
+    }
+    // WHEN
+    String formatted = STANDARD_REPRESENTATION.toStringOf(list);
+    // THEN
+    then(formatted).isEqualTo("[element, element, ...]");
+    then(toStringCalls).hasValue(2);
+  }
+
+}
@@ -13,6 +13,8 @@
 package org.assertj.core.util;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.BDDAssertions.then;
 import static org.assertj.core.util.StackTraceUtils.hasStackTraceElementRelatedToAssertJ;
 
 import org.junit.jupiter.api.Test;
@@ -34,6 +36,84 @@ class Throwables_removeAssertJElementFromStackTrace_Test {
     }
   }
 
+  @Test
+  void should_keep_non_assertj_elements_in_order() {
+    // GIVEN
+    Throwable throwable = throwableWithStackTrace(element("com.acme.Foo", "a"),
+                                                  element("org.assertj.core.internal.Failures", "failure"),
+                                                  element("com.acme.Bar", "b"),
+                                                  element("org.assertj.core.api.AbstractAssert", "isEqualTo"),
+                                                  element("com.acme.Baz", "c"));
+    // WHEN
+    Throwables.removeAssertJRelatedElementsFromStackTrace(throwable);
+    // THEN
+    then(throwable.getStackTrace()).containsExactly(element("com.acme.Foo", "a"),
+                                                    element("com.acme.Bar", "b"),
+                                                    element("com.acme.Baz", "c"));
+  }
+
+  @Test
+  void should_remove_reflective_constructor_element_preceding_constructor_invoker_element() {
+    // GIVEN
+    Throwable throwable = throwableWithStackTrace(element("sun.reflect.NativeConstructorAccessorImpl", "newInstance"),
+                                                  element("java.lang.reflect.Constructor", "newInstance"),
+                                                  element("org.assertj.core.error.ConstructorInvoker", "newInstance"),
+                                                  element("java.lang.reflect.Constructor", "newInstance"),
+                                                  element("com.acme.Test", "test"));
+    // WHEN
+    Throwables.removeAssertJRelatedElementsFromStackTrace(throwable);
+    // THEN
+    then(throwable.getStackTrace()).containsExactly(element("sun.reflect.NativeConstructorAccessorImpl", "newInstance"),
+                                                    element("java.lang.reflect.Constructor", "newInstance"),
+                                                    element("com.acme.Test", "test"));
+  }
+
+  @Test
+  void should_keep_at_most_the_given_number_of_elements() {
+    // GIVEN
+    Throwable throwable = throwableWithStackTrace(element("org.assertj.core.internal.Failures", "failure"),
+                                                  element("com.acme.Foo", "a"),
+                                                  element("com.acme.Bar", "b"),
+                                                  element("com.acme.Baz", "c"));
+    // WHEN
+    Throwables.removeAssertJRelatedElementsFromStackTrace(throwable, 2);
+    // THEN
+    then(throwable.getStackTrace()).containsExactly(element("com.acme.Foo", "a"),
+                                                    element("com.acme.Bar", "b"));
+  }
+
+  @Test
+  void should_remove_reflective_constructor_element_when_it_was_the_last_element_to_keep() {
+    // GIVEN
+    Throwable throwable = throwableWithStackTrace(element("com.acme.Foo", "a"),
+                                                  element("java.lang.reflect.Constructor", "newInstance"),
+                                                  element("org.assertj.core.error.ConstructorInvoker", "newInstance"),
+                                                  element("com.acme.Bar", "b"),
+                                                  element("com.acme.Baz", "c"));
+    // WHEN
+    Throwables.removeAssertJRelatedElementsFromStackTrace(throwable, 2);
+    // THEN
+    then(throwable.getStackTrace()).containsExactly(element("com.acme.Foo", "a"),
+                                                    element("com.acme.Bar", "b"));
+  }
+
+  @Test
+  void should_fail_if_max_stack_trace_elements_is_negative() {
+    assertThatIllegalArgumentException().isThrownBy(() -> Throwables.removeAssertJRelatedElementsFromStackTrace(new Throwable(),
+                                                                                                                -1))
+                                        .withMessage("The maximum number of stack trace elements must be >= 0 but was -1");
+  }
+
+  static Throwable throwableWithStackTrace(StackTraceElement... stackTrace) {
+    Throwable throwable = new Throwable();
+    throwable.setStackTrace(stackTrace);
+    return throwable;
+  }
+
+  static StackTraceElement element(String className, String methodName) {
+    return new StackTraceElement(className, methodName, null, -1);
+  }
+
   private static class AssertJThrowable extends Throwable {
     private static final long serialVersionUID = 1L;
   }
@@ -0,0 +1,56 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2020 the original author or authors.
+ */
+package org.assertj.core.util;
+
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.util.Throwables_removeAssertJElementFromStackTrace_Test.element;
+import static org.assertj.core.util.Throwables_removeAssertJElementFromStackTrace_Test.throwableWithStackTrace;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for <code>{@link Throwables#truncateStackTrace(Throwable, int)}</code>.
+ */
+class Throwables_truncateStackTrace_Test {
+
+  @Test
+  void should_keep_the_first_stack_trace_elements() {
+    // GIVEN
+    Throwable throwable = throwableWithStackTrace(element("com.acme.Foo", "a"),
+                                                  element("org.assertj.core.api.AbstractAssert", "isEqualTo"),
+                                                  element("com.acme.Bar", "b"));
+    // WHEN
+    Throwables.truncateStackTrace(throwable, 2);
+    // THEN
+    then(throwable.getStackTrace()).containsExactly(element("com.acme.Foo", "a"),
+                                                    element("org.assertj.core.api.AbstractAssert", "isEqualTo"));
+  }
+
+  @Test
+  void should_keep_stack_trace_shorter_than_max_elements_as_is() {
+    // GIVEN
+    Throwable throwable = throwableWithStackTrace(element("com.acme.Foo", "a"));
+    // WHEN
+    Throwables.truncateStackTrace(throwable, 2);
+    // THEN
+    then(throwable.getStackTrace()).containsExactly(element("com.acme.Foo", "a"));
+  }
+
+  @Test
+  void should_fail_if_max_stack_trace_elements_is_negative() {
+    assertThatIllegalArgumentException().isThrownBy(() -> Throwables.truncateStackTrace(new Throwable(), -1))
+                                        .withMessage("The maximum number of stack trace elements must be >= 0 but was -1");
+  }
+
+}
@@ -0,0 +1,81 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2020 the original author or authors.
+ */
+package org.assertj.core.util.introspection;
+
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+import static org.assertj.core.api.BDDAssertions.then;
+
+import java.util.function.Function;
+
+import org.assertj.core.test.Person;
+import org.assertj.core.util.introspection.beans.SuperHero;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for <code>{@link MethodSupport#methodResultReader(String)}</code>.
+ */
+class MethodSupport_methodResultReader_Test {
+
+  private Person bruceWayne;
+  private Person joker;
+  private SuperHero batman;
+
+  @BeforeEach
+  public void setUp() {
+    bruceWayne = new Person("Bruce Wayne");
+    joker = new Person("Joker");
+    batman = new SuperHero("Batman", bruceWayne, joker);
+  }
+
+  @Test
+  void should_invoke_method_on_each_input() {
+    // GIVEN
+    Function<Object, Object> archenemyReader = MethodSupport.methodResultReader("archenemy");
+    SuperHero robin = new SuperHero("Robin", new Person("Dick Grayson"), bruceWayne);
+    // WHEN/THEN
+    then(archenemyReader.apply(batman)).isEqualTo(joker);
+    then(archenemyReader.apply(robin)).isEqualTo(bruceWayne);
+  }
+
+  @Test
+  void should_invoke_method_on_inputs_of_different_classes() {
+    // GIVEN
+    Function<Object, Object> getNameReader = MethodSupport.methodResultReader("getName");
+    // WHEN/THEN
+    then(getNameReader.apply(batman)).isEqualTo("Batman");
+    then(getNameReader.apply(joker)).isEqualTo("Joker");
+    then(getNameReader.apply(batman)).isEqualTo("Batman");
+  }
+
+  @Test
+  void should_fail_meaningfully_if_object_instance_not_provided() {
+    assertThatNullPointerException().isThrownBy(() -> MethodSupport.methodResultReader("methodName").apply(null))
+                                    .withMessage("Object instance can not be null!");
+  }
+
+  @Test
+  void should_fail_meaningfully_if_method_name_is_empty() {
+    assertThatIllegalArgumentException().isThrownBy(() -> MethodSupport.methodResultReader("").apply(batman))
+                                        .withMessage("Method name can not be empty!");
+  }
+
+  @Test
+  void should_fail_meaningfully_if_method_not_found() {
+    assertThatIllegalArgumentException().isThrownBy(() -> MethodSupport.methodResultReader("commitCrime").apply(batman))
+                                        .withMessage("Can't find method 'commitCrime' in class SuperHero.class. Make sure public"
+                                                     + " method exists and accepts no arguments!");
+  }
+
+}
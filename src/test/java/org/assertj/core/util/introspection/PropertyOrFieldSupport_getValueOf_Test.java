@@ -16,10 +16,12 @@ import static java.util.Arrays.asList;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.catchThrowable;
 
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.assertj.core.test.Employee;
 import org.assertj.core.test.Name;
@@ -128,6 +130,17 @@ class PropertyOrFieldSupport_getValueOf_Test {
     });
   }
 
+  @Test
+  void should_honor_private_fields_usage_changes_made_after_a_first_extraction() {
+    propertyOrFieldSupport.getValueOf("city", yoda);
+    propertyOrFieldSupport.setAllowUsingPrivateFields(false);
+    try {
+      assertThatExceptionOfType(IntrospectionError.class).isThrownBy(() -> propertyOrFieldSupport.getValueOf("city", yoda));
+    } finally {
+      propertyOrFieldSupport.setAllowUsingPrivateFields(true);
+    }
+  }
+
   @Test
   void should_throw_exception_when_given_property_or_field_name_is_null() {
     assertThatIllegalArgumentException().isThrownBy(() -> propertyOrFieldSupport.getValueOf(null, yoda))
@@ -146,6 +159,40 @@ class PropertyOrFieldSupport_getValueOf_Test {
                                                                                                            brokenEmployee()));
   }
 
+  @Test
+  void should_not_invoke_failing_getter_again_when_falling_back_to_field() {
+    // GIVEN
+    AtomicInteger getNameCalls = new AtomicInteger();
+    Employee employee = new Employee(1L, new Name("Name"), 0) {
+      @Override
+      public Name getName() {
+        getNameCalls.incrementAndGet();
+        throw new IllegalStateException();
+      }
+    };
+    // WHEN
+    Object value = propertyOrFieldSupport.getValueOf("name", employee);
+    // THEN
+    assertThat(value).isEqualTo(new Name("Name"));
+    assertThat(getNameCalls).hasValue(1);
+  }
+
+  @Test
+  void should_propagate_error_thrown_by_getter() {
+    // GIVEN
+    Employee employee = new Employee(1L, new Name("Name"), 0) {
+      @Override
+      public Name getName() {
+        throw new Error("boom");
+      }
+    };
+    // WHEN
+    Throwable thrown = catchThrowable(() -> propertyOrFieldSupport.getValueOf("name", employee));
+    // THEN
+    assertThat(thrown).isExactlyInstanceOf(Error.class)
+                      .hasMessage("boom");
+  }
+
   @Test
   void should_throw_exception_if_no_object_is_given() {
     assertThatIllegalArgumentException().isThrownBy(() -> propertyOrFieldSupport.getValueOf("name", null));
@@ -0,0 +1,156 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2020 the original author or authors.
+ */
+package org.assertj.core.util.introspection;
+
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.BDDAssertions.then;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+import org.assertj.core.test.Employee;
+import org.assertj.core.test.Name;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for <code>{@link PropertyOrFieldSupport#valueReaderOf(String)}</code>.
+ */
+class PropertyOrFieldSupport_valueReaderOf_Test {
+
+  private PropertyOrFieldSupport propertyOrFieldSupport;
+  private Employee yoda;
+
+  @BeforeEach
+  public void setup() {
+    propertyOrFieldSupport = PropertyOrFieldSupport.EXTRACTION;
+    yoda = new Employee(1L, new Name("Yoda"), 800);
+    yoda.setRelation("padawan", new Employee(3L, new Name("Luke", "Skywalker"), 24));
+  }
+
+  @Test
+  void should_read_property_and_field_values() {
+    // GIVEN
+    Function<Object, Object> ageReader = propertyOrFieldSupport.valueReaderOf("age");
+    Function<Object, Object> cityReader = propertyOrFieldSupport.valueReaderOf("city");
+    // WHEN/THEN
+    then(ageReader.apply(yoda)).isEqualTo(800);
+    then(ageReader.apply(new Employee(2L, new Name("Luke"), 26))).isEqualTo(26);
+    then(cityReader.apply(yoda)).isEqualTo("New York");
+  }
+
+  @Test
+  void should_read_nested_values_like_getValueOf() {
+    // GIVEN
+    Employee darth = new Employee(1L, new Name("Darth", "Vader"), 100);
+    Employee luke = new Employee(2L, new Name("Luke", "Skywalker"), 26);
+    darth.field = luke;
+    luke.field = darth;
+    luke.surname = new Name("Young", "Padawan");
+    String name = "me.field.me.field.me.field.surname.name";
+    // WHEN
+    Object value = propertyOrFieldSupport.valueReaderOf(name).apply(darth);
+    // THEN
+    then(value).isEqualTo("Young Padawan")
+               .isEqualTo(propertyOrFieldSupport.getValueOf(name, darth));
+  }
+
+  @Test
+  void should_read_nested_values_within_maps() {
+    // WHEN
+    Object value = propertyOrFieldSupport.valueReaderOf("relations.padawan.name.first").apply(yoda);
+    // THEN
+    then(value).isEqualTo("Luke");
+  }
+
+  @Test
+  void should_return_null_if_one_of_nested_property_or_field_value_is_null() {
+    // WHEN
+    Object value = propertyOrFieldSupport.valueReaderOf("surname.first").apply(yoda);
+    // THEN
+    then(value).isNull();
+  }
+
+  @Test
+  void should_read_values_from_inputs_of_different_classes() {
+    // GIVEN
+    Function<Object, Object> nameReader = propertyOrFieldSupport.valueReaderOf("name");
+    Map<String, Object> map = new HashMap<>();
+    map.put("name", "map name");
+    // WHEN/THEN
+    then(nameReader.apply(yoda)).isEqualTo(new Name("Yoda"));
+    then(nameReader.apply(employeeWithOverriddenName("Overridden Name"))).isEqualTo(new Name("Overridden Name"));
+    then(nameReader.apply(map)).isEqualTo("map name");
+    then(nameReader.apply(yoda)).isEqualTo(new Name("Yoda"));
+  }
+
+  @Test
+  void should_fallback_to_field_if_exception_has_been_thrown_on_property_access() {
+    // WHEN
+    Object value = propertyOrFieldSupport.valueReaderOf("name").apply(employeeWithBrokenName("Name"));
+    // THEN
+    then(value).isEqualTo(new Name("Name"));
+  }
+
+  @Test
+  void should_throw_error_when_no_property_nor_field_match_given_name() {
+    // GIVEN
+    Function<Object, Object> unknownReader = propertyOrFieldSupport.valueReaderOf("unknown");
+    // WHEN/THEN
+    assertThatExceptionOfType(IntrospectionError.class).isThrownBy(() -> unknownReader.apply(yoda));
+  }
+
+  @Test
+  void should_throw_exception_when_applied_with_a_null_name() {
+    // GIVEN
+    Function<Object, Object> nullNameReader = propertyOrFieldSupport.valueReaderOf(null);
+    // WHEN/THEN
+    assertThatIllegalArgumentException().isThrownBy(() -> nullNameReader.apply(yoda))
+                                        .withMessage("The name of the property/field to read should not be null");
+  }
+
+  @Test
+  void should_throw_exception_when_applied_with_an_empty_name() {
+    // GIVEN
+    Function<Object, Object> emptyNameReader = propertyOrFieldSupport.valueReaderOf("");
+    // WHEN/THEN
+    assertThatIllegalArgumentException().isThrownBy(() -> emptyNameReader.apply(yoda))
+                                        .withMessage("The name of the property/field to read should not be empty");
+  }
+
+  @Test
+  void should_throw_exception_if_no_object_is_given() {
+    assertThatIllegalArgumentException().isThrownBy(() -> propertyOrFieldSupport.valueReaderOf("name").apply(null));
+  }
+
+  private Employee employeeWithBrokenName(String name) {
+    return new Employee(1L, new Name(name), 0) {
+      @Override
+      public Name getName() {
+        throw new IllegalStateException();
+      }
+    };
+  }
+
+  private Employee employeeWithOverriddenName(final String overriddenName) {
+    return new Employee(1L, new Name("Name"), 0) {
+      @Override
+      public Name getName() {
+        return new Name(overriddenName);
+      }
+    };
+  }
+
+}